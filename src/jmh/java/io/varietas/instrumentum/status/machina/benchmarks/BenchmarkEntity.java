@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.Statable;
+
+/**
+ * <h2>BenchmarkEntity</h2>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class BenchmarkEntity implements Statable<BenchmarkState> {
+
+    private BenchmarkState state;
+
+    long value;
+
+    public BenchmarkEntity(final BenchmarkState state) {
+        this.state = state;
+    }
+
+    @Override
+    public BenchmarkState state() {
+        return this.state;
+    }
+
+    @Override
+    public void state(final BenchmarkState state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+/**
+ * <h2>BenchmarkEvent</h2>
+ * <p>
+ * Events of the generated benchmark transition tables.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public enum BenchmarkEvent {
+    E00,
+    E01,
+    E02,
+    E03,
+    E04,
+    E05,
+    E06,
+    E07,
+    E08,
+    E09,
+    E10,
+    E11,
+    E12,
+    E13,
+    E14,
+    E15
+}
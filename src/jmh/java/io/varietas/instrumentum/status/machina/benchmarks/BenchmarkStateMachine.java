@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.BasicStateMachine;
+import io.varietas.instrumentum.status.machina.annotations.StateMachineConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.DefaultFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.invokers.Invokers;
+import io.varietas.instrumentum.status.machina.invokers.TransitionInvoker;
+import java.lang.reflect.Method;
+
+/**
+ * <h2>BenchmarkStateMachine</h2>
+ * <p>
+ * Machine with a generated configuration of a given number of transitions. The transitions are spread over all states and events, so the configuration with 512 transitions fills the complete
+ * transition table.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@StateMachineConfiguration(stateType = BenchmarkState.class, eventType = BenchmarkEvent.class)
+public class BenchmarkStateMachine extends BasicStateMachine {
+
+    public static final int MAX_TRANSITIONS = BenchmarkState.values().length * BenchmarkEvent.values().length;
+
+    public BenchmarkStateMachine(final FSMConfiguration configuration) {
+        super(configuration);
+    }
+
+    public void transit(final BenchmarkState from, final BenchmarkState to, final BenchmarkEvent event, final BenchmarkEntity target) {
+        target.value++;
+    }
+
+    /**
+     * Creates a configuration with the given number of transitions.
+     *
+     * @param size Number of transitions.
+     *
+     * @return Configuration of the benchmark machine.
+     */
+    public static FSMConfiguration configuration(final int size) {
+
+        if (size < 1 || size > MAX_TRANSITIONS) {
+            throw new IllegalArgumentException("Size has to be between 1 and " + MAX_TRANSITIONS + ".");
+        }
+
+        try {
+            final Method method = BenchmarkStateMachine.class.getMethod("transit", BenchmarkState.class, BenchmarkState.class, BenchmarkEvent.class, BenchmarkEntity.class);
+            final TransitionInvoker invoker = Invokers.transition(method);
+            final DefaultFSMConfiguration configuration = DefaultFSMConfiguration.of(BenchmarkStateMachine.class, BenchmarkState.class, BenchmarkEvent.class);
+
+            for (int index = 0; index < size; index++) {
+                configuration.andAddTransition(TransitionContainer.of(BenchmarkStateMachine.from(index), BenchmarkStateMachine.to(index), BenchmarkStateMachine.on(index), method, invoker));
+            }
+
+            return configuration.freeze();
+        }
+        catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Returns the start state of the transition with the given index.
+     *
+     * @param index Index of the transition.
+     *
+     * @return Start state.
+     */
+    public static BenchmarkState from(final int index) {
+        return BenchmarkState.values()[index / BenchmarkEvent.values().length];
+    }
+
+    /**
+     * Returns the end state of the transition with the given index.
+     *
+     * @param index Index of the transition.
+     *
+     * @return End state.
+     */
+    public static BenchmarkState to(final int index) {
+        return BenchmarkState.values()[(index / BenchmarkEvent.values().length + 1) % BenchmarkState.values().length];
+    }
+
+    /**
+     * Returns the event of the transition with the given index.
+     *
+     * @param index Index of the transition.
+     *
+     * @return Event.
+     */
+    public static BenchmarkEvent on(final int index) {
+        return BenchmarkEvent.values()[index % BenchmarkEvent.values().length];
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.ChainStateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>ChainBenchmark</h2>
+ * <p>
+ * Measures a fired transition chain with three parts on a machine without listeners and on a machine with a chain listener.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    private ChainStateMachine machine;
+
+    private ChainStateMachine listenerMachine;
+
+    private TestEntity entity;
+
+    @Setup
+    public void setup() throws Exception {
+        this.machine = (ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithoutListener.class);
+        this.listenerMachine = (ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithChainListener.class);
+        this.entity = TestEntity.of(ExampleState.ACTIVATED, 0);
+    }
+
+    @Benchmark
+    public int fireChain() throws Exception {
+        this.entity.state(ExampleState.ACTIVATED);
+        this.machine.fireChain(ExampleChain.DELETION, this.entity);
+
+        return this.entity.getValue();
+    }
+
+    @Benchmark
+    public int fireChainWithChainListener() throws Exception {
+        this.entity.state(ExampleState.ACTIVATED);
+        this.listenerMachine.fireChain(ExampleChain.DELETION, this.entity);
+
+        return this.entity.getValue();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>FactoryBenchmark</h2>
+ * <p>
+ * Measures the creation of machines via the {@link StateMachineFactory}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    @Benchmark
+    public StateMachine getStateMachine() throws Exception {
+        return StateMachineFactory.getStateMachine(StateMachineWithTransitionListener.class);
+    }
+
+    @Benchmark
+    public StateMachine getChainStateMachine() throws Exception {
+        return StateMachineFactory.getStateMachine(ChainStateMachineWithChainListener.class);
+    }
+
+    @Benchmark
+    public StateMachine newStateMachine() throws Exception {
+        return StateMachineFactory.newStateMachine(StateMachineWithTransitionListener.class);
+    }
+}
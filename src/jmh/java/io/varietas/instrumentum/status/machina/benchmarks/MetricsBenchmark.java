@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
+import io.varietas.instrumentum.status.machina.metrics.InMemoryMetricsProvider;
+import io.varietas.instrumentum.status.machina.metrics.Instrumentation;
+import io.varietas.instrumentum.status.machina.metrics.MetricsProvider;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>MetricsBenchmark</h2>
+ * <p>
+ * Measures the overhead of the metrics on a shared machine with a transition listener, fired by four threads. The machine without metrics is the baseline.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MetricsBenchmark {
+
+    @Param({"NONE", "IN_MEMORY"})
+    private String metrics;
+
+    private StateMachine machine;
+
+    @Setup
+    public void setup() throws Exception {
+        Instrumentation.use("IN_MEMORY".equals(this.metrics) ? new InMemoryMetricsProvider() : MetricsProvider.NONE);
+        this.machine = StateMachineFactory.newStateMachine(StateMachineWithTransitionListener.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Instrumentation.use(MetricsProvider.NONE);
+    }
+
+    @Benchmark
+    public int fire(final Target target) {
+        target.entity.state(ExampleState.DEACTIVATED);
+        this.machine.fire(ExampleEvent.PARK, target.entity);
+
+        return target.entity.getValue();
+    }
+
+    @State(Scope.Thread)
+    public static class Target {
+
+        private final TestEntity entity = TestEntity.of(ExampleState.DEACTIVATED, 0);
+    }
+}
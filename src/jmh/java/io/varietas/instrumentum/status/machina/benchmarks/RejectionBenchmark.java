@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.FireResult;
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.errors.ExceptionMode;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>RejectionBenchmark</h2>
+ * <p>
+ * Measures the rejection of an event which isn't configured for the current state of the target. The throwing path is measured for each {@link ExceptionMode}, once without and once with reading
+ * the message. The result code path of {@link StateMachine#tryFire(Enum, io.varietas.instrumentum.status.machina.Statable)} is the baseline.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionBenchmark {
+
+    @Param({"FULL", "STACKLESS"})
+    private ExceptionMode mode;
+
+    private StateMachine machine;
+
+    private TestEntity entity;
+
+    @Setup
+    public void setup() throws Exception {
+        ExceptionMode.use(this.mode);
+        this.machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        this.entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExceptionMode.use(ExceptionMode.FULL);
+    }
+
+    @Benchmark
+    public Object fireRejected() {
+        try {
+            this.machine.fire(ExampleEvent.ACTIVATE, this.entity);
+            return null;
+        }
+        catch (InvalidTransitionException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public String fireRejectedWithMessage() {
+        try {
+            this.machine.fire(ExampleEvent.ACTIVATE, this.entity);
+            return null;
+        }
+        catch (InvalidTransitionException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public FireResult tryFireRejected() {
+        return this.machine.tryFire(ExampleEvent.ACTIVATE, this.entity);
+    }
+}
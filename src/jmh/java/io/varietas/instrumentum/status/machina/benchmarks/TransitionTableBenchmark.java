@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.benchmarks;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>TransitionTableBenchmark</h2>
+ * <p>
+ * Measures {@link StateMachine#fire(Enum, io.varietas.instrumentum.status.machina.Statable)} for different sizes of the transition table. The fired transitions are picked randomly out of all
+ * configured transitions, so the dispatch cost must not depend on the table size.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransitionTableBenchmark {
+
+    private static final int MASK = 1023;
+
+    @Param({"8", "64", "512"})
+    public int transitions;
+
+    private StateMachine machine;
+
+    private BenchmarkEntity entity;
+
+    private final BenchmarkState[] froms = new BenchmarkState[MASK + 1];
+
+    private final BenchmarkEvent[] ons = new BenchmarkEvent[MASK + 1];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.machine = new BenchmarkStateMachine(BenchmarkStateMachine.configuration(this.transitions));
+        this.entity = new BenchmarkEntity(BenchmarkState.S00);
+
+        final Random random = new Random(42);
+
+        for (int position = 0; position <= MASK; position++) {
+            final int transition = random.nextInt(this.transitions);
+            this.froms[position] = BenchmarkStateMachine.from(transition);
+            this.ons[position] = BenchmarkStateMachine.on(transition);
+        }
+    }
+
+    @Benchmark
+    public long fire() {
+        final int position = this.index++ & MASK;
+
+        this.entity.state(this.froms[position]);
+        this.machine.fire(this.ons[position], this.entity);
+
+        return this.entity.value;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.containers.TransitionMessage;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>AsyncStateMachine</h2>
+ * <p>
+ * The asynchronous state machine is a front end for another {@link StateMachine}. It accepts {@link TransitionMessage}s on a bounded queue and fires them on a dedicated worker thread in order of
+ * arrival. Producers get a {@link CompletableFuture} per message and never execute transition methods or listeners themselves.
+ * <p>
+ * The queue applies backpressure: {@link #submit(TransitionMessage)} blocks while the queue is full, {@link #trySubmit(TransitionMessage)} rejects the message instead. Closing the machine stops
+ * accepting messages, fires all messages queued so far and stops the worker.
+ * <p>
+ * Transitions fired via {@link #fire(Enum, Statable)} on the worker thread itself, e.g. by a listener, are fired directly by the wrapped machine. Waiting for the queue on the worker thread would
+ * dead lock.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+public class AsyncStateMachine implements StateMachine, AutoCloseable {
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private static final Task SHUTDOWN = new Task(null, null);
+
+    private final StateMachine delegate;
+
+    private final BlockingQueue<Task> queue;
+
+    private final Thread worker;
+
+    private volatile boolean closed;
+
+    private AsyncStateMachine(final StateMachine delegate, final int capacity) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::drain, "status-machina-async-" + WORKER_COUNTER.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Creates an asynchronous front end for the given machine and starts its worker thread.
+     *
+     * @param delegate Machine which fires the transitions.
+     * @param capacity Maximum number of queued messages.
+     *
+     * @return The started asynchronous machine.
+     */
+    public static AsyncStateMachine of(@NonNull final StateMachine delegate, final int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be greater than 0.");
+        }
+
+        final AsyncStateMachine res = new AsyncStateMachine(delegate, capacity);
+        res.worker.start();
+
+        return res;
+    }
+
+    /**
+     * Queues a message. The call blocks while the queue is full.
+     *
+     * @param message Transition event and its target.
+     *
+     * @return Future which is completed with the message after the transition was fired, or exceptionally with the cause of a failed transition.
+     *
+     * @throws InterruptedException Thrown if the producer is interrupted while waiting for free space.
+     */
+    public CompletableFuture<TransitionMessage> submit(@NonNull final TransitionMessage message) throws InterruptedException {
+
+        if (this.closed) {
+            return AsyncStateMachine.rejected("State machine is closed.");
+        }
+
+        final Task task = new Task(message, new CompletableFuture<>());
+        this.queue.put(task);
+
+        return this.checkAccepted(task);
+    }
+
+    /**
+     * Queues a message if the queue has free space.
+     *
+     * @param message Transition event and its target.
+     *
+     * @return Future which is completed with the message after the transition was fired, or exceptionally with the cause of a failed transition. If the queue is full, the future is completed
+     * exceptionally with a {@link RejectedExecutionException}.
+     */
+    public CompletableFuture<TransitionMessage> trySubmit(@NonNull final TransitionMessage message) {
+
+        if (this.closed) {
+            return AsyncStateMachine.rejected("State machine is closed.");
+        }
+
+        final Task task = new Task(message, new CompletableFuture<>());
+
+        if (!this.queue.offer(task)) {
+            return AsyncStateMachine.rejected("Queue is full.");
+        }
+
+        return this.checkAccepted(task);
+    }
+
+    /**
+     * Fires the transition on the worker thread and waits for its completion. Previously queued messages are fired first. Called on the worker thread, the transition is fired directly without
+     * queueing.
+     *
+     * @param transition Upcoming transition event that triggers the FSM.
+     * @param target Transition operation target.
+     */
+    @Override
+    public void fire(final Enum<?> transition, final Statable<?> target) throws TransitionInvocationException, InvalidTransitionException {
+
+        if (Thread.currentThread() == this.worker) {
+            this.delegate.fire(transition, target);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final TransitionMessage message = TransitionMessage.of(transition, (Statable<? extends Enum<?>>) target);
+
+        try {
+            this.submit(message).join();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for free space.", ex);
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the number of queued messages.
+     *
+     * @return Number of queued messages.
+     */
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    /**
+     * Returns the number of messages which can be queued without blocking.
+     *
+     * @return Free space of the queue.
+     */
+    public int getRemainingCapacity() {
+        return this.queue.remainingCapacity();
+    }
+
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Stops accepting messages, fires all queued messages and waits for the worker thread to finish. If the caller is interrupted while the queue is full, the worker is interrupted as well and the
+     * queued messages are rejected. If the caller is interrupted while waiting for the worker, the method returns without waiting and the worker finishes the queued messages. In both cases the
+     * interrupt flag of the caller is restored.
+     * <p>
+     * Called on the worker thread, e.g. by a listener, the method doesn't wait. The worker stops after the queued messages were fired.
+     */
+    @Override
+    public void close() {
+
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+
+        if (Thread.currentThread() == this.worker) {
+            this.queue.offer(SHUTDOWN);
+            return;
+        }
+
+        try {
+            this.queue.put(SHUTDOWN);
+        }
+        catch (InterruptedException ex) {
+            ///< The worker stops without firing the queued messages.
+            this.worker.interrupt();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            this.worker.join();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<TransitionMessage> checkAccepted(final Task task) {
+
+        ///< The machine was closed while the task was queued. If the worker already stopped, the task would never be fired.
+        if (this.closed && this.queue.remove(task)) {
+            task.future.completeExceptionally(new RejectedExecutionException("State machine is closed."));
+        }
+
+        return task.future;
+    }
+
+    private void drain() {
+
+        try {
+            Task task;
+
+            ///< A machine closed on the worker thread can miss the shutdown marker if the queue is full.
+            while (!(this.closed && this.queue.isEmpty()) && (task = this.queue.take()) != SHUTDOWN) {
+                this.execute(task);
+            }
+        }
+        catch (InterruptedException ex) {
+            this.closed = true;
+            Thread.currentThread().interrupt();
+        }
+
+        Task task;
+
+        while (Objects.nonNull(task = this.queue.poll())) {
+            if (task != SHUTDOWN) {
+                task.future.completeExceptionally(new RejectedExecutionException("State machine is closed."));
+            }
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Worker '{}' stopped.", Thread.currentThread().getName());
+        }
+    }
+
+    private void execute(final Task task) {
+
+        try {
+            this.delegate.fire(task.message.getTransition(), task.message.getTarget());
+            task.future.complete(task.message);
+        }
+        catch (RuntimeException | Error ex) {
+            task.future.completeExceptionally(ex);
+        }
+    }
+
+    private static CompletableFuture<TransitionMessage> rejected(final String reason) {
+
+        final CompletableFuture<TransitionMessage> res = new CompletableFuture<>();
+        res.completeExceptionally(new RejectedExecutionException(reason));
+
+        return res;
+    }
+
+    @AllArgsConstructor
+    private static class Task {
+
+        private final TransitionMessage message;
+        private final CompletableFuture<TransitionMessage> future;
+    }
+}
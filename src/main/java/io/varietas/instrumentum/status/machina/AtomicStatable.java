@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+/**
+ * <h2>AtomicStatable</h2>
+ * <p>
+ * Extension of {@link Statable} for objects which support an atomic update of their state. A FSM commits the new state of an atomic stated object only if the state is still the state observed
+ * before the transition was invoked. Concurrent transitions on the same object are resolved corresponding to the {@link io.varietas.instrumentum.status.machina.annotations.ConflictPolicy} of the
+ * FSM instead of overriding each other.
+ * <p>
+ * Implementations typically store the state in an {@link java.util.concurrent.atomic.AtomicReference} or access it via a {@link java.lang.invoke.VarHandle}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ * @param <STATE_TYPE> Generic type of state types.
+ */
+@SuppressWarnings("rawtypes")
+public interface AtomicStatable<STATE_TYPE extends Enum> extends Statable<STATE_TYPE> {
+
+    /**
+     * Sets the new state atomically if the current state is the expected state. This method should only be used by FSM!
+     *
+     * @param expected Expected current state of the object.
+     * @param next New state of the object.
+     *
+     * @return True if the state was set, otherwise false.
+     */
+    boolean compareAndSetState(STATE_TYPE expected, STATE_TYPE next);
+}
@@ -15,11 +15,18 @@
  */
 package io.varietas.instrumentum.status.machina;
 
-import io.varietas.instrumentum.status.machina.configurations.DefaultCFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
 import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
 import io.varietas.instrumentum.status.machina.containers.ChainContainer;
+import io.varietas.instrumentum.status.machina.containers.ChainPlan;
+import io.varietas.instrumentum.status.machina.containers.ChainTable;
+import io.varietas.instrumentum.status.machina.containers.ListenerContainer;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
 import io.varietas.instrumentum.status.machina.errors.InvalidTransitionChainException;
 import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import io.varietas.instrumentum.status.machina.recording.ChainEvent;
+import io.varietas.instrumentum.status.machina.recording.FlightRecording;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,12 +40,15 @@ import java.util.Optional;
  */
 public abstract class BasicChainStateMachine extends BasicStateMachine implements ChainStateMachine {
 
+    protected final ChainTable chainTable;
+
     public BasicChainStateMachine(FSMConfiguration configuration) {
         super(configuration);
+        this.chainTable = (configuration instanceof CFSMConfiguration) ? ((CFSMConfiguration) configuration).getChainTable() : null;
     }
 
     /**
-     * This method searches the container which contains all information required to performing transition operations.
+     * This method searches the container which contains all information required to performing transition operations. The search is done via the compiled {@link ChainTable}.
      *
      * @param transitionChain Next transition chain kind.
      * @param startState Start state of the current transition target for identification of the right chain.
@@ -46,29 +56,79 @@ public abstract class BasicChainStateMachine extends BasicStateMachine implement
      * @return Expected container for the transition chain, otherwise an empty Optional.
      */
     protected Optional<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> findChainContainer(final Enum<?> transitionChain, final Enum<?> startState) {
-        return ((DefaultCFSMConfiguration) this.configuration).getChains().stream()
-                .filter(chain -> chain.getOn().equals(transitionChain))
-                .filter(chain -> chain.getFrom().equals(startState))
-                .findFirst();
+        return Optional.ofNullable(this.chainTable.find(transitionChain, startState)).map(ChainPlan::getChain);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The chain is executed via its compiled {@link ChainPlan}. The chain listeners are executed before the first and after the last chain part, the chain parts are fired in order. The chain is
+     * emitted as {@link ChainEvent} to the Java Flight Recorder if the event is enabled.
+     * <p>
+     * The guards of all chain parts are evaluated before the chain listeners run, while the target is still in the start state of the chain. A rejecting guard aborts the chain before any
+     * listener or chain part is executed.
+     * <p>
+     * Each chain part is fired like a single transition via {@link #fire(TransitionContainer, Statable)}. The plan removes the lookup of the chain and of its parts, but the parts deliberately keep
+     * the semantic of single transitions: The state of the target is checked against the part, the new state is committed corresponding to the {@link
+     * io.varietas.instrumentum.status.machina.annotations.ConflictPolicy}, and the listeners, metrics, tracing events and flight recorder events of the transition are emitted. A part observes the
+     * state committed by the previous part or by a concurrent writer, so skipping these steps would hide conflicts of atomic targets and the transition listeners of chain parts.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public void fireChain(final Enum<?> transitionChain, final Statable<?> target) throws TransitionInvocationException, InvalidTransitionChainException {
-        final Optional<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> chainContainer = this.findChainContainer(transitionChain, target.state());
+        final Enum<?> from = target.state();
+        final ChainPlan plan = this.chainTable.find(transitionChain, from);
 
-        if (!chainContainer.isPresent()) {
+        if (Objects.isNull(plan)) {
             throw new TransitionInvocationException(transitionChain, "Couldn't find chain.");
         }
 
-        if (Objects.nonNull(chainContainer.get().getListeners())) {
-            chainContainer.get().getListeners().forEach(listener -> this.executeListener(listener, "before", chainContainer.get().getOn(), target));
+        final ChainEvent event = (FlightRecording.isChainEnabled()) ? new ChainEvent() : null;
+
+        if (Objects.nonNull(event)) {
+            event.begin();
         }
 
-        chainContainer.get().getChainParts().forEach(chainPart -> this.fire(chainPart, target));
+        final Enum<?> on = plan.getOn();
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts = plan.getParts();
+        final List<ListenerContainer> beforeListeners = plan.getBeforeListeners();
+        final List<ListenerContainer> afterListeners = plan.getAfterListeners();
+        boolean completed = false;
+
+        try {
+            for (int index = 0; index < parts.size(); ++index) {
+                final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> part = parts.get(index);
+                if (!BasicChainStateMachine.isPermitted(this, part, target)) {
+                    throw new InvalidTransitionChainException(transitionChain, "Guard '" + part.getGuardName() + "' of chain part " + part.getOn() + " rejected the target.");
+                }
+            }
+
+            for (int index = 0; index < beforeListeners.size(); ++index) {
+                this.executeListener(beforeListeners.get(index), LISTENER_METHOD_BEFORE, on, target);
+            }
 
-        if (Objects.nonNull(chainContainer.get().getListeners())) {
-            chainContainer.get().getListeners().forEach(listener -> this.executeListener(listener, "after", chainContainer.get().getOn(), target));
+            for (int index = 0; index < parts.size(); ++index) {
+                this.fire(parts.get(index), target);
+            }
+
+            for (int index = 0; index < afterListeners.size(); ++index) {
+                this.executeListener(afterListeners.get(index), LISTENER_METHOD_AFTER, on, target);
+            }
+            completed = true;
+        }
+        finally {
+            if (Objects.nonNull(event)) {
+                event.complete(this.getClass(), on, from, target, completed);
+            }
+        }
+    }
+
+    private static boolean isPermitted(final BasicChainStateMachine machine, final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> part, final Statable<?> target) {
+        try {
+            return part.isPermitted(machine, target);
+        }
+        catch (Throwable ex) {
+            throw new TransitionInvocationException(part.getOn(), part.getGuardName(), ex);
         }
     }
 }
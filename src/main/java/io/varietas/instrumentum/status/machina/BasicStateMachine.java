@@ -15,27 +15,68 @@
  */
 package io.varietas.instrumentum.status.machina;
 
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
+import io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle;
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
 import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
 import io.varietas.instrumentum.status.machina.containers.ListenerContainer;
 import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.containers.TransitionTable;
 import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
 import io.varietas.instrumentum.status.machina.errors.InvalidTransitionListenerException;
+import io.varietas.instrumentum.status.machina.errors.TransitionConflictException;
 import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
-import java.lang.reflect.InvocationTargetException;
+import io.varietas.instrumentum.status.machina.invokers.ListenerInvoker;
+import io.varietas.instrumentum.status.machina.metrics.Instrumentation;
+import io.varietas.instrumentum.status.machina.metrics.MetricsProvider;
+import io.varietas.instrumentum.status.machina.metrics.TransitionMetrics;
+import io.varietas.instrumentum.status.machina.recording.FlightRecording;
+import io.varietas.instrumentum.status.machina.recording.ListenerEvent;
+import io.varietas.instrumentum.status.machina.recording.TransitionEvent;
+import io.varietas.instrumentum.status.machina.tracing.MachineEventSink;
+import io.varietas.instrumentum.status.machina.tracing.MachineEventType;
+import io.varietas.instrumentum.status.machina.tracing.Tracing;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import lombok.extern.slf4j.Slf4j;
+import lombok.Value;
 
 /**
  * <h2>AbstractStateMachine</h2>
  * <p>
  * This class represents an abstract implementation of the {@link StateMachine} interface. The default implementation contains the firing of single transitions.
+ * <p>
+ * <h3>Thread-safety</h3>
+ * A machine doesn't store any state of a transition or target. All fields except the cached recorder of the metrics are final and the configuration is read only after the machine was created. One instance can be shared between threads and
+ * fire concurrently on different targets, which is why the {@link StateMachineFactory} shares a single instance per machine type. The contract requires that
+ * <ul>
+ * <li>transition methods of machine implementations don't modify fields of the machine without synchronization,</li>
+ * <li>listeners with the {@link ListenerLifecycle#SINGLETON} or {@link ListenerLifecycle#PER_MACHINE} lifecycle are thread-safe and</li>
+ * <li>a single target isn't fired concurrently. Use {@link StripedStateMachine} or {@link AtomicStatable} targets if this can't be avoided.</li>
+ * </ul>
+ * <p>
+ * <h3>Metrics</h3>
+ * A machine records fired, rejected and failed events as well as the durations of transition methods and listeners to the {@link TransitionMetrics} created by the current provider of the
+ * {@link Instrumentation}. The recorder is cached and created again after the provider was changed, so a provider set while the machine is running is used from the next transition on. Durations
+ * are measured only if the recorder is enabled and timed.
+ * <p>
+ * <h3>Flight recording</h3>
+ * Fired transitions and listener calls are emitted as {@link TransitionEvent} and {@link ListenerEvent} to the Java Flight Recorder. The fields of an event are only set if the event is enabled and
+ * exceeds its threshold.
+ * <p>
+ * <h3>Tracing</h3>
+ * The creation of a machine, entered, finished and ignored transitions as well as failed listeners are handed to the current {@link MachineEventSink} of the {@link Tracing}. A sink set while the
+ * machine is running is used from the next transition on. An event is only handed over if the sink is enabled for its type.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/7/2017
  */
-@Slf4j
 public abstract class BasicStateMachine implements StateMachine {
 
     protected static final String LISTENER_METHOD_BEFORE = "before";
@@ -43,12 +84,35 @@ public abstract class BasicStateMachine implements StateMachine {
 
     protected final FSMConfiguration configuration;
 
+    protected final TransitionTable transitionTable;
+
+    protected final ConflictPolicy conflictPolicy;
+
+    protected final int maxRetries;
+
+    private final Map<Class<?>, Object> listenerInstances;
+
+    private volatile Recorder recorder;
+
     public BasicStateMachine(final FSMConfiguration configuration) {
         this.configuration = configuration;
+        this.transitionTable = Objects.nonNull(configuration) ? configuration.getTransitionTable() : null;
+        this.conflictPolicy = Objects.nonNull(configuration) ? configuration.getConflictPolicy() : ConflictPolicy.FAIL;
+        this.maxRetries = Objects.nonNull(configuration) ? configuration.getMaxRetries() : ConflictPolicy.DEFAULT_MAX_RETRIES;
+        this.listenerInstances = BasicStateMachine.createListenerInstances(configuration);
+        this.recorder = Recorder.of(Instrumentation.current(), configuration);
+
+        final MachineEventSink events = Tracing.current();
+
+        if (Objects.nonNull(configuration) && events.isEnabled(MachineEventType.MACHINE_CREATED)) {
+            events.machine(MachineEventType.MACHINE_CREATED, this.getClass(), configuration.getTransitions().size(),
+                    (configuration instanceof CFSMConfiguration) ? ((CFSMConfiguration) configuration).getChains().size() : 0);
+        }
     }
 
     /**
-     * This method searches the container which contains all information required to performing the transition operation.
+     * This method searches the container which contains all information required to performing the transition operation. The search is done via the compiled {@link TransitionTable}. Guards aren't
+     * evaluated, see {@link TransitionTable#find(Enum, Enum)}.
      *
      * @param event Next transition kind.
      * @param currentState Current state of target for identification if multiple transitions are available.
@@ -56,78 +120,457 @@ public abstract class BasicStateMachine implements StateMachine {
      * @return Expected container for the transition, otherwise an empty Optional.
      */
     protected Optional<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> findTransitionContainer(final Enum<?> event, final Enum<?> currentState) {
-        return this.configuration.getTransitions().stream()
-                .filter(transit -> transit.getOn().equals(event) && (transit.getFrom().equals(currentState) || transit.getTo().equals(currentState)))
-                .findFirst();
+        return Optional.ofNullable(this.transitionTable.find(event, currentState));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Guards of the candidate transitions are evaluated before any listener runs. The first permitted transition is fired.
+     */
     @Override
     public void fire(final Enum<?> transition, final Statable<?> target) throws TransitionInvocationException, InvalidTransitionException {
 
-        final Optional<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitionContainer = this.findTransitionContainer(transition, target.state());
+        final Enum<?> state = target.state();
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transitionContainer = this.transitionTable.find(transition, state, this, target);
 
-        if (!transitionContainer.isPresent()) {
-            throw new InvalidTransitionException(transition, "State of target '" + target.state().name() + "' doesn't match required state for tarnsition '" + transition.name() + "'.");
+        if (Objects.isNull(transitionContainer)) {
+            this.rejected(state, transition);
+            throw BasicStateMachine.invalidTransition(transition, state);
         }
 
-        this.fire(transitionContainer.get(), target);
+        this.fire(transitionContainer, target, state);
     }
 
     /**
-     * Performs the execution of a single transition. <b>Important:</b> The transition must be possible.
+     * {@inheritDoc}
+     * <p>
+     * The rejection of an event without a transition for the current state of the target is decided by the {@link TransitionTable} and doesn't allocate.
+     */
+    @Override
+    public FireResult tryFire(final Enum<?> transition, final Statable<?> target) {
+
+        final Enum<?> state = target.state();
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transitionContainer;
+
+        try {
+            transitionContainer = this.transitionTable.find(transition, state, this, target);
+        }
+        catch (TransitionInvocationException ex) {
+            return FireResult.INVOCATION_FAILED;
+        }
+
+        if (Objects.isNull(transitionContainer)) {
+            this.rejected(state, transition);
+            return FireResult.NO_TRANSITION;
+        }
+
+        try {
+            return (this.fire(transitionContainer, target, state)) ? FireResult.OK : FireResult.IGNORED;
+        }
+        catch (InvalidTransitionException ex) {
+            return FireResult.NO_TRANSITION;
+        }
+        catch (InvalidTransitionListenerException ex) {
+            return FireResult.LISTENER_FAILED;
+        }
+        catch (TransitionInvocationException ex) {
+            return FireResult.INVOCATION_FAILED;
+        }
+        catch (TransitionConflictException ex) {
+            return FireResult.CONFLICT;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The transition for a state is resolved once per batch and reused for all further targets in the same state. Transitions of states with guarded transitions are resolved per target. A transition
+     * dropped by the {@link ConflictPolicy#IGNORE} policy is added as failure with a {@link TransitionConflictException}.
+     */
+    @Override
+    public BatchResult fireAll(final Enum<?> transition, final Collection<? extends Statable<?>> targets) {
+
+        final BatchResult result = BatchResult.of(targets.size());
+        final Class<? extends Enum<?>> stateType = this.transitionTable.getStateType();
+        final int states = stateType.getEnumConstants().length;
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> resolved = new ArrayList<>(Collections.nCopies(states, null));
+        final boolean[] isResolved = new boolean[states];
+        final boolean[] isGuarded = new boolean[states];
+
+        int index = 0;
+
+        for (Statable<?> target : targets) {
+            try {
+                final Enum<?> state = target.state();
+                TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transitionContainer = null;
+
+                if (Objects.nonNull(state) && state.getDeclaringClass() == stateType) {
+                    if (!isResolved[state.ordinal()]) {
+                        resolved.set(state.ordinal(), this.transitionTable.find(transition, state));
+                        isGuarded[state.ordinal()] = this.transitionTable.isGuarded(transition, state);
+                        isResolved[state.ordinal()] = true;
+                    }
+                    transitionContainer = (isGuarded[state.ordinal()]) ? this.transitionTable.find(transition, state, this, target) : resolved.get(state.ordinal());
+                }
+
+                if (Objects.isNull(transitionContainer)) {
+                    this.rejected(state, transition);
+                    throw BasicStateMachine.invalidTransition(transition, state);
+                }
+
+                if (!this.fire(transitionContainer, target, state)) {
+                    throw new TransitionConflictException(transition, state, target.state());
+                }
+                result.andAddSuccess(index);
+            }
+            catch (RuntimeException ex) {
+                result.andAddFailure(index, target, ex);
+            }
+            index++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Performs the execution of a single transition for the current state of the target. The state is read once and used as observed state, see
+     * {@link #fire(TransitionContainer, Statable, Enum)}.
      *
      * @param transition Container of transition which has to be performed.
      * @param target Transition target.
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("rawtypes")
     protected void fire(final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition, final Statable target) throws InvalidTransitionException {
+        this.fire(transition, target, target.state());
+    }
+
+    /**
+     * Performs the execution of a single transition. The observed state is the state the transition was resolved for, the transition is rejected if it isn't registered for this state.
+     * <p>
+     * If the target is an {@link AtomicStatable}, the new state is committed only if the target is still in the observed state. A lost commit is handled corresponding to the
+     * {@link ConflictPolicy} of the configuration.
+     *
+     * @param transition Container of transition which has to be performed.
+     * @param target Transition target.
+     * @param state State of the target the transition was resolved for.
+     *
+     * @return True if the new state was committed, false if the transition was dropped by the {@link ConflictPolicy#IGNORE} policy.
+     */
+    @SuppressWarnings("rawtypes")
+    protected boolean fire(final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition, final Statable target, final Enum<?> state) throws InvalidTransitionException {
+
+        if (state != transition.getFrom() && state != transition.getTo()) {
+            this.rejected(state, transition.getOn());
+            throw BasicStateMachine.invalidTransition(transition.getOn(), state);
+        }
+
+        final TransitionEvent event = (FlightRecording.isTransitionEnabled()) ? new TransitionEvent() : null;
+
+        if (Objects.nonNull(event)) {
+            event.begin();
+        }
+
+        TransitionContainer<? extends Enum<?>, ? extends Enum<?>> current = transition;
+        Enum<?> observed = state;
+        int retries = 0;
+        boolean committed = false;
 
         try {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("State change to {} entered.", transition.getOn());
+            while (!this.execute(current, target, observed)) {
+                final Enum<?> actual = target.state();
+
+                switch (this.conflictPolicy) {
+                    case IGNORE:
+                        final MachineEventSink events = Tracing.current();
+
+                        if (events.isEnabled(MachineEventType.TRANSITION_IGNORED)) {
+                            events.transition(MachineEventType.TRANSITION_IGNORED, this.getClass(), current.getOn(), observed, actual);
+                        }
+                        return false;
+                    case RETRY:
+                        if (retries++ == this.maxRetries) {
+                            throw new TransitionConflictException(current.getOn(), observed, actual);
+                        }
+
+                        current = this.transitionTable.find(current.getOn(), actual, this, target);
+
+                        if (Objects.isNull(current)) {
+                            this.rejected(actual, transition.getOn());
+                            throw BasicStateMachine.invalidTransition(transition.getOn(), actual);
+                        }
+
+                        observed = actual;
+                        break;
+                    default:
+                        throw new TransitionConflictException(current.getOn(), observed, actual);
+                }
+            }
+            committed = true;
+        }
+        finally {
+            if (Objects.nonNull(event)) {
+                event.complete(this.getClass(), transition.getOn(), state, target, committed);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Executes the listeners and the transition method of a transition and commits the new state.
+     *
+     * @param transition Container of transition which has to be performed.
+     * @param target Transition target.
+     * @param observed State of the target before the transition was invoked.
+     *
+     * @return True if the new state was committed, otherwise false.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean execute(final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition, final Statable target, final Enum<?> observed) {
+
+        final MachineEventSink events = Tracing.current();
+        final Recorder recorder = this.recorder();
+        final TransitionMetrics metrics = recorder.getMetrics();
+        final boolean measured = recorder.isMeasured();
+
+        if (events.isEnabled(MachineEventType.TRANSITION_ENTERED)) {
+            events.transition(MachineEventType.TRANSITION_ENTERED, this.getClass(), transition.getOn(), observed, transition.getTo());
+        }
+
+        final boolean timed = measured && metrics.isTimed();
+        long time = (timed) ? System.nanoTime() : 0L;
+
+        if (Objects.nonNull(transition.getListeners())) {
+            for (ListenerContainer listener : transition.getListeners()) {
+                time = this.executeListener(listener, LISTENER_METHOD_BEFORE, transition.getOn(), target, metrics, timed, time);
             }
+        }
+
+        try {
+            transition.getInvoker().invoke(this, transition.getFrom(), transition.getTo(), transition.getOn(), target);
+        }
+        catch (Throwable ex) {
 
-            if (Objects.nonNull(transition.getListeners())) {
-                transition.getListeners().forEach(listener -> this.executeListener(listener, LISTENER_METHOD_BEFORE, transition.getOn(), target));
+            if (measured) {
+                metrics.failed(observed, transition.getOn());
             }
+            throw new TransitionInvocationException(transition.getOn(), transition.getMethodName(), ex);
+        }
 
-            transition.getCalledMethod().invoke(this, transition.getFrom(), transition.getTo(), transition.getOn(), target);
-            target.state(transition.getTo());
+        if (timed) {
+            final long end = System.nanoTime();
+            metrics.fired(observed, transition.getOn(), end - time);
+            time = end;
+        } else if (measured) {
+            metrics.fired(observed, transition.getOn(), TransitionMetrics.UNTIMED);
+        }
 
-            if (Objects.nonNull(transition.getListeners())) {
-                transition.getListeners().forEach(listener -> this.executeListener(listener, LISTENER_METHOD_AFTER, transition.getOn(), target));
+        if (target instanceof AtomicStatable) {
+            if (!((AtomicStatable) target).compareAndSetState(observed, transition.getTo())) {
+                return false;
             }
+        } else {
+            target.state(transition.getTo());
+        }
 
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("State change to {} finished.", transition.getOn());
+        if (Objects.nonNull(transition.getListeners())) {
+            for (ListenerContainer listener : transition.getListeners()) {
+                time = this.executeListener(listener, LISTENER_METHOD_AFTER, transition.getOn(), target, metrics, timed, time);
             }
         }
-        catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-            throw new TransitionInvocationException(transition.getOn(), transition.getCalledMethod().getName(), ex.getLocalizedMessage());
+
+        if (events.isEnabled(MachineEventType.TRANSITION_FINISHED)) {
+            events.transition(MachineEventType.TRANSITION_FINISHED, this.getClass(), transition.getOn(), observed, transition.getTo());
         }
+
+        return true;
     }
 
+    /**
+     * Executes the before or after method of a listener. The listener instance is taken corresponding to the lifecycle of the listener. If the listener method wasn't resolved while the listener
+     * container was built, the method is searched via reflection.
+     *
+     * @param listener Container of the listener which has to be executed.
+     * @param methodName Name of the listener method.
+     * @param on Event or chain that triggers the listener.
+     * @param target Transition target.
+     */
     protected void executeListener(final ListenerContainer listener, final String methodName, final Enum<?> on, final Object target) {
+        final Recorder recorder = this.recorder();
+        final boolean timed = recorder.isMeasured() && recorder.getMetrics().isTimed();
 
-        if (methodName.equals(LISTENER_METHOD_BEFORE) && !listener.isBefore()) {
-            return;
+        this.executeListener(listener, methodName, on, target, recorder.getMetrics(), timed, (timed) ? System.nanoTime() : 0L);
+    }
+
+    /**
+     * Executes the before or after method of a listener and records its duration. The end of a measurement is the start of the next one, so consecutive listeners and the transition method share
+     * their timestamps.
+     *
+     * @param listener Container of the listener which has to be executed.
+     * @param methodName Name of the listener method.
+     * @param on Event or chain that triggers the listener.
+     * @param target Transition target.
+     * @param metrics Recorder of the duration.
+     * @param timed True if the duration is measured.
+     * @param start Timestamp taken before the listener.
+     *
+     * @return Timestamp taken after the listener, the start if the listener method wasn't executed or nothing is measured.
+     */
+    private long executeListener(final ListenerContainer listener, final String methodName, final Enum<?> on, final Object target, final TransitionMetrics metrics, final boolean timed, final long start) {
+
+        final boolean isBefore = methodName.equals(LISTENER_METHOD_BEFORE);
+
+        if (isBefore && !listener.isBefore()) {
+            return start;
         }
 
         if (methodName.equals(LISTENER_METHOD_AFTER) && !listener.isAfter()) {
-            return;
+            return start;
+        }
+
+        final ListenerEvent event = (FlightRecording.isListenerEnabled()) ? new ListenerEvent() : null;
+
+        if (Objects.nonNull(event)) {
+            event.begin();
         }
 
         try {
-            Object listenerInstance = listener.getListener().getDeclaredConstructor().newInstance();
-            Method method = listener.getListener().getMethod(methodName, on.getDeclaringClass(), target.getClass());
-            method.invoke(listenerInstance, on, target);
+            final Object listenerInstance = this.listenerInstance(listener);
+            final ListenerInvoker invoker = (isBefore) ? listener.getBeforeInvoker() : listener.getAfterInvoker();
+
+            if (Objects.nonNull(invoker)) {
+                invoker.invoke(listenerInstance, on, target);
+            } else {
+                final Method method = listener.getListener().getMethod(methodName, on.getDeclaringClass(), target.getClass());
+                method.invoke(listenerInstance, on, target);
+            }
+
+            if (Objects.nonNull(event)) {
+                event.complete(this.getClass(), listener.getListener(), methodName, on, target, true);
+            }
+
+            if (!timed) {
+                return start;
+            }
+
+            final long end = System.nanoTime();
+
+            if (isBefore) {
+                metrics.beforeListener(listener.getListener(), on, end - start);
+            } else {
+                metrics.afterListener(listener.getListener(), on, end - start);
+            }
+
+            return end;
         }
-        catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | InstantiationException ex) {
+        catch (Throwable ex) {
+            if (Objects.nonNull(event)) {
+                event.complete(this.getClass(), listener.getListener(), methodName, on, target, false);
+            }
+
+            final MachineEventSink events = Tracing.current();
 
-            if (LOGGER.isErrorEnabled()) {
-                LOGGER.error("Couldn't call listener method '{}'. {}: {}", methodName, ex.getClass().getSimpleName(), ((Objects.nonNull(ex.getMessage())) ? ex.getMessage() : "No message available"));
+            if (events.isEnabled(MachineEventType.LISTENER_FAILED)) {
+                events.listener(MachineEventType.LISTENER_FAILED, this.getClass(), listener.getListener(), on, isBefore, ex);
             }
-            throw new InvalidTransitionListenerException(listener.getListener(), "Listener on method '" + methodName + ".", ex);
+            throw InvalidTransitionListenerException.ofListenerMethod(listener.getListener(), methodName, ex);
+        }
+    }
+
+    private void rejected(final Enum<?> state, final Enum<?> event) {
+
+        final Recorder recorder = this.recorder();
+
+        if (recorder.isMeasured()) {
+            recorder.getMetrics().rejected(state, event);
+        }
+    }
+
+    /**
+     * Returns the recorder of the current metrics provider. The recorder is created again if the provider was changed since the cached recorder was created.
+     *
+     * @return The recorder of the current provider.
+     */
+    private Recorder recorder() {
+
+        final MetricsProvider provider = Instrumentation.current();
+        final Recorder cached = this.recorder;
+
+        if (cached.getProvider() == provider) {
+            return cached;
+        }
+
+        final Recorder res = Recorder.of(provider, this.configuration);
+        this.recorder = res;
+
+        return res;
+    }
+
+    private static InvalidTransitionException invalidTransition(final Enum<?> transition, final Enum<?> state) {
+        return InvalidTransitionException.ofMismatchingState(transition, state);
+    }
+
+    private Object listenerInstance(final ListenerContainer listener) {
+        switch (listener.getLifecycle()) {
+            case SINGLETON:
+                return listener.getInstance();
+            case PER_MACHINE:
+                return this.listenerInstances.get(listener.getListener());
+            default:
+                return listener.newInstance();
+        }
+    }
+
+    /**
+     * Creates the instances of all listeners with the {@link ListenerLifecycle#PER_MACHINE} lifecycle.
+     *
+     * @param configuration Configuration of the machine.
+     *
+     * @return Listener instances by listener type.
+     */
+    private static Map<Class<?>, Object> createListenerInstances(final FSMConfiguration configuration) {
+
+        final Map<Class<?>, Object> res = new HashMap<>();
+
+        if (Objects.isNull(configuration)) {
+            return Collections.emptyMap();
+        }
+
+        final List<ListenerContainer> listeners = new ArrayList<>();
+        configuration.getTransitions().stream()
+                .filter(transition -> Objects.nonNull(transition.getListeners()))
+                .forEach(transition -> listeners.addAll(transition.getListeners()));
+
+        if (configuration instanceof CFSMConfiguration) {
+            ((CFSMConfiguration) configuration).getChains().stream()
+                    .filter(chain -> Objects.nonNull(chain.getListeners()))
+                    .forEach(chain -> listeners.addAll(chain.getListeners()));
+        }
+
+        listeners.stream()
+                .filter(listener -> listener.getLifecycle() == ListenerLifecycle.PER_MACHINE)
+                .forEach(listener -> res.computeIfAbsent(listener.getListener(), type -> listener.newInstance()));
+
+        return Collections.unmodifiableMap(res);
+    }
+
+    /**
+     * Recorder of a machine together with the provider which created it.
+     */
+    @Value
+    private static class Recorder {
+
+        MetricsProvider provider;
+
+        TransitionMetrics metrics;
+
+        boolean measured;
+
+        static Recorder of(final MetricsProvider provider, final FSMConfiguration configuration) {
+            final TransitionMetrics metrics = Instrumentation.metrics(provider, configuration);
+
+            return new Recorder(provider, metrics, metrics.isEnabled());
         }
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * <h2>BatchResult</h2>
+ * <p>
+ * The batch result contains the outcome of a batch of transitions fired via {@link StateMachine#fireAll(Enum, java.util.Collection)}. Each target is identified by its position in the iteration
+ * order of the given collection. Successful targets are marked in a bit set and failed targets are stored with their cause.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = {"size", "successes", "failures"})
+public final class BatchResult {
+
+    @Getter
+    private final int size;
+
+    private final BitSet successes;
+
+    private final List<Failure> failures;
+
+    private BatchResult(final int size) {
+        this.size = size;
+        this.successes = new BitSet(size);
+        this.failures = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty result for a batch with the given number of targets.
+     *
+     * @param size Number of targets of the batch.
+     *
+     * @return The empty result.
+     */
+    public static BatchResult of(final int size) {
+        return new BatchResult(size);
+    }
+
+    /**
+     * Marks the target at the given position as successful.
+     *
+     * @param index Position of the target.
+     *
+     * @return The instance of this result for a fluent like usage.
+     */
+    public BatchResult andAddSuccess(final int index) {
+
+        this.successes.set(index);
+
+        return this;
+    }
+
+    /**
+     * Adds the failure of the target at the given position.
+     *
+     * @param index Position of the target.
+     * @param target The failed target.
+     * @param cause The exception thrown while the transition was fired.
+     *
+     * @return The instance of this result for a fluent like usage.
+     */
+    public BatchResult andAddFailure(final int index, final Statable<?> target, @NonNull final RuntimeException cause) {
+
+        this.failures.add(Failure.of(index, target, cause));
+
+        return this;
+    }
+
+    /**
+     * Adds the successes and failures of a partial result. The positions of the partial result are shifted by the given offset.
+     *
+     * @param part Result of a part of the batch.
+     * @param offset Position of the first target of the part within the batch.
+     *
+     * @return The instance of this result for a fluent like usage.
+     */
+    public BatchResult andAddAll(@NonNull final BatchResult part, final int offset) {
+
+        part.successes.stream().forEach(index -> this.successes.set(offset + index));
+        part.failures.forEach(failure -> this.failures.add(Failure.of(offset + failure.getIndex(), failure.getTarget(), failure.getCause())));
+
+        return this;
+    }
+
+    /**
+     * Checks if the transition of the target at the given position was successful.
+     *
+     * @param index Position of the target.
+     *
+     * @return True if the transition was successful, otherwise false.
+     */
+    public boolean isSuccess(final int index) {
+        return this.successes.get(index);
+    }
+
+    /**
+     * Checks if the transitions of all targets were successful.
+     *
+     * @return True if all transitions were successful, otherwise false.
+     */
+    public boolean isAllSuccessful() {
+        return this.successes.cardinality() == this.size;
+    }
+
+    /**
+     * Counts the targets which passed their transition successfully.
+     *
+     * @return Number of successful transitions.
+     */
+    public int getSuccessCount() {
+        return this.successes.cardinality();
+    }
+
+    /**
+     * Counts the targets whose transition failed.
+     *
+     * @return Number of failed transitions.
+     */
+    public int getFailureCount() {
+        return this.failures.size();
+    }
+
+    /**
+     * Returns a copy of the bit set of successful targets.
+     *
+     * @return Bit set where the position of each successful target is set.
+     */
+    public BitSet getSuccesses() {
+        return (BitSet) this.successes.clone();
+    }
+
+    /**
+     * Returns the failures in the order they occurred.
+     *
+     * @return Unmodifiable list of failures.
+     */
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(this.failures);
+    }
+
+    /**
+     * <h2>Failure</h2>
+     * <p>
+     * Failed transition of a single target.
+     *
+     * @author Michael Rhöse
+     * @version 1.0.1.0, 10/18/2026
+     */
+    @Value(staticConstructor = "of")
+    public static class Failure {
+
+        int index;
+
+        Statable<?> target;
+
+        RuntimeException cause;
+    }
+}
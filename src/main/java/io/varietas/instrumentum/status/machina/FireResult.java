@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+/**
+ * <h2>FireResult</h2>
+ * <p>
+ * The fire result is the outcome of {@link StateMachine#tryFire(Enum, Statable)}. It replaces the exceptions thrown by {@link StateMachine#fire(Enum, Statable)} for callers which expect invalid
+ * events as part of their regular traffic.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public enum FireResult {
+
+    /**
+     * The transition was performed and the new state was committed.
+     */
+    OK,
+    /**
+     * No transition is configured for the event and the current state of the target. The target wasn't touched.
+     */
+    NO_TRANSITION,
+    /**
+     * A before or after listener failed. If an after listener failed, the new state is already committed.
+     */
+    LISTENER_FAILED,
+    /**
+     * The transition method failed. The state of the target wasn't changed.
+     */
+    INVOCATION_FAILED,
+    /**
+     * The state of an {@link AtomicStatable} target was changed concurrently and the transition was rejected. Either the
+     * {@link io.varietas.instrumentum.status.machina.annotations.ConflictPolicy#FAIL} policy is configured or the
+     * {@link io.varietas.instrumentum.status.machina.annotations.ConflictPolicy#RETRY} policy gave up after the maximum number of retries.
+     */
+    CONFLICT,
+    /**
+     * The state of an {@link AtomicStatable} target was changed concurrently and the {@link io.varietas.instrumentum.status.machina.annotations.ConflictPolicy#IGNORE} policy dropped the
+     * transition. The concurrently committed state was kept.
+     */
+    IGNORED;
+
+    /**
+     * Checks if the transition was performed.
+     *
+     * @return True for {@link #OK}, otherwise false.
+     */
+    public boolean isSuccess() {
+        return this == OK;
+    }
+}
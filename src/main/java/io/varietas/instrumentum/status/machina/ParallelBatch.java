@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h2>ParallelBatch</h2>
+ * <p>
+ * Executes a batch of transitions in parallel. The targets are partitioned into consecutive parts, each part is fired via {@link StateMachine#fireAll(Enum, Collection)} on the given executor and
+ * the results of the parts are merged in order of the parts. The number of parts is a multiple of the available processors, so a slow target delays only its own part.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParallelBatch {
+
+    private static final int PARTS_PER_PROCESSOR = 4;
+
+    static BatchResult fireAll(final StateMachine machine, final Enum<?> transition, final Collection<? extends Statable<?>> targets, final Executor executor) {
+
+        final List<? extends Statable<?>> ordered = new ArrayList<>(targets);
+        final int parts = Math.max(1, Math.min(ordered.size(), Runtime.getRuntime().availableProcessors() * PARTS_PER_PROCESSOR));
+        final int partSize = (ordered.size() + parts - 1) / Math.max(1, parts);
+
+        final List<CompletableFuture<BatchResult>> futures = new ArrayList<>(parts);
+
+        for (int offset = 0; offset < ordered.size(); offset += partSize) {
+            final List<? extends Statable<?>> part = ordered.subList(offset, Math.min(ordered.size(), offset + partSize));
+            futures.add(CompletableFuture.supplyAsync(() -> machine.fireAll(transition, part), executor));
+        }
+
+        final BatchResult result = BatchResult.of(ordered.size());
+
+        try {
+            int offset = 0;
+
+            for (CompletableFuture<BatchResult> future : futures) {
+                final BatchResult part = future.join();
+                result.andAddAll(part, offset);
+                offset += part.getSize();
+            }
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+
+        return result;
+    }
+}
@@ -16,7 +16,12 @@
 package io.varietas.instrumentum.status.machina;
 
 import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionListenerException;
+import io.varietas.instrumentum.status.machina.errors.TransitionConflictException;
 import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <h2>StateMachine</h2>
@@ -47,6 +52,8 @@ import io.varietas.instrumentum.status.machina.errors.TransitionInvocationExcept
  * </pre>
  * </code>
  * <p>
+ * The {@link StateMachineFactory} shares a single instance per machine type. Implementations based on {@link BasicStateMachine} are thread-safe, see its documentation for the contract.
+ * <p>
  * An example for a basic state machine can be found in the test package (machines/transition/StateMachineWithoutListener.java).
  *
  * @see io.varietas.instrumentum.status.machina.builders.StateMachineBuilder
@@ -67,4 +74,91 @@ public interface StateMachine {
      * @throws InvalidTransitionException Thrown if the current state of a target isn't equals to the expected transition start state.
      */
     void fire(Enum<?> transition, Statable<?> target) throws TransitionInvocationException, InvalidTransitionException;
+
+    /**
+     * Executes the corresponding logic for an upcoming event on the given object like {@link #fire(Enum, Statable)}, but reports the outcome as {@link FireResult} instead of throwing. The default
+     * implementation maps the exceptions of {@link #fire(Enum, Statable)}. Implementations based on {@link BasicStateMachine} reject events without a transition for the current state of the target
+     * without creating an exception.
+     *
+     * @param transition Upcoming transition event that triggers the FSM.
+     * @param target Transition operation target.
+     *
+     * @return The outcome of the transition.
+     */
+    default FireResult tryFire(final Enum<?> transition, final Statable<?> target) {
+        try {
+            this.fire(transition, target);
+            return FireResult.OK;
+        }
+        catch (InvalidTransitionException ex) {
+            return FireResult.NO_TRANSITION;
+        }
+        catch (InvalidTransitionListenerException ex) {
+            return FireResult.LISTENER_FAILED;
+        }
+        catch (TransitionInvocationException ex) {
+            return FireResult.INVOCATION_FAILED;
+        }
+        catch (TransitionConflictException ex) {
+            return FireResult.CONFLICT;
+        }
+    }
+
+    /**
+     * Fires the same event on each of the given targets. A failing target doesn't stop the batch, its cause is collected in the returned result instead. The targets are processed in iteration order
+     * and identified by their position within this order.
+     *
+     * @param transition Upcoming transition event that triggers the FSM.
+     * @param targets Transition operation targets.
+     *
+     * @return The result with the successful and failed targets.
+     */
+    default BatchResult fireAll(final Enum<?> transition, final Collection<? extends Statable<?>> targets) {
+
+        final BatchResult result = BatchResult.of(targets.size());
+        int index = 0;
+
+        for (Statable<?> target : targets) {
+            try {
+                this.fire(transition, target);
+                result.andAddSuccess(index);
+            }
+            catch (RuntimeException ex) {
+                result.andAddFailure(index, target, ex);
+            }
+            index++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Fires the same event on each of the given targets in parallel. The targets are partitioned into consecutive parts which are fired on the given executor. The call blocks until all parts are
+     * finished. The result is equal to the result of {@link #fireAll(Enum, Collection)}: Targets are identified by their position in iteration order and a failing target doesn't stop the batch.
+     * <p>
+     * Transition methods and listeners are called concurrently for different targets. Listeners with a lifecycle other than per fire and the machine itself have to be thread-safe.
+     *
+     * @param transition Upcoming transition event that triggers the FSM.
+     * @param targets Transition operation targets. Each target may occur only once.
+     * @param executor Executor used to fire the parts.
+     *
+     * @return The result with the successful and failed targets.
+     */
+    default BatchResult fireAll(final Enum<?> transition, final Collection<? extends Statable<?>> targets, final Executor executor) {
+        return ParallelBatch.fireAll(this, transition, targets, executor);
+    }
+
+    /**
+     * Fires the same event on each of the given targets in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param transition Upcoming transition event that triggers the FSM.
+     * @param targets Transition operation targets. Each target may occur only once.
+     *
+     * @return The result with the successful and failed targets.
+     *
+     * @see #fireAll(Enum, Collection, Executor)
+     */
+    default BatchResult fireAllParallel(final Enum<?> transition, final Collection<? extends Statable<?>> targets) {
+        return this.fireAll(transition, targets, ForkJoinPool.commonPool());
+    }
 }
@@ -18,39 +18,243 @@ package io.varietas.instrumentum.status.machina;
 import io.varietas.instrumentum.status.machina.annotations.ChainConfiguration;
 import io.varietas.instrumentum.status.machina.builders.SimpleChainStateMachineBuilder;
 import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
-import io.varietas.instrumentum.status.machina.builders.StateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.ConfigurationCodec;
+import io.varietas.instrumentum.status.machina.configurations.ConfigurationExporter;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.containers.ListenerContainer;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
 import io.varietas.instrumentum.status.machina.errors.MachineCreationException;
+import io.varietas.instrumentum.status.machina.errors.TransitionConflictException;
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import io.varietas.instrumentum.status.machina.management.StateMachineManagement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * <h2>StateMachineFactory</h2>
  * <p>
  * The state machine factory creates a state machine by its configuration. It is the easiest way to work with status machina.
+ * <p>
+ * The extraction of a configuration scans the annotations of a machine type and calculates the transition chains. The factory does this only once per machine type and caches the compiled
+ * configuration. Every further call of {@link #getStateMachine(Class)} costs only the constructor call of the machine. Environments which reload machine types (e.g. hot-reload) can drop cached
+ * configurations via {@link #evict(Class)} and {@link #clear()}. If the {@link io.varietas.instrumentum.status.machina.processors.StateMachineProcessor} generated a
+ * {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor} for a machine type, the configuration and the machine instances are created from the descriptor without reflection.
+ * Configurations which were exported at build time by the {@link ConfigurationExporter} are loaded via the {@link ConfigurationCodec} in place of the annotation scan.
+ * <p>
+ * Services which create many machines at startup can prepare them eagerly via {@link #warmUp(Class...)} or, for all exported machine types, via {@link #warmUp()}. The first request then doesn't
+ * pay for configuration extraction, invoker generation and class initialization.
+ * <p>
+ * If the {@link StateMachineManagement} is enabled, each machine type is registered as MXBean when its configuration is loaded and the requests of the caches are counted per machine type.
+ * <p>
+ * Machines don't hold any state of transitions or targets (see {@link BasicStateMachine} for the thread-safety contract). Therefore, {@link #getStateMachine(Class)} shares a single machine instance
+ * per machine type. Machines with listeners of the {@link io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle#PER_MACHINE} lifecycle which need separate listener instances are
+ * created via {@link #newStateMachine(Class)}.
  *
  * @author Michael Rhöse
  * @version 1.0.1.0, 02/03/2019
  */
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StateMachineFactory {
 
+    private static final List<Class<?>> RUNTIME_TYPES = List.of(FireResult.class, InvalidTransitionException.class, TransitionInvocationException.class, TransitionConflictException.class);
+
+    private static final Map<Class<? extends StateMachine>, FSMConfiguration> CONFIGURATIONS = new ConcurrentHashMap<>();
+
+    private static final Map<Class<? extends StateMachine>, StateMachine> MACHINES = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared state machine instance corresponding to the given state machine type. The instance is created on the first request.
+     *
+     * @param type State machine type
+     * @return Shared instance of the state machine with its configuration
+     * @throws MachineCreationException Thrown if an error occurred while configuration extraction or machine creation
+     */
+    public static StateMachine getStateMachine(@NonNull final Class<? extends StateMachine> type) throws MachineCreationException {
+        final StateMachine machine = MACHINES.get(type);
+
+        if (Objects.nonNull(machine)) {
+            StateMachineManagement.recordMachineCacheAccess(type, true);
+            return machine;
+        }
+
+        final StateMachine created = StateMachineFactory.newStateMachine(type);
+        StateMachineManagement.recordMachineCacheAccess(type, false);
+
+        final StateMachine shared = MACHINES.putIfAbsent(type, created);
+
+        return Objects.nonNull(shared) ? shared : created;
+    }
+
+    /**
+     * Creates a new state machine instance corresponding to the given state machine type. The instance uses the cached configuration but isn't shared.
+     *
+     * @param type State machine type
+     * @return New instance of the state machine with its configuration
+     * @throws MachineCreationException Thrown if an error occurred while configuration extraction or machine creation
+     */
+    public static StateMachine newStateMachine(@NonNull final Class<? extends StateMachine> type) throws MachineCreationException {
+        final FSMConfiguration configuration = StateMachineFactory.getConfiguration(type);
+
+        if (configuration instanceof CFSMConfiguration) {
+            return SimpleChainStateMachineBuilder.getBuilder().configuration((CFSMConfiguration) configuration).build();
+        }
+
+        return SimpleStateMachineBuilder.getBuilder().configuration(configuration).build();
+    }
+
+    /**
+     * Returns the configuration of the given state machine type. The configuration is extracted on the first request and cached for all further requests.
+     *
+     * @param type State machine type
+     * @return The cached configuration of the state machine type
+     */
+    public static FSMConfiguration getConfiguration(@NonNull final Class<? extends StateMachine> type) {
+        final FSMConfiguration cached = CONFIGURATIONS.get(type);
+
+        if (Objects.nonNull(cached)) {
+            StateMachineManagement.recordConfigurationCacheAccess(type, true);
+            return cached;
+        }
+
+        final FSMConfiguration configuration = CONFIGURATIONS.computeIfAbsent(type, StateMachineFactory::extractConfiguration);
+
+        StateMachineManagement.register(configuration);
+        StateMachineManagement.recordConfigurationCacheAccess(type, false);
+
+        return configuration;
+    }
+
+    /**
+     * Returns the configurations of all machine types which are cached.
+     *
+     * @return Unmodifiable view of the cached configurations.
+     */
+    public static Collection<FSMConfiguration> getConfigurations() {
+        return Collections.unmodifiableCollection(CONFIGURATIONS.values());
+    }
+
     /**
-     * Creates a state machine instance corresponding to the given state machine type.
+     * Removes the cached configuration and the shared instance of the given state machine type. The next request extracts the configuration again.
      *
      * @param type State machine type
-     * @return Instance of the state machine with its configuration
+     * @return True if a cached configuration was removed, otherwise false.
+     */
+    public static boolean evict(@NonNull final Class<? extends StateMachine> type) {
+        MACHINES.remove(type);
+        StateMachineManagement.unregister(type);
+        return Objects.nonNull(CONFIGURATIONS.remove(type));
+    }
+
+    /**
+     * Removes all cached configurations and shared instances.
+     */
+    public static void clear() {
+        MACHINES.clear();
+        CONFIGURATIONS.clear();
+        StateMachineManagement.unregisterAll();
+    }
+
+    /**
+     * Prepares the given state machine types before the first request. For each type the configuration is loaded and the shared instance is created, see {@link #warmUp(Collection)}.
+     *
+     * @param types State machine types
      * @throws MachineCreationException Thrown if an error occurred while configuration extraction or machine creation
      */
-    public static StateMachine getStateMachine(final Class<? extends StateMachine> type) throws MachineCreationException {
-        StateMachineBuilder<?> builder;
+    @SafeVarargs
+    public static void warmUp(@NonNull final Class<? extends StateMachine>... types) throws MachineCreationException {
+        final List<Class<? extends StateMachine>> typeList = new ArrayList<>(types.length);
+
+        for (Class<? extends StateMachine> type : types) {
+            typeList.add(type);
+        }
+
+        StateMachineFactory.warmUp(typeList);
+    }
+
+    /**
+     * Prepares all state machine types which are listed in the index of exported configurations (see {@link ConfigurationExporter}) of the context class loader.
+     *
+     * @throws MachineCreationException Thrown if an error occurred while configuration extraction or machine creation
+     */
+    public static void warmUp() throws MachineCreationException {
+
+        final ClassLoader loader = Objects.nonNull(Thread.currentThread().getContextClassLoader()) ? Thread.currentThread().getContextClassLoader() : StateMachineFactory.class.getClassLoader();
+
+        StateMachineFactory.warmUp(ConfigurationCodec.indexedMachineTypes(loader));
+    }
+
+    /**
+     * Prepares the given state machine types before the first request. For each type the configuration is loaded and compiled, the shared instance is created and the listener types as well as the
+     * types used for results and errors of a transition are initialized. The invokers of transitions and listeners are generated while the configuration is loaded, so the first transition doesn't
+     * pay for linking.
+     *
+     * @param types State machine types
+     * @throws MachineCreationException Thrown if an error occurred while configuration extraction or machine creation
+     */
+    public static void warmUp(@NonNull final Collection<Class<? extends StateMachine>> types) throws MachineCreationException {
+
+        final long start = System.nanoTime();
+
+        RUNTIME_TYPES.forEach(StateMachineFactory::initialize);
+
+        for (Class<? extends StateMachine> type : types) {
+            StateMachineFactory.getStateMachine(type);
+
+            final FSMConfiguration configuration = StateMachineFactory.getConfiguration(type);
+            configuration.getTransitionTable();
+            configuration.getTransitionIndex();
+
+            Stream<ListenerContainer> listeners = configuration.getTransitions().stream().flatMap(transition -> transition.getListeners().stream());
+
+            if (configuration instanceof CFSMConfiguration) {
+                final CFSMConfiguration chainConfiguration = (CFSMConfiguration) configuration;
+                chainConfiguration.getChainTable();
+                listeners = Stream.concat(listeners, chainConfiguration.getChains().stream().flatMap(chain -> chain.getListeners().stream()));
+            }
+
+            listeners.map(ListenerContainer::getListener).distinct().forEach(StateMachineFactory::initialize);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} machine types warmed up in {} ms.", types.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private static void initialize(final Class<?> type) {
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        }
+        catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("Couldn't initialize '" + type.getName() + "'.", ex);
+        }
+    }
+
+    private static FSMConfiguration extractConfiguration(final Class<? extends StateMachine> type) {
+
+        final Optional<FSMConfiguration> stored = ConfigurationCodec.load(type);
+
+        if (stored.isPresent()) {
+            return stored.get();
+        }
 
         if (Objects.nonNull(type.getDeclaredAnnotation(ChainConfiguration.class))) {
-            builder = SimpleChainStateMachineBuilder.getBuilder();
-        } else {
-            builder = SimpleStateMachineBuilder.getBuilder();
+            return SimpleChainStateMachineBuilder.getBuilder().extractConfiguration(type).configuration();
         }
 
-        return builder.extractConfiguration(type).build();
+        return SimpleStateMachineBuilder.getBuilder().extractConfiguration(type).configuration();
     }
 }
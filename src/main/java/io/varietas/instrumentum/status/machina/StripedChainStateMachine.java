@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionChainException;
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * <h2>StripedChainStateMachine</h2>
+ * <p>
+ * The striped chain state machine is a {@link StripedStateMachine} for a {@link ChainStateMachine}. Transition chains are serialized per target with the same locks as single transitions, so a
+ * chain isn't interleaved with other transitions on the same target.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class StripedChainStateMachine extends StripedStateMachine implements ChainStateMachine {
+
+    private final ChainStateMachine delegate;
+
+    StripedChainStateMachine(final ChainStateMachine delegate, final int stripes, final Function<? super Statable<?>, ?> keyExtractor) {
+        super(delegate, stripes, keyExtractor);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a striped front end for the given chain machine which maps targets by identity. The number of locks depends on the available processors.
+     *
+     * @param delegate Machine which fires the transitions and chains.
+     *
+     * @return The striped chain machine.
+     */
+    public static StripedChainStateMachine of(@NonNull final ChainStateMachine delegate) {
+        return StripedChainStateMachine.of(delegate, StripedStateMachine.defaultStripes(), null);
+    }
+
+    /**
+     * Creates a striped front end for the given chain machine.
+     *
+     * @param delegate Machine which fires the transitions and chains.
+     * @param stripes Minimum number of locks. The number is rounded up to the next power of two.
+     * @param keyExtractor Function which extracts the key of a target. Targets with equal keys are serialized. If null, targets are mapped by identity.
+     *
+     * @return The striped chain machine.
+     */
+    public static StripedChainStateMachine of(@NonNull final ChainStateMachine delegate, final int stripes, final Function<? super Statable<?>, ?> keyExtractor) {
+
+        StripedStateMachine.checkStripes(stripes);
+
+        return new StripedChainStateMachine(delegate, stripes, keyExtractor);
+    }
+
+    @Override
+    public void fireChain(final Enum<?> transitionChain, @NonNull final Statable<?> target) throws TransitionInvocationException, InvalidTransitionChainException {
+
+        final ReentrantLock lock = this.lockFor(target);
+        lock.lock();
+
+        try {
+            this.delegate.fireChain(transitionChain, target);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
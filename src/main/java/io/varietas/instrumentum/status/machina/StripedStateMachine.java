@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * <h2>StripedStateMachine</h2>
+ * <p>
+ * The striped state machine is a front end for another {@link StateMachine} which serializes transitions per target. A machine reads the state of a target, invokes the transition and writes the
+ * new state afterwards. Without synchronization, two threads firing on the same target can lose a transition.
+ * <p>
+ * Each target is mapped to one lock of a fixed set of locks (lock striping). Targets are mapped by their identity or by a key extracted from the target, e.g. the id of an entity if several
+ * instances represent the same entity. Transitions on targets mapped to different locks run in parallel, there is no global lock.
+ * <p>
+ * The locks are reentrant, so listeners may fire further transitions on the same target. Listeners which fire transitions on other targets can dead lock with other threads doing the same in
+ * reversed order.
+ * <p>
+ * Transition chains are serialized by the {@link StripedChainStateMachine}, which is created by {@link #of(StateMachine)} for a {@link ChainStateMachine}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class StripedStateMachine implements StateMachine {
+
+    private static final int STRIPES_PER_PROCESSOR = 4;
+
+    private final StateMachine delegate;
+
+    private final Function<? super Statable<?>, ?> keyExtractor;
+
+    private final ReentrantLock[] locks;
+
+    private final int mask;
+
+    StripedStateMachine(final StateMachine delegate, final int stripes, final Function<? super Statable<?>, ?> keyExtractor) {
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+
+        for (int index = 0; index < size; index++) {
+            this.locks[index] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Creates a striped front end for the given machine which maps targets by identity. The number of locks depends on the available processors.
+     *
+     * @param delegate Machine which fires the transitions.
+     *
+     * @return The striped machine, a {@link StripedChainStateMachine} if the given machine is a {@link ChainStateMachine}.
+     */
+    public static StripedStateMachine of(@NonNull final StateMachine delegate) {
+        return StripedStateMachine.of(delegate, StripedStateMachine.defaultStripes(), null);
+    }
+
+    /**
+     * Creates a striped front end for the given machine.
+     *
+     * @param delegate Machine which fires the transitions.
+     * @param stripes Minimum number of locks. The number is rounded up to the next power of two.
+     * @param keyExtractor Function which extracts the key of a target. Targets with equal keys are serialized. If null, targets are mapped by identity.
+     *
+     * @return The striped machine, a {@link StripedChainStateMachine} if the given machine is a {@link ChainStateMachine}.
+     */
+    public static StripedStateMachine of(@NonNull final StateMachine delegate, final int stripes, final Function<? super Statable<?>, ?> keyExtractor) {
+
+        StripedStateMachine.checkStripes(stripes);
+
+        if (delegate instanceof ChainStateMachine) {
+            return new StripedChainStateMachine((ChainStateMachine) delegate, stripes, keyExtractor);
+        }
+
+        return new StripedStateMachine(delegate, stripes, keyExtractor);
+    }
+
+    @Override
+    public void fire(final Enum<?> transition, @NonNull final Statable<?> target) throws TransitionInvocationException, InvalidTransitionException {
+
+        final ReentrantLock lock = this.lockFor(target);
+        lock.lock();
+
+        try {
+            this.delegate.fire(transition, target);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public FireResult tryFire(final Enum<?> transition, @NonNull final Statable<?> target) {
+
+        final ReentrantLock lock = this.lockFor(target);
+        lock.lock();
+
+        try {
+            return this.delegate.tryFire(transition, target);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int getStripes() {
+        return this.locks.length;
+    }
+
+    static int defaultStripes() {
+        return Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR;
+    }
+
+    static void checkStripes(final int stripes) {
+
+        if (stripes < 1 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("Number of stripes has to be between 1 and 2^30.");
+        }
+    }
+
+    ReentrantLock lockFor(final Statable<?> target) {
+
+        final int hash = Objects.isNull(this.keyExtractor) ? System.identityHashCode(target) : Objects.hashCode(this.keyExtractor.apply(target));
+
+        ///< Spreads the higher bits to the lower bits, which select the stripe.
+        return this.locks[(hash ^ (hash >>> 16)) & this.mask];
+    }
+}
@@ -52,6 +52,13 @@ public @interface ChainListener {
      */
     Class<?> value();
 
+    /**
+     * Specifies how often an instance of the listener is created. By default, a new instance is created for each call.
+     *
+     * @return Lifecycle of the listener.
+     */
+    ListenerLifecycle lifecycle() default ListenerLifecycle.PER_FIRE;
+
     /**
      * Specifies the firing target. The listener can be configured for all available chains in the FSM or only for one (or more) listener(s).
      *
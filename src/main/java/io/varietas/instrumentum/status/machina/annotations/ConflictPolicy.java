@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.annotations;
+
+import io.varietas.instrumentum.status.machina.AtomicStatable;
+
+/**
+ * <h2>ConflictPolicy</h2>
+ * <p>
+ * The conflict policy defines how a FSM handles a transition on an {@link AtomicStatable} whose state was changed concurrently while the transition was invoked. Targets which don't implement
+ * {@link AtomicStatable} never conflict.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public enum ConflictPolicy {
+
+    /**
+     * The transition fails with a {@link io.varietas.instrumentum.status.machina.errors.TransitionConflictException}.
+     */
+    FAIL,
+    /**
+     * The transition is resolved again for the new state of the target and fired again until the state is committed, at most {@link StateMachineConfiguration#maxRetries()} times. Afterwards the
+     * transition fails with a {@link io.varietas.instrumentum.status.machina.errors.TransitionConflictException}. The transition method and the before listeners are executed once per attempt, so
+     * they have to be idempotent.
+     */
+    RETRY,
+    /**
+     * The transition is dropped. The concurrently committed state is kept and the after listeners aren't executed.
+     */
+    IGNORE;
+
+    /**
+     * Default maximum number of retries of the {@link #RETRY} policy.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.annotations;
+
+/**
+ * <h2>ListenerLifecycle</h2>
+ * <p>
+ * The lifecycle defines how often an instance of a transition or chain listener is created. Listeners without state should use {@link #SINGLETON} because they can be called without any
+ * instantiation.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public enum ListenerLifecycle {
+
+    /**
+     * A single instance is created while the configuration is extracted and shared between all machines and calls.
+     */
+    SINGLETON,
+    /**
+     * An instance is created per machine instance and shared between all calls on that machine.
+     */
+    PER_MACHINE,
+    /**
+     * A new instance is created for each call of the listener.
+     */
+    PER_FIRE
+}
@@ -47,4 +47,18 @@ public @interface StateMachineConfiguration {
      * @return Type of event.
      */
     Class<? extends Enum<?>> eventType();
+
+    /**
+     * Policy which is used if the state of an {@link io.varietas.instrumentum.status.machina.AtomicStatable} target was changed concurrently while a transition was invoked.
+     *
+     * @return Conflict policy.
+     */
+    ConflictPolicy conflictPolicy() default ConflictPolicy.FAIL;
+
+    /**
+     * Maximum number of retries of a conflicting transition if the conflict policy is {@link ConflictPolicy#RETRY}.
+     *
+     * @return Maximum number of retries.
+     */
+    int maxRetries() default ConflictPolicy.DEFAULT_MAX_RETRIES;
 }
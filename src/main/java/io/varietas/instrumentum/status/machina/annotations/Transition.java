@@ -54,4 +54,14 @@ public @interface Transition {
      * @return Transition identifier.
      */
     String on();
+
+    /**
+     * Name of the guard method which decides if the transition is selected. The guard is a public method of the machine which accepts the same parameters as a transition method and returns a
+     * boolean. Several guarded transitions can handle the same event in the same state. Their guards are evaluated in the order of the names of the transition methods, a transition method with several
+     * guarded annotations keeps the order of its annotations. The first permitted transition is fired. An unguarded transition of the same event and state is the fallback if no guard permits the
+     * target. An empty name stands for a transition without guard.
+     *
+     * @return Name of the guard method.
+     */
+    String guard() default "";
 }
@@ -54,4 +54,11 @@ public @interface TransitionListener {
      * @return The listener type.
      */
     Class<?> value();
+
+    /**
+     * Specifies how often an instance of the listener is created. By default, a new instance is created for each call.
+     *
+     * @return Lifecycle of the listener.
+     */
+    ListenerLifecycle lifecycle() default ListenerLifecycle.PER_FIRE;
 }
@@ -24,12 +24,18 @@ import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
 import io.varietas.instrumentum.status.machina.containers.ListenerContainer;
 import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
 import io.varietas.instrumentum.status.machina.errors.MachineCreationException;
+import io.varietas.instrumentum.status.machina.invokers.GuardInvoker;
+import io.varietas.instrumentum.status.machina.invokers.Invokers;
+import io.varietas.instrumentum.status.machina.invokers.TransitionInvoker;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Getter;
@@ -56,6 +62,10 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
 
     protected final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = new ArrayList<>();
 
+    private final Map<Method, TransitionInvoker> invokers = new HashMap<>();
+
+    private final Map<String, GuardInvoker> guards = new HashMap<>();
+
     public StateMachineBuilder<CONFIGURATION> configuration(CONFIGURATION configuration) {
         this.configuration = configuration;
         return this;
@@ -71,6 +81,17 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
     @Override
     public StateMachine build() throws MachineCreationException {
 
+        final Optional<MachineDescriptor> descriptor = MachineDescriptor.find(this.configuration.getMachineType());
+
+        if (descriptor.isPresent()) {
+            try {
+                return descriptor.get().newInstance(this.configuration);
+            }
+            catch (RuntimeException ex) {
+                throw new MachineCreationException(this.configuration.getMachineType(), ex.getMessage());
+            }
+        }
+
         try {
             return this.configuration.getMachineType().getConstructor(FSMConfiguration.class).newInstance(this.configuration);
         }
@@ -80,16 +101,26 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
     }
 
     /**
-     * Collects available transitions from the {@link StateMachine}. Transitions are identified by the {@link Transition} annotation.
+     * Collects available transitions from the {@link StateMachine}. Transitions are identified by the {@link Transition} annotation. If a generated {@link MachineDescriptor} is present for the
+     * machine type, the transitions are taken from the descriptor without reflection.
      *
      * @param machineType The machine where the transitions are configured.
      *
      * @return List of all available transitions.
      */
     protected List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> collectTransitions(final Class<? extends StateMachine> machineType) {
+
+        final Optional<MachineDescriptor> descriptor = MachineDescriptor.find(machineType);
+
+        if (descriptor.isPresent()) {
+            return descriptor.get().createTransitions().stream()
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+
         return Stream.of(machineType.getMethods())
                 .filter(method -> method.isAnnotationPresent(Transitions.class) || method.isAnnotationPresent(Transition.class))
-                .map(this::createTransitionContainers)
+                .map(method -> this.createTransitionContainers(machineType, method))
                 .flatMap(List::stream)
                 .distinct()
                 .collect(Collectors.toList());
@@ -99,20 +130,21 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
      * Creates transition containers available on a single method. One method can used by multiple transitions. Each transition is configured by a single {@link Transition} annotation. So, multiple
      * {@link Transition} annotations can be available on a single method.
      *
+     * @param machineType The machine where the guards of the transitions are declared.
      * @param method Method where the transitions are configured.
      *
      * @return List of all available transitions as transition containers.
      */
-    private List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> createTransitionContainers(final Method method) {
+    private List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> createTransitionContainers(final Class<? extends StateMachine> machineType, final Method method) {
 
         final List<ListenerContainer> listeners = this.extractTransitionListener(method);
 
         return Arrays.asList(method.getAnnotationsByType(Transition.class)).stream()
-                .map((Transition transition) -> this.createTransitionContainer(transition, method, listeners))
+                .map((Transition transition) -> this.createTransitionContainer(machineType, transition, method, listeners))
                 .collect(Collectors.toList());
     }
 
-    private TransitionContainer<? extends Enum<?>, ? extends Enum<?>> createTransitionContainer(final Transition transition, final Method method, final List<ListenerContainer> listeners) {
+    private TransitionContainer<? extends Enum<?>, ? extends Enum<?>> createTransitionContainer(final Class<? extends StateMachine> machineType, final Transition transition, final Method method, final List<ListenerContainer> listeners) {
         @SuppressWarnings("rawtypes")
         final Class<? extends Enum> stateClazzType = this.stateType;
         @SuppressWarnings("rawtypes")
@@ -125,11 +157,17 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
         @SuppressWarnings("unchecked")
         final Enum<?> on = Enum.valueOf(eventClazzType, transition.on());
 
-        if (LOGGER.isErrorEnabled()) {
-            LOGGER.debug("Transition from '{}' to '{}' on '{}' will be created.", from.name(), to.name(), on.name());
-            LOGGER.debug("{} listeners for transition {} added.", (Objects.nonNull(listeners) ? listeners.size() : 0), on.name());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Transition from '{}' to '{}' on '{}' will be created.", from, to, on);
+            LOGGER.debug("{} listeners for transition {} added.", (Objects.nonNull(listeners) ? listeners.size() : 0), on);
         }
-        return TransitionContainer.of(from, to, on, method).andAddListeners(listeners);
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> res = TransitionContainer.of(from, to, on, method, this.invokers.computeIfAbsent(method, Invokers::transition)).andAddListeners(listeners);
+
+        if (transition.guard().isEmpty()) {
+            return res;
+        }
+
+        return res.andGuard(transition.guard(), this.guards.computeIfAbsent(transition.guard(), guard -> Invokers.guard(machineType, guard)));
     }
 
     private List<ListenerContainer> extractTransitionListener(final Method method) {
@@ -140,7 +178,7 @@ abstract class BasicStateMachineBuilder<CONFIGURATION extends FSMConfiguration>
         return Stream.of(method.getAnnotationsByType(TransitionListener.class))
                 .map(annot -> {
                     final Class<?> listener = annot.value();
-                    return ListenerContainer.of(listener, this.existsMethod(listener, "before"), this.existsMethod(listener, "after"));
+                    return ListenerContainer.of(listener, this.existsMethod(listener, "before"), this.existsMethod(listener, "after"), this.eventType, annot.lifecycle());
                 })
                 .collect(Collectors.toList());
     }
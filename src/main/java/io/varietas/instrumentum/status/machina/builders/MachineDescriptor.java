@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.builders;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <h2>MachineDescriptor</h2>
+ * <p>
+ * A machine descriptor provides the transitions of a machine type and creates its instances without reflection. Descriptors are generated at build time by the
+ * {@link io.varietas.instrumentum.status.machina.processors.StateMachineProcessor} into the package of the machine type and named like the machine type with the suffix {@value #SUFFIX}. Nested types
+ * are flattened, e.g. the descriptor of {@code Outer.Inner} is {@code Outer_Inner_StatusMachina}.
+ * <p>
+ * The builders use the descriptor of a machine type if it is present, otherwise the transitions are collected via reflection.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public interface MachineDescriptor {
+
+    /**
+     * Suffix of the generated descriptor types.
+     */
+    String SUFFIX = "_StatusMachina";
+
+    /**
+     * Returns the machine type which is described.
+     *
+     * @return The machine type.
+     */
+    Class<? extends StateMachine> getMachineType();
+
+    /**
+     * Creates the transitions of the machine type in order of declaration. The transition methods are called directly by the invokers of the transitions.
+     *
+     * @return Newly created transition containers.
+     */
+    List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> createTransitions();
+
+    /**
+     * Returns the precomputed paths of the transition chains of the machine type. A path contains the indexes of the chain parts within the transitions created by {@link #createTransitions()}
+     * in execution order. Paths are stored by the key created via {@link #chainKey(String, String, String)}. The arrays must not be modified.
+     *
+     * @return Paths of the transition chains.
+     */
+    default Map<String, int[]> getChainPaths() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Creates an instance of the machine type.
+     *
+     * @param configuration Configuration of the machine.
+     *
+     * @return The machine instance.
+     */
+    StateMachine newInstance(FSMConfiguration configuration);
+
+    /**
+     * Creates the key of a transition chain which is used by {@link #getChainPaths()}.
+     *
+     * @param from Name of the start state.
+     * @param to Name of the end state.
+     * @param on Name of the chain.
+     *
+     * @return The key of the chain.
+     */
+    static String chainKey(final String from, final String to, final String on) {
+        return from + '>' + to + ':' + on;
+    }
+
+    /**
+     * Searches the generated descriptor of a machine type. The result is cached per machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return The descriptor, otherwise an empty Optional.
+     */
+    static Optional<MachineDescriptor> find(final Class<?> machineType) {
+        return MachineDescriptors.find(machineType);
+    }
+}
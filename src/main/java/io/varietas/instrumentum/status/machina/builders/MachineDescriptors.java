@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.builders;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>MachineDescriptors</h2>
+ * <p>
+ * Resolves and caches the generated {@link MachineDescriptor} of machine types. The descriptor type is loaded by the class loader of the machine type.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MachineDescriptors {
+
+    private static final ClassValue<Optional<MachineDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected Optional<MachineDescriptor> computeValue(final Class<?> machineType) {
+            return MachineDescriptors.load(machineType);
+        }
+    };
+
+    static Optional<MachineDescriptor> find(final Class<?> machineType) {
+        return Objects.isNull(machineType) ? Optional.empty() : DESCRIPTORS.get(machineType);
+    }
+
+    /**
+     * Returns the name of the descriptor type of a machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return Binary name of the descriptor type.
+     */
+    static String descriptorName(final Class<?> machineType) {
+        return machineType.getName().replace('$', '_') + MachineDescriptor.SUFFIX;
+    }
+
+    private static Optional<MachineDescriptor> load(final Class<?> machineType) {
+
+        final Class<?> descriptorType;
+
+        try {
+            descriptorType = Class.forName(MachineDescriptors.descriptorName(machineType), true, machineType.getClassLoader());
+        }
+        catch (ClassNotFoundException | LinkageError ex) {
+            return Optional.empty();
+        }
+
+        try {
+            final MachineDescriptor descriptor = (MachineDescriptor) descriptorType.getConstructor().newInstance();
+
+            if (descriptor.getMachineType() != machineType) {
+                throw new IllegalStateException("Descriptor describes '" + descriptor.getMachineType().getName() + "'.");
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Generated descriptor '{}' used for '{}'.", descriptorType.getName(), machineType.getName());
+            }
+
+            return Optional.of(descriptor);
+        }
+        catch (ClassCastException | IllegalStateException | InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException ex) {
+
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Couldn't use descriptor '{}', reflection is used. {}: {}", descriptorType.getName(), ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+}
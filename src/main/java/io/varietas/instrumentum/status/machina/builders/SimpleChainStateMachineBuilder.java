@@ -32,10 +32,9 @@ import io.varietas.instrumentum.status.machina.errors.TransitionChainCreationExc
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
@@ -59,6 +58,10 @@ public class SimpleChainStateMachineBuilder extends BasicStateMachineBuilder<CFS
 
     private final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> chains = new ArrayList<>();
 
+    private TransitionChainPlanner planner;
+
+    private Map<String, int[]> chainPaths = Collections.emptyMap();
+
     /**
      * Extracts the configuration from a given {@link StateMachine}. This process should be done only once per state machine type and shared between the instances because the collection of information
      * is a big process and can take a while.
@@ -82,7 +85,10 @@ public class SimpleChainStateMachineBuilder extends BasicStateMachineBuilder<CFS
 
         this.configuration = DefaultCFSMConfiguration.of(machineType, this.stateType, this.eventType, this.chainType)
                 .andAddChains(this.chains)
-                .andAddTransitions(this.transitions);
+                .andAddTransitions(this.transitions)
+                .andConflictPolicy(machineConfiguration.conflictPolicy())
+                .andMaxRetries(machineConfiguration.maxRetries())
+                .freeze();
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Configuration for '{}' created:\n"
@@ -119,6 +125,10 @@ public class SimpleChainStateMachineBuilder extends BasicStateMachineBuilder<CFS
 
         final List<Pair> listeners = this.extractChainListener(machineType);
 
+        this.chainPaths = MachineDescriptor.find(machineType)
+                .map(MachineDescriptor::getChainPaths)
+                .orElse(Collections.emptyMap());
+
         return Stream.of(machineType.getAnnotationsByType(TransitionChain.class))
                 .map(chain -> {
                     List<ListenerContainer> requiredListeners = listeners.stream()
@@ -152,15 +162,15 @@ public class SimpleChainStateMachineBuilder extends BasicStateMachineBuilder<CFS
         final Enum<?> to = Enum.valueOf(stateClazzType, chain.to());
         @SuppressWarnings("unchecked")
         final Enum<?> on = Enum.valueOf(chainClazzType, chain.on());
-        Optional<List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> chainParts = this.recursive(from, to);
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts = this.chainParts(from, to, on);
 
-        if (!chainParts.isPresent()) {
+        if (parts.isEmpty()) {
             throw new TransitionChainCreationException(true, from.name(), to.name(), on.name());
         }
 
         @SuppressWarnings("unchecked")
         final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> res = ChainContainer.of(from, to, on)
-                .andAddAll(chainParts.get())
+                .andAddAll(parts)
                 .andAddAll(listeners);
 
         if (LOGGER.isDebugEnabled()) {
@@ -182,119 +192,57 @@ public class SimpleChainStateMachineBuilder extends BasicStateMachineBuilder<CFS
     }
 
     /**
-     * Extracts all chain listeners from a given {@link ChainStateMachine}.
+     * Resolves the parts of a chain. A path precomputed by the {@link MachineDescriptor} is used if present, otherwise the chain is planned.
      *
-     * @param type Chain state machine type.
+     * @param from Start state of the chain.
+     * @param to End state of the chain.
+     * @param on The chain.
      *
-     * @return Collected chain listeners as list.
+     * @return The parts of the chain in execution order. The list is empty if the end state isn't reachable.
      */
-    @SuppressWarnings("unchecked")
-    private List<Pair> extractChainListener(final Class<?> type) {
-        if (!type.isAnnotationPresent(ChainListeners.class) && !type.isAnnotationPresent(ChainListener.class)) {
-            return Collections.EMPTY_LIST;
+    private List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> chainParts(final Enum<?> from, final Enum<?> to, final Enum<?> on) {
+
+        final int[] path = this.chainPaths.get(MachineDescriptor.chainKey(from.name(), to.name(), on.name()));
+
+        if (Objects.nonNull(path) && Arrays.stream(path).allMatch(index -> index < this.transitions.size())) {
+            return Arrays.stream(path)
+                    .mapToObj(this.transitions::get)
+                    .collect(Collectors.toList());
         }
 
-        return Stream.of(type.getAnnotationsByType(ChainListener.class))
-                .map(annot -> {
-                    final Class<?> listener = annot.value();
-                    final ListenerContainer listenerContainer = ListenerContainer.of(listener, this.existsMethod(listener, "before"), this.existsMethod(listener, "after"));
-                    return new Pair(listenerContainer, Arrays.asList(annot.forChains()));
-                })
-                .collect(Collectors.toList());
-    }
+        if (Objects.isNull(this.planner)) {
+            this.planner = TransitionChainPlanner.of(this.stateType, this.transitions);
+        }
 
-    /**
-     * Collects all transitions required by transition chain from the already collected transitions.
-     *
-     * @param from Start state of the transition chain.
-     * @param to End state of the transition chain.
-     *
-     * @return List of all required transitions as containers.
-     */
-    private Optional<List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> recursive(final Enum<?> from, final Enum<?> to) {
+        final TransitionChainPlanner.Plan plan = this.planner.plan(from, to);
 
-        List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> possibleParts = this.transitions.stream()
-                .filter(transition -> transition.getFrom().equals(from))
-                .collect(Collectors.toList());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Chain {} planned in {} ns: {} states visited, {} transitions expanded.", on, plan.getNanos(), plan.getVisitedStates(), plan.getExpandedTransitions());
+        }
 
-        return possibleParts.stream()
-                .map((possiblePart) -> {
-                    List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> temp = new ArrayList<>();
-                    temp.add(possiblePart);
-                    if (!this.recursive(to, possiblePart, temp, 1)) {
-                        return null;
-                    }
-                    return temp;
-                })
-                .filter(Objects::nonNull)
-                .min(Comparator.comparingInt(List::size));
+        return plan.getParts();
     }
 
     /**
-     * Collects all transitions required by transition chain from the already collected transitions in a recursively way. This method searches a way from the start state to the end state.
+     * Extracts all chain listeners from a given {@link ChainStateMachine}.
      *
-     * @param abourt End state of the chain.
-     * @param possiblePart Currently used start transition.
-     * @param chainParts List of all collected transitions.
-     * @param fallback Abort criteria. This is simply a counter which is increased each recursive step. If the counter greater than the current number of available transitions, the algorithm detects
-     * no possible way from the start to the end.
+     * @param type Chain state machine type.
      *
-     * @return True if the end state is located, otherwise false.
+     * @return Collected chain listeners as list.
      */
-    private boolean recursive(final Enum<?> abourt, final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> possiblePart, final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> chainParts, final int fallBack) {
-
-        if (possiblePart.getTo().equals(abourt)) {
-            return true;
-        }
-
-        if (fallBack > this.transitions.size()) {
-            return false;
-        }
-
-        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> nextPossibles = this.transitions.stream()
-                .filter(transition -> transition.getFrom().equals(possiblePart.getTo()))
-                .collect(Collectors.toList());
-
-        if (nextPossibles.isEmpty()) {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("There is no transition available from '{}' to '{}'.", possiblePart.getFrom().name(), abourt.name());
-            }
-            return false;
-        }
-
-        if (nextPossibles.size() == 1) {
-            List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> temp = new ArrayList<>();
-
-            TransitionContainer<? extends Enum<?>, ? extends Enum<?>> toAdd = nextPossibles.get(0);
-
-            chainParts.add(toAdd);
-            if (!this.recursive(abourt, toAdd, temp, fallBack + 1)) {
-                return false;
-            }
-
-            chainParts.addAll(temp);
-            return true;
+    @SuppressWarnings("unchecked")
+    private List<Pair> extractChainListener(final Class<?> type) {
+        if (!type.isAnnotationPresent(ChainListeners.class) && !type.isAnnotationPresent(ChainListener.class)) {
+            return Collections.EMPTY_LIST;
         }
 
-        final List<List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> buffer = nextPossibles.stream()
-                .map((nextPossible) -> {
-                    List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> temp = new ArrayList<>();
-                    temp.add(nextPossible);
-                    if (!this.recursive(abourt, nextPossible, temp, fallBack + 1)) {
-                        return null;
-                    }
-                    return temp;
+        return Stream.of(type.getAnnotationsByType(ChainListener.class))
+                .map(annot -> {
+                    final Class<?> listener = annot.value();
+                    final ListenerContainer listenerContainer = ListenerContainer.of(listener, this.existsMethod(listener, "before"), this.existsMethod(listener, "after"), this.chainType, annot.lifecycle());
+                    return new Pair(listenerContainer, Arrays.asList(annot.forChains()));
                 })
-                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-
-        if (!buffer.isEmpty()) {
-            ///< No parts found
-            chainParts.addAll(buffer.stream().min(Comparator.comparingInt(List::size)).get());
-            return true;
-        }
-
-        return false;
     }
 
     @AllArgsConstructor
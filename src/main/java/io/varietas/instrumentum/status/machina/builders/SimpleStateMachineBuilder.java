@@ -53,7 +53,8 @@ public class SimpleStateMachineBuilder extends BasicStateMachineBuilder<FSMConfi
 
         this.transitions.addAll(this.collectTransitions(machineType));
 
-        this.configuration = DefaultFSMConfiguration.of(machineType, this.stateType, this.eventType).andAddTransitions(this.transitions);
+        this.configuration = DefaultFSMConfiguration.of(machineType, this.stateType, this.eventType).andAddTransitions(this.transitions).andConflictPolicy(machineConfiguration.conflictPolicy())
+                .andMaxRetries(machineConfiguration.maxRetries()).freeze();
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Configuration for '{}' created:\n"
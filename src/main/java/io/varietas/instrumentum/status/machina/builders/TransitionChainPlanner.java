@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.builders;
+
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * <h2>TransitionChainPlanner</h2>
+ * <p>
+ * The transition chain planner calculates the transitions passed by a transition chain. It indexes the collected transitions by their start state once and searches the shortest way from the start
+ * state to the end state of a chain via breadth-first search. Each state and each transition is visited at most once, so an unreachable end state is detected in linear time of the state graph.
+ * <p>
+ * If several shortest ways exist, the way which uses the first collected transitions wins.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public final class TransitionChainPlanner {
+
+    @SuppressWarnings("rawtypes")
+    private final TransitionContainer[][] adjacency;
+
+    @SuppressWarnings("rawtypes")
+    private TransitionChainPlanner(final TransitionContainer[][] adjacency) {
+        this.adjacency = adjacency;
+    }
+
+    /**
+     * Creates a planner for the given transitions.
+     *
+     * @param stateType Type of enumeration which is used to represent the states.
+     * @param transitions Collected transitions of the FSM.
+     *
+     * @return The planner with the indexed transitions.
+     */
+    @SuppressWarnings("rawtypes")
+    public static TransitionChainPlanner of(@NonNull final Class<? extends Enum<?>> stateType, @NonNull final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions) {
+
+        final int states = stateType.getEnumConstants().length;
+        final List<List<TransitionContainer>> outgoing = new ArrayList<>(states);
+
+        for (int state = 0; state < states; state++) {
+            outgoing.add(new ArrayList<>());
+        }
+
+        transitions.forEach(transition -> outgoing.get(transition.getFrom().ordinal()).add(transition));
+
+        final TransitionContainer[][] adjacency = new TransitionContainer[states][];
+
+        for (int state = 0; state < states; state++) {
+            adjacency[state] = outgoing.get(state).toArray(new TransitionContainer[0]);
+        }
+
+        return new TransitionChainPlanner(adjacency);
+    }
+
+    /**
+     * Searches the shortest way from the start state to the end state. A chain contains at least one transition, so a chain whose start state equals its end state requires a cycle.
+     *
+     * @param from Start state of the transition chain.
+     * @param to End state of the transition chain.
+     *
+     * @return The plan of the chain. The plan is unreachable if no way exists.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Plan plan(@NonNull final Enum<?> from, @NonNull final Enum<?> to) {
+
+        final long start = System.nanoTime();
+
+        final TransitionContainer[] via = new TransitionContainer[this.adjacency.length];
+        final boolean[] visited = new boolean[this.adjacency.length];
+        final int[] queue = new int[this.adjacency.length];
+
+        int head = 0;
+        int tail = 0;
+        int expandedTransitions = 0;
+        TransitionContainer last = null;
+
+        queue[tail++] = from.ordinal();
+        visited[from.ordinal()] = true;
+
+        search:
+        while (head < tail) {
+            final int state = queue[head++];
+
+            for (TransitionContainer transition : this.adjacency[state]) {
+                expandedTransitions++;
+
+                final int next = transition.getTo().ordinal();
+
+                if (next == to.ordinal()) {
+                    last = transition;
+                    break search;
+                }
+
+                if (!visited[next]) {
+                    visited[next] = true;
+                    via[next] = transition;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        if (Objects.isNull(last)) {
+            return Plan.of(Collections.emptyList(), tail, expandedTransitions, System.nanoTime() - start);
+        }
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts = new ArrayList<>();
+
+        for (TransitionContainer part = last; Objects.nonNull(part); part = (part.getFrom().ordinal() == from.ordinal()) ? null : via[part.getFrom().ordinal()]) {
+            parts.add(part);
+        }
+
+        Collections.reverse(parts);
+
+        return Plan.of(parts, tail, expandedTransitions, System.nanoTime() - start);
+    }
+
+    /**
+     * <h2>Plan</h2>
+     * <p>
+     * Result of a chain calculation. Besides the transitions of the chain, the plan contains metrics of the search.
+     *
+     * @author Michael Rhöse
+     * @version 1.0.1.0, 10/18/2026
+     */
+    @Value(staticConstructor = "of")
+    public static class Plan {
+
+        /**
+         * Transitions of the chain in execution order. The list is empty if the end state isn't reachable.
+         */
+        List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts;
+
+        /**
+         * Number of states visited by the search.
+         */
+        int visitedStates;
+
+        /**
+         * Number of transitions expanded by the search.
+         */
+        int expandedTransitions;
+
+        /**
+         * Duration of the search in nanoseconds.
+         */
+        long nanos;
+
+        public boolean isReachable() {
+            return !this.parts.isEmpty();
+        }
+    }
+}
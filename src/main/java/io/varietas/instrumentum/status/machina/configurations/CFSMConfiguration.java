@@ -16,6 +16,7 @@
 package io.varietas.instrumentum.status.machina.configurations;
 
 import io.varietas.instrumentum.status.machina.containers.ChainContainer;
+import io.varietas.instrumentum.status.machina.containers.ChainTable;
 import java.util.List;
 
 /**
@@ -45,4 +46,13 @@ public interface CFSMConfiguration extends FSMConfiguration {
      * @return Chain type.
      */
     Class<? extends Enum<?>> getChainType();
+
+    /**
+     * Returns the compiled chain table of the FSM type. The default implementation compiles the table from the collected chains on each call, implementations should cache it.
+     *
+     * @return Chain table.
+     */
+    default ChainTable getChainTable() {
+        return ChainTable.of(this.getStateType(), this.getChainType(), this.getChains());
+    }
 }
@@ -0,0 +1,544 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.configurations;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
+import io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle;
+import io.varietas.instrumentum.status.machina.builders.MachineDescriptor;
+import io.varietas.instrumentum.status.machina.containers.ChainContainer;
+import io.varietas.instrumentum.status.machina.containers.ListenerContainer;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.invokers.GuardInvoker;
+import io.varietas.instrumentum.status.machina.invokers.Invokers;
+import io.varietas.instrumentum.status.machina.invokers.TransitionInvoker;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>ConfigurationCodec</h2>
+ * <p>
+ * The configuration codec writes a {@link FSMConfiguration} or {@link CFSMConfiguration} into a compact binary form and restores it without scanning the annotations of the machine type. Types are
+ * stored by name, enumeration constants by ordinal, guards by the name of the guard method and chain parts by the index of the transition. Each enumeration type is stored with a fingerprint of
+ * its constants, so a configuration which was written for other constants is rejected.
+ * <p>
+ * The {@link ConfigurationExporter} stores the configurations at build time as class path resources below {@value #LOCATION}. The
+ * {@link io.varietas.instrumentum.status.machina.StateMachineFactory} loads them via {@link #load(Class)} in place of the annotation scan. The transitions of a restored configuration are taken from
+ * the generated {@link MachineDescriptor} if present, otherwise the transition methods are resolved by name and parameter types.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConfigurationCodec {
+
+    /**
+     * Location of the stored configurations within the class path.
+     */
+    public static final String LOCATION = "META-INF/status-machina/";
+
+    /**
+     * Extension of a stored configuration.
+     */
+    public static final String EXTENSION = ".smc";
+
+    /**
+     * Resource which lists the machine types with a stored configuration, one binary name per line.
+     */
+    public static final String INDEX = LOCATION + "machines";
+
+    private static final int MAGIC = 0x534D4303;
+
+    private static final int UNKNOWN_PARAMETERS = -1;
+
+    /**
+     * Returns the name of the resource which stores the configuration of a machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return Name of the resource.
+     */
+    public static String resourceName(@NonNull final Class<?> machineType) {
+        return LOCATION + machineType.getName() + EXTENSION;
+    }
+
+    /**
+     * Writes the given configuration to the stream. The stream isn't closed.
+     *
+     * @param configuration The configuration.
+     * @param out Target stream.
+     *
+     * @throws IOException Thrown if writing fails or a chain part isn't a transition of the configuration.
+     */
+    public static void write(@NonNull final FSMConfiguration configuration, @NonNull final OutputStream out) throws IOException {
+
+        final DataOutputStream data = new DataOutputStream(out);
+        final boolean chained = configuration instanceof CFSMConfiguration;
+
+        data.writeInt(MAGIC);
+        data.writeBoolean(chained);
+        data.writeUTF(configuration.getMachineType().getName());
+        ConfigurationCodec.writeType(data, configuration.getStateType());
+        ConfigurationCodec.writeType(data, configuration.getEventType());
+        data.writeByte(configuration.getConflictPolicy().ordinal());
+        data.writeInt(configuration.getMaxRetries());
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = configuration.getTransitions();
+        final Map<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>, Integer> indexes = new IdentityHashMap<>();
+
+        data.writeInt(transitions.size());
+
+        for (int index = 0; index < transitions.size(); ++index) {
+            final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition = transitions.get(index);
+            indexes.putIfAbsent(transition, index);
+
+            data.writeShort(transition.getFrom().ordinal());
+            data.writeShort(transition.getTo().ordinal());
+            data.writeShort(transition.getOn().ordinal());
+            data.writeUTF(transition.getMethodName());
+
+            if (Objects.isNull(transition.getCalledMethod())) {
+                data.writeByte(UNKNOWN_PARAMETERS);
+            } else {
+                data.writeByte(transition.getCalledMethod().getParameterCount());
+                for (Class<?> parameterType : transition.getCalledMethod().getParameterTypes()) {
+                    data.writeUTF(parameterType.getName());
+                }
+            }
+
+            ConfigurationCodec.writeListeners(data, transition.getListeners());
+            data.writeUTF(Objects.nonNull(transition.getGuardName()) ? transition.getGuardName() : "");
+        }
+
+        if (chained) {
+            final CFSMConfiguration chainConfiguration = (CFSMConfiguration) configuration;
+
+            ConfigurationCodec.writeType(data, chainConfiguration.getChainType());
+            data.writeInt(chainConfiguration.getChains().size());
+
+            for (ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain : chainConfiguration.getChains()) {
+                data.writeShort(chain.getFrom().ordinal());
+                data.writeShort(chain.getTo().ordinal());
+                data.writeShort(chain.getOn().ordinal());
+                data.writeInt(chain.getChainParts().size());
+
+                for (TransitionContainer<? extends Enum<?>, ? extends Enum<?>> part : chain.getChainParts()) {
+                    final int index = indexes.containsKey(part) ? indexes.get(part) : transitions.indexOf(part);
+
+                    if (index < 0) {
+                        throw new IOException("Chain part " + part + " of chain " + chain.getOn() + " isn't a transition of the configuration.");
+                    }
+                    data.writeInt(index);
+                }
+
+                ConfigurationCodec.writeListeners(data, chain.getListeners());
+            }
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Reads a configuration which was written by {@link #write(FSMConfiguration, OutputStream)}. The restored configuration is frozen. The stream isn't closed.
+     *
+     * @param in Source stream.
+     * @param loader Class loader which is used to resolve the stored types.
+     *
+     * @return The restored configuration.
+     *
+     * @throws IOException Thrown if reading fails or the stored configuration doesn't match the types available via the class loader.
+     */
+    public static FSMConfiguration read(@NonNull final InputStream in, @NonNull final ClassLoader loader) throws IOException {
+
+        final DataInputStream data = new DataInputStream(in);
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Stream doesn't contain a stored configuration.");
+        }
+
+        final boolean chained = data.readBoolean();
+        final Class<? extends StateMachine> machineType = ConfigurationCodec.resolve(data.readUTF(), loader).asSubclass(StateMachine.class);
+        final Class<? extends Enum<?>> stateType = ConfigurationCodec.readType(data, loader);
+        final Class<? extends Enum<?>> eventType = ConfigurationCodec.readType(data, loader);
+        final ConflictPolicy conflictPolicy = ConfigurationCodec.constant(ConflictPolicy.class.getEnumConstants(), data.readUnsignedByte());
+        final int maxRetries = data.readInt();
+
+        final Enum<?>[] states = stateType.getEnumConstants();
+        final Enum<?>[] events = eventType.getEnumConstants();
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> described = MachineDescriptor.find(machineType)
+                .map(descriptor -> descriptor.createTransitions().stream().distinct().collect(Collectors.toList()))
+                .orElse(null);
+        final Map<Method, TransitionInvoker> invokers = new HashMap<>();
+        final Map<String, GuardInvoker> guards = new HashMap<>();
+
+        final int transitionCount = data.readInt();
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = new ArrayList<>(transitionCount);
+
+        if (Objects.nonNull(described) && described.size() != transitionCount) {
+            throw new IOException("Configuration of '" + machineType.getName() + "' doesn't match the generated descriptor.");
+        }
+
+        for (int index = 0; index < transitionCount; ++index) {
+            final Enum<?> from = ConfigurationCodec.constant(states, data.readUnsignedShort());
+            final Enum<?> to = ConfigurationCodec.constant(states, data.readUnsignedShort());
+            final Enum<?> on = ConfigurationCodec.constant(events, data.readUnsignedShort());
+            final String methodName = data.readUTF();
+            final Class<?>[] parameterTypes = ConfigurationCodec.readParameterTypes(data, loader);
+            final List<ListenerSpec> listeners = ConfigurationCodec.readListeners(data, loader);
+            final String guardName = data.readUTF();
+
+            if (Objects.nonNull(described)) {
+                final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition = described.get(index);
+
+                if (transition.getFrom() != from || transition.getTo() != to || transition.getOn() != on || !transition.getMethodName().equals(methodName)
+                        || !guardName.equals(Objects.nonNull(transition.getGuardName()) ? transition.getGuardName() : "")) {
+                    throw new IOException("Transition " + transition + " of '" + machineType.getName() + "' doesn't match the generated descriptor.");
+                }
+                transitions.add(transition);
+                continue;
+            }
+
+            if (Objects.isNull(parameterTypes)) {
+                throw new IOException("Method '" + methodName + "' of '" + machineType.getName() + "' requires the generated descriptor.");
+            }
+
+            final Method method;
+            try {
+                method = machineType.getMethod(methodName, parameterTypes);
+            }
+            catch (NoSuchMethodException ex) {
+                throw new IOException("Method '" + methodName + "' of '" + machineType.getName() + "' isn't available.", ex);
+            }
+
+            final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition = TransitionContainer.of(from, to, on, method, invokers.computeIfAbsent(method, Invokers::transition))
+                    .andAddListeners(ConfigurationCodec.createListeners(listeners, eventType));
+
+            if (guardName.isEmpty()) {
+                transitions.add(transition);
+                continue;
+            }
+
+            try {
+                transitions.add(transition.andGuard(guardName, guards.computeIfAbsent(guardName, guard -> Invokers.guard(machineType, guard))));
+            }
+            catch (IllegalArgumentException ex) {
+                throw new IOException(ex.getMessage(), ex);
+            }
+        }
+
+        if (!chained) {
+            return DefaultFSMConfiguration.of(machineType, stateType, eventType)
+                    .andAddTransitions(transitions)
+                    .andConflictPolicy(conflictPolicy)
+                    .andMaxRetries(maxRetries)
+                    .freeze();
+        }
+
+        final Class<? extends Enum<?>> chainType = ConfigurationCodec.readType(data, loader);
+        final Enum<?>[] chainEvents = chainType.getEnumConstants();
+
+        final int chainCount = data.readInt();
+        final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> chains = new ArrayList<>(chainCount);
+
+        for (int index = 0; index < chainCount; ++index) {
+            final Enum<?> from = ConfigurationCodec.constant(states, data.readUnsignedShort());
+            final Enum<?> to = ConfigurationCodec.constant(states, data.readUnsignedShort());
+            final Enum<?> on = ConfigurationCodec.constant(chainEvents, data.readUnsignedShort());
+
+            final int partCount = data.readInt();
+            final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts = new ArrayList<>(partCount);
+
+            for (int part = 0; part < partCount; ++part) {
+                final int partIndex = data.readInt();
+
+                if (partIndex < 0 || partIndex >= transitions.size()) {
+                    throw new IOException("Chain part " + partIndex + " of chain " + on + " is out of range.");
+                }
+                parts.add(transitions.get(partIndex));
+            }
+
+            @SuppressWarnings("unchecked")
+            final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain = ChainContainer.of(from, to, on)
+                    .andAddAll(parts)
+                    .andAddAll(ConfigurationCodec.createListeners(ConfigurationCodec.readListeners(data, loader), chainType));
+            chains.add(chain);
+        }
+
+        return DefaultCFSMConfiguration.of(machineType, stateType, eventType, chainType)
+                .andAddChains(chains)
+                .andAddTransitions(transitions)
+                .andConflictPolicy(conflictPolicy)
+                .andMaxRetries(maxRetries)
+                .freeze();
+    }
+
+    /**
+     * Loads the stored configuration of a machine type from the class path of the machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return The restored configuration, otherwise an empty Optional if no usable configuration is stored.
+     */
+    public static Optional<FSMConfiguration> load(@NonNull final Class<? extends StateMachine> machineType) {
+        return ConfigurationCodec.load(machineType, ConfigurationCodec.classLoader(machineType));
+    }
+
+    /**
+     * Loads the stored configuration of a machine type via the given class loader. A configuration which can't be read is skipped with a warning, so the caller can fall back to the annotation
+     * scan.
+     *
+     * @param machineType The machine type.
+     * @param loader Class loader which provides the resource.
+     *
+     * @return The restored configuration, otherwise an empty Optional if no usable configuration is stored.
+     */
+    public static Optional<FSMConfiguration> load(@NonNull final Class<? extends StateMachine> machineType, @NonNull final ClassLoader loader) {
+
+        final String resourceName = ConfigurationCodec.resourceName(machineType);
+
+        try (InputStream in = loader.getResourceAsStream(resourceName)) {
+
+            if (Objects.isNull(in)) {
+                return Optional.empty();
+            }
+
+            final FSMConfiguration configuration = ConfigurationCodec.read(in, loader);
+
+            if (configuration.getMachineType() != machineType) {
+                throw new IOException("Resource describes '" + configuration.getMachineType().getName() + "'.");
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Stored configuration '{}' used for '{}'.", resourceName, machineType.getName());
+            }
+
+            return Optional.of(configuration);
+        }
+        catch (IOException ex) {
+
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Couldn't use stored configuration '{}', annotations are scanned. {}: {}", resourceName, ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the machine types which are listed by all {@value #INDEX} resources of the class loader. Machine types which can't be resolved are skipped with a warning.
+     *
+     * @param loader Class loader which provides the resources and the machine types.
+     *
+     * @return Listed machine types in order of appearance.
+     *
+     * @throws UncheckedIOException Thrown if an index can't be read.
+     */
+    public static List<Class<? extends StateMachine>> indexedMachineTypes(@NonNull final ClassLoader loader) {
+
+        final Set<String> names = new LinkedHashSet<>();
+
+        try {
+            final Enumeration<URL> indexes = loader.getResources(INDEX);
+
+            while (indexes.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(names::add);
+                }
+            }
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Couldn't read index of stored configurations.", ex);
+        }
+
+        final List<Class<? extends StateMachine>> res = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            try {
+                res.add(ConfigurationCodec.resolve(name, loader).asSubclass(StateMachine.class));
+            }
+            catch (IOException | ClassCastException ex) {
+
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Indexed machine type '{}' skipped. {}: {}", name, ex.getClass().getSimpleName(), ex.getMessage());
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(res);
+    }
+
+    private static ClassLoader classLoader(final Class<?> type) {
+        return Objects.nonNull(type.getClassLoader()) ? type.getClassLoader() : ClassLoader.getSystemClassLoader();
+    }
+
+    private static void writeType(final DataOutputStream data, final Class<? extends Enum<?>> type) throws IOException {
+        data.writeUTF(type.getName());
+        data.writeInt(ConfigurationCodec.fingerprint(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Enum<?>> readType(final DataInputStream data, final ClassLoader loader) throws IOException {
+
+        final Class<?> type = ConfigurationCodec.resolve(data.readUTF(), loader);
+
+        if (!type.isEnum()) {
+            throw new IOException("Type '" + type.getName() + "' isn't an enumeration.");
+        }
+
+        final Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>) type;
+
+        if (data.readInt() != ConfigurationCodec.fingerprint(enumType)) {
+            throw new IOException("Constants of '" + type.getName() + "' have changed.");
+        }
+
+        return enumType;
+    }
+
+    private static int fingerprint(final Class<? extends Enum<?>> type) {
+        return Arrays.hashCode(Arrays.stream(type.getEnumConstants()).map(Enum::name).toArray());
+    }
+
+    private static Class<?>[] readParameterTypes(final DataInputStream data, final ClassLoader loader) throws IOException {
+
+        final int count = data.readByte();
+
+        if (count == UNKNOWN_PARAMETERS) {
+            return null;
+        }
+
+        final Class<?>[] res = new Class<?>[count];
+
+        for (int index = 0; index < count; ++index) {
+            res[index] = ConfigurationCodec.resolve(data.readUTF(), loader);
+        }
+
+        return res;
+    }
+
+    private static void writeListeners(final DataOutputStream data, final List<ListenerContainer> listeners) throws IOException {
+
+        data.writeShort(listeners.size());
+
+        for (ListenerContainer listener : listeners) {
+            data.writeUTF(listener.getListener().getName());
+            data.writeByte(listener.getLifecycle().ordinal());
+            data.writeBoolean(listener.isBefore());
+            data.writeBoolean(listener.isAfter());
+        }
+    }
+
+    private static List<ListenerSpec> readListeners(final DataInputStream data, final ClassLoader loader) throws IOException {
+
+        final int count = data.readUnsignedShort();
+        final List<ListenerSpec> res = new ArrayList<>(count);
+
+        for (int index = 0; index < count; ++index) {
+            res.add(ListenerSpec.of(
+                    ConfigurationCodec.resolve(data.readUTF(), loader),
+                    ConfigurationCodec.constant(ListenerLifecycle.class.getEnumConstants(), data.readUnsignedByte()),
+                    data.readBoolean(),
+                    data.readBoolean()
+            ));
+        }
+
+        return res;
+    }
+
+    private static List<ListenerContainer> createListeners(final List<ListenerSpec> listeners, final Class<? extends Enum<?>> eventType) {
+        return listeners.stream()
+                .map(listener -> ListenerContainer.of(listener.getType(), listener.isBefore(), listener.isAfter(), eventType, listener.getLifecycle()))
+                .collect(Collectors.toList());
+    }
+
+    private static Class<?> resolve(final String name, final ClassLoader loader) throws IOException {
+
+        switch (name) {
+            case "boolean":
+                return boolean.class;
+            case "byte":
+                return byte.class;
+            case "char":
+                return char.class;
+            case "short":
+                return short.class;
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "float":
+                return float.class;
+            case "double":
+                return double.class;
+            default:
+                break;
+        }
+
+        try {
+            return Class.forName(name, false, loader);
+        }
+        catch (ClassNotFoundException | LinkageError ex) {
+            throw new IOException("Type '" + name + "' isn't available.", ex);
+        }
+    }
+
+    private static <CONSTANT> CONSTANT constant(final CONSTANT[] constants, final int ordinal) throws IOException {
+
+        if (ordinal >= constants.length) {
+            throw new IOException("Ordinal " + ordinal + " of '" + constants.getClass().getComponentType().getName() + "' is out of range.");
+        }
+
+        return constants[ordinal];
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ListenerSpec {
+
+        Class<?> type;
+        ListenerLifecycle lifecycle;
+        boolean before;
+        boolean after;
+    }
+}
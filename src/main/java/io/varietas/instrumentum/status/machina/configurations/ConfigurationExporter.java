@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.configurations;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ChainConfiguration;
+import io.varietas.instrumentum.status.machina.builders.SimpleChainStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>ConfigurationExporter</h2>
+ * <p>
+ * The configuration exporter extracts the configurations of machine types via the annotation scan and stores them with the {@link ConfigurationCodec} as class path resources. Additionally, the
+ * index {@value ConfigurationCodec#INDEX} lists all exported machine types, which allows warming up all of them via {@link io.varietas.instrumentum.status.machina.StateMachineFactory#warmUp()}.
+ * <p>
+ * The exporter is intended to run at build time after the machine types are compiled, e.g. via the exec-maven-plugin in the {@code process-classes} phase:
+ * <pre>
+ * java -cp ... io.varietas.instrumentum.status.machina.configurations.ConfigurationExporter target/classes com.example.OrderMachine com.example.PaymentMachine
+ * </pre>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConfigurationExporter {
+
+    /**
+     * Exports the configurations of the given machine types and the index below the given directory. An existing index is replaced.
+     *
+     * @param directory Root directory of the class path, e.g. the class output directory of the build.
+     * @param machineTypes Machine types which are exported.
+     *
+     * @throws IOException Thrown if a resource can't be written.
+     */
+    public static void export(@NonNull final Path directory, @NonNull final Collection<Class<? extends StateMachine>> machineTypes) throws IOException {
+
+        for (Class<? extends StateMachine> machineType : machineTypes) {
+            final Path resource = directory.resolve(ConfigurationCodec.resourceName(machineType));
+            Files.createDirectories(resource.getParent());
+
+            try (OutputStream out = Files.newOutputStream(resource)) {
+                ConfigurationCodec.write(ConfigurationExporter.extractConfiguration(machineType), out);
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Configuration of '{}' exported to '{}'.", machineType.getName(), resource);
+            }
+        }
+
+        final Path index = directory.resolve(ConfigurationCodec.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, machineTypes.stream().map(Class::getName).collect(Collectors.toList()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Exports the configurations of machine types. The first argument is the target directory, all further arguments are the binary names of the machine types.
+     *
+     * @param args Target directory and machine types.
+     *
+     * @throws IOException Thrown if a resource can't be written.
+     * @throws ClassNotFoundException Thrown if a machine type isn't available.
+     */
+    public static void main(final String... args) throws IOException, ClassNotFoundException {
+
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ConfigurationExporter <directory> <machine type>...");
+        }
+
+        final ClassLoader loader = Objects.nonNull(Thread.currentThread().getContextClassLoader()) ? Thread.currentThread().getContextClassLoader() : ConfigurationExporter.class.getClassLoader();
+        final List<Class<? extends StateMachine>> machineTypes = new ArrayList<>(args.length - 1);
+
+        for (int index = 1; index < args.length; ++index) {
+            machineTypes.add(Class.forName(args[index], false, loader).asSubclass(StateMachine.class));
+        }
+
+        ConfigurationExporter.export(Paths.get(args[0]), machineTypes);
+    }
+
+    private static FSMConfiguration extractConfiguration(final Class<? extends StateMachine> machineType) {
+
+        if (Objects.nonNull(machineType.getDeclaredAnnotation(ChainConfiguration.class))) {
+            return SimpleChainStateMachineBuilder.getBuilder().extractConfiguration(machineType).configuration();
+        }
+
+        return SimpleStateMachineBuilder.getBuilder().extractConfiguration(machineType).configuration();
+    }
+}
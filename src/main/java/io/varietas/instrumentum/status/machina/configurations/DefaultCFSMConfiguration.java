@@ -16,15 +16,22 @@
 package io.varietas.instrumentum.status.machina.configurations;
 
 import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
 import io.varietas.instrumentum.status.machina.containers.ChainContainer;
+import io.varietas.instrumentum.status.machina.containers.ChainTable;
 import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 
 /**
  * <h2>CFSMConfigurationImpl</h2>
@@ -32,8 +39,8 @@ import lombok.Value;
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/27/2017
  */
-@ToString(callSuper = true)
-@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = "chainTable")
+@EqualsAndHashCode(callSuper = true, exclude = "chainTable")
 @Value
 public class DefaultCFSMConfiguration extends DefaultFSMConfiguration implements CFSMConfiguration {
 
@@ -41,6 +48,10 @@ public class DefaultCFSMConfiguration extends DefaultFSMConfiguration implements
 
     private final Class<? extends Enum<?>> chainType;
 
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    private volatile ChainTable chainTable;
+
     private DefaultCFSMConfiguration(
             final Class<? extends StateMachine> machineType,
             final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions,
@@ -53,6 +64,22 @@ public class DefaultCFSMConfiguration extends DefaultFSMConfiguration implements
         this.chainType = chainType;
     }
 
+    /**
+     * Creates the frozen snapshot of a configuration with the settings of the given source.
+     *
+     * @param source Configuration which is frozen.
+     * @param transitions Frozen transitions.
+     * @param chains Frozen chains.
+     */
+    private DefaultCFSMConfiguration(
+            final DefaultCFSMConfiguration source,
+            final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions,
+            final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> chains) {
+        super(source.getMachineType(), transitions, source.getStateType(), source.getEventType(), source.getConflictPolicy(), source.getMaxRetries(), true);
+        this.chains = chains;
+        this.chainType = source.chainType;
+    }
+
     public static DefaultCFSMConfiguration of(final Class<? extends StateMachine> machineType, final Class<? extends Enum<?>> stateType, final Class<? extends Enum<?>> eventType, final Class<? extends Enum<?>> chainType) {
 
         return new DefaultCFSMConfiguration(machineType, new ArrayList<>(), new ArrayList<>(), stateType, eventType, chainType);
@@ -67,7 +94,10 @@ public class DefaultCFSMConfiguration extends DefaultFSMConfiguration implements
      */
     public DefaultCFSMConfiguration andAddChain(@NonNull final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> container) {
 
+        this.checkNotFrozen();
+
         this.chains.add(container);
+        this.chainTable = null;
 
         return this;
     }
@@ -81,21 +111,86 @@ public class DefaultCFSMConfiguration extends DefaultFSMConfiguration implements
      */
     public DefaultCFSMConfiguration andAddChains(final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> containers) {
 
+        this.checkNotFrozen();
+
         if (Objects.isNull(containers) || containers.isEmpty()) {
             return this;
         }
 
         this.chains.addAll(containers);
+        this.chainTable = null;
+
+        return this;
+    }
+
+    /**
+     * Compiles the collected transitions into the transition table and the collected chains into the {@link ChainTable}. Adding chains afterwards invalidates the chain table and it is compiled again
+     * on next access.
+     *
+     * @return The instance of this container for a fluent like usage.
+     */
+    @Override
+    public DefaultCFSMConfiguration compile() {
+        super.compile();
+
+        this.chainTable = ChainTable.of(this.getStateType(), this.chainType, this.chains);
 
         return this;
     }
 
+    /**
+     * Creates an immutable snapshot of this configuration. Transitions and chains are frozen and stored in compact immutable lists, the chain parts refer to the frozen transitions of the snapshot.
+     * Transition table and chain table are compiled.
+     *
+     * @return The immutable snapshot of this configuration.
+     */
+    @Override
+    public DefaultCFSMConfiguration freeze() {
+
+        if (this.isFrozen()) {
+            return this;
+        }
+
+        final Map<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>, TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> frozenTransitions = new IdentityHashMap<>();
+        this.getTransitions().forEach(transition -> frozenTransitions.put(transition, transition.freeze()));
+
+        final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> frozenChains = new ArrayList<>(this.chains.size());
+        this.chains.forEach(chain -> frozenChains.add(chain.freeze(part -> frozenTransitions.containsKey(part) ? frozenTransitions.get(part) : part.freeze())));
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = new ArrayList<>(this.getTransitions().size());
+        this.getTransitions().forEach(transition -> transitions.add(frozenTransitions.get(transition)));
+
+        return new DefaultCFSMConfiguration(this, List.copyOf(transitions), List.copyOf(frozenChains)).compile();
+    }
+
+    @Override
+    public ChainTable getChainTable() {
+
+        if (Objects.isNull(this.chainTable)) {
+            this.compile();
+        }
+
+        return this.chainTable;
+    }
+
     @Override
     public DefaultCFSMConfiguration andAddTransitions(List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> containers) {
         super.andAddTransitions(containers);
         return this;
     }
 
+    @Override
+    public DefaultCFSMConfiguration andConflictPolicy(ConflictPolicy conflictPolicy) {
+        super.andConflictPolicy(conflictPolicy);
+        return this;
+    }
+
+    @Override
+    public DefaultCFSMConfiguration andMaxRetries(int maxRetries) {
+        super.andMaxRetries(maxRetries);
+        return this;
+    }
+
     @Override
     public DefaultCFSMConfiguration andAddTransition(TransitionContainer<? extends Enum<?>, ? extends Enum<?>> container) {
         super.andAddTransition(container);
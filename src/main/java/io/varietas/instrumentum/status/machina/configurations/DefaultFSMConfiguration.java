@@ -16,12 +16,18 @@
 package io.varietas.instrumentum.status.machina.configurations;
 
 import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
 import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.containers.TransitionIndex;
+import io.varietas.instrumentum.status.machina.containers.TransitionTable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 import lombok.Value;
@@ -31,15 +37,18 @@ import lombok.experimental.NonFinal;
  * <h2>DefaultFSMConfiguration</h2>
  * <p>
  * This class represents a container to use FSM in a dependency injection framework like Spring. It allows the separate storing of configuration as singleton.
+ * <p>
+ * A configuration is mutable while it is assembled. {@link #freeze()} creates an immutable snapshot with compact lists and compiled tables, which can be shared safely between machines and threads.
+ * All settings of a snapshot are passed to its constructor and reachable via final fields only, so they are visible to every thread which sees the snapshot.
+ * The builders freeze each extracted configuration.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/10/2017
  */
-@ToString
-@EqualsAndHashCode
+@ToString(exclude = {"transitionTable", "transitionIndex", "frozen"})
+@EqualsAndHashCode(exclude = {"transitionTable", "transitionIndex", "frozen"})
 @Value
 @NonFinal
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class DefaultFSMConfiguration implements FSMConfiguration {
 
     private final Class<? extends StateMachine> machineType;
@@ -50,6 +59,43 @@ public class DefaultFSMConfiguration implements FSMConfiguration {
 
     private final Class<? extends Enum<?>> eventType;
 
+    @Getter(AccessLevel.NONE)
+    private final Settings settings;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    private volatile TransitionTable transitionTable;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    private volatile TransitionIndex transitionIndex;
+
+    private final boolean frozen;
+
+    protected DefaultFSMConfiguration(
+            final Class<? extends StateMachine> machineType,
+            final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions,
+            final Class<? extends Enum<?>> stateType,
+            final Class<? extends Enum<?>> eventType) {
+        this(machineType, transitions, stateType, eventType, ConflictPolicy.FAIL, ConflictPolicy.DEFAULT_MAX_RETRIES, false);
+    }
+
+    protected DefaultFSMConfiguration(
+            final Class<? extends StateMachine> machineType,
+            final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions,
+            final Class<? extends Enum<?>> stateType,
+            final Class<? extends Enum<?>> eventType,
+            final ConflictPolicy conflictPolicy,
+            final int maxRetries,
+            final boolean frozen) {
+        this.machineType = machineType;
+        this.transitions = transitions;
+        this.stateType = stateType;
+        this.eventType = eventType;
+        this.settings = new Settings(conflictPolicy, maxRetries);
+        this.frozen = frozen;
+    }
+
     public static DefaultFSMConfiguration of(Class<? extends StateMachine> machineType, final Class<? extends Enum<?>> stateType, final Class<? extends Enum<?>> eventType) {
 
         return new DefaultFSMConfiguration(machineType, new ArrayList<>(), stateType, eventType);
@@ -64,7 +110,11 @@ public class DefaultFSMConfiguration implements FSMConfiguration {
      */
     public DefaultFSMConfiguration andAddTransition(@NonNull final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> container) {
 
+        this.checkNotFrozen();
+
         this.transitions.add(container);
+        this.transitionTable = null;
+        this.transitionIndex = null;
 
         return this;
     }
@@ -78,12 +128,138 @@ public class DefaultFSMConfiguration implements FSMConfiguration {
      */
     public DefaultFSMConfiguration andAddTransitions(@NonNull final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> containers) {
 
+        this.checkNotFrozen();
+
         if (containers.isEmpty()) {
             throw new NullPointerException("Empty list isn't allowed");
         }
 
         this.transitions.addAll(containers);
+        this.transitionTable = null;
+        this.transitionIndex = null;
+
+        return this;
+    }
+
+    /**
+     * Sets the policy for concurrently changed states of atomic targets.
+     *
+     * @param conflictPolicy Conflict policy of the FSM.
+     *
+     * @return The instance of this container for a fluent like usage.
+     */
+    public DefaultFSMConfiguration andConflictPolicy(@NonNull final ConflictPolicy conflictPolicy) {
+
+        this.checkNotFrozen();
+
+        this.settings.setConflictPolicy(conflictPolicy);
+
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of retries of a conflicting transition if the conflict policy is {@link ConflictPolicy#RETRY}.
+     *
+     * @param maxRetries Maximum number of retries, zero disables retries.
+     *
+     * @return The instance of this container for a fluent like usage.
+     */
+    public DefaultFSMConfiguration andMaxRetries(final int maxRetries) {
+
+        this.checkNotFrozen();
+
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Maximum number of retries must not be negative.");
+        }
+
+        this.settings.setMaxRetries(maxRetries);
+
+        return this;
+    }
+
+    /**
+     * Compiles the collected transitions into the {@link TransitionTable} and the {@link TransitionIndex}. Adding transitions afterwards invalidates the table and it is compiled again on next access.
+     *
+     * @return The instance of this container for a fluent like usage.
+     */
+    public DefaultFSMConfiguration compile() {
+
+        final TransitionTable table = TransitionTable.of(this.stateType, this.eventType, this.transitions);
+
+        this.transitionIndex = TransitionIndex.of(table, this.transitions);
+        this.transitionTable = table;
 
         return this;
     }
+
+    /**
+     * Creates an immutable snapshot of this configuration. The transitions are frozen via {@link TransitionContainer#freeze()} and stored in a compact immutable list, the transition table is
+     * compiled. The settings are passed to the constructor of the snapshot and can't be changed afterwards. Adding transitions to the snapshot fails with an {@link IllegalStateException}. Freezing a
+     * frozen configuration returns the configuration itself.
+     *
+     * @return The immutable snapshot of this configuration.
+     */
+    public DefaultFSMConfiguration freeze() {
+
+        if (this.frozen) {
+            return this;
+        }
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> frozenTransitions = new ArrayList<>(this.transitions.size());
+        this.transitions.forEach(transition -> frozenTransitions.add(transition.freeze()));
+
+        return new DefaultFSMConfiguration(this.machineType, List.copyOf(frozenTransitions), this.stateType, this.eventType, this.getConflictPolicy(), this.getMaxRetries(), true).compile();
+    }
+
+    /**
+     * Throws an exception if the configuration is frozen.
+     */
+    protected void checkNotFrozen() {
+
+        if (this.frozen) {
+            throw new IllegalStateException("Configuration of '" + this.machineType.getName() + "' is frozen.");
+        }
+    }
+
+    @Override
+    public ConflictPolicy getConflictPolicy() {
+        return this.settings.getConflictPolicy();
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return this.settings.getMaxRetries();
+    }
+
+    @Override
+    public TransitionTable getTransitionTable() {
+
+        if (Objects.isNull(this.transitionTable)) {
+            this.compile();
+        }
+
+        return this.transitionTable;
+    }
+
+    @Override
+    public TransitionIndex getTransitionIndex() {
+
+        if (Objects.isNull(this.transitionIndex)) {
+            this.compile();
+        }
+
+        return this.transitionIndex;
+    }
+
+    /**
+     * Settings of a configuration which can be changed until the configuration is frozen.
+     */
+    @Data
+    @AllArgsConstructor
+    private static class Settings {
+
+        private ConflictPolicy conflictPolicy;
+
+        private int maxRetries;
+    }
 }
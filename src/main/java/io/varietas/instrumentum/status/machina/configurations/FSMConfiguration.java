@@ -16,8 +16,12 @@
 package io.varietas.instrumentum.status.machina.configurations;
 
 import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
 import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.containers.TransitionIndex;
+import io.varietas.instrumentum.status.machina.containers.TransitionTable;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <h2>FSMConfiguration</h2>
@@ -46,6 +50,16 @@ public interface FSMConfiguration {
      */
     List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> getTransitions();
 
+    /**
+     * Returns the compiled transition table of the FSM type. The table allows the resolving of a transition by the ordinals of the current state and the upcoming event. The default implementation
+     * compiles the table from the collected transitions on each call, implementations should cache it.
+     *
+     * @return Compiled transition table.
+     */
+    default TransitionTable getTransitionTable() {
+        return TransitionTable.of(this.getStateType(), this.getEventType(), this.getTransitions());
+    }
+
     /**
      * Returns the state type of the current FSM type.
      *
@@ -59,4 +73,77 @@ public interface FSMConfiguration {
      * @return event type.
      */
     Class<? extends Enum<?>> getEventType();
+
+    /**
+     * Returns the policy for concurrently changed states of atomic targets.
+     *
+     * @return Conflict policy.
+     */
+    default ConflictPolicy getConflictPolicy() {
+        return ConflictPolicy.FAIL;
+    }
+
+    /**
+     * Returns the maximum number of retries of a conflicting transition if the conflict policy is {@link ConflictPolicy#RETRY}.
+     *
+     * @return Maximum number of retries.
+     */
+    default int getMaxRetries() {
+        return ConflictPolicy.DEFAULT_MAX_RETRIES;
+    }
+
+    /**
+     * Returns the index of the transitions per state. The default implementation builds the index from the transition table and the collected transitions on each call, implementations should cache
+     * it.
+     *
+     * @return Transition index.
+     */
+    default TransitionIndex getTransitionIndex() {
+        return TransitionIndex.of(this.getTransitionTable(), this.getTransitions());
+    }
+
+    /**
+     * Returns the events which can be fired on a target in the given state.
+     *
+     * @param state Current state of a target.
+     *
+     * @return Unmodifiable set of allowed events.
+     */
+    default Set<Enum<?>> allowedEvents(final Enum<?> state) {
+        return this.getTransitionIndex().allowedEvents(state);
+    }
+
+    /**
+     * Checks if the given event can be fired on a target in the given state without firing it. Guards aren't evaluated, so firing a guarded event may still be rejected.
+     *
+     * @param state Current state of a target.
+     * @param event Event which should be fired.
+     *
+     * @return True if a transition is available, otherwise false.
+     */
+    default boolean canFire(final Enum<?> state, final Enum<?> event) {
+        return this.getTransitionIndex().canFire(state, event);
+    }
+
+    /**
+     * Returns the transitions which start at the given state.
+     *
+     * @param state Start state.
+     *
+     * @return Unmodifiable list of outgoing transitions.
+     */
+    default List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitionsFrom(final Enum<?> state) {
+        return this.getTransitionIndex().transitionsFrom(state);
+    }
+
+    /**
+     * Returns the states which can be reached from the given state by one or more transitions.
+     *
+     * @param state Start state.
+     *
+     * @return Unmodifiable set of reachable states.
+     */
+    default Set<Enum<?>> reachableStates(final Enum<?> state) {
+        return this.getTransitionIndex().reachableStates(state);
+    }
 }
@@ -22,6 +22,8 @@ import io.varietas.instrumentum.status.machina.errors.UnexpectedArgumentExceptio
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -154,4 +156,30 @@ public class ChainContainer<STATE_TYPE extends Enum<?>, TRANSITION_TYPE extends
         }
         return this;
     }
+
+    /**
+     * Creates an immutable snapshot of the chain. Each chain part is frozen via {@link TransitionContainer#freeze()}.
+     *
+     * @return The immutable snapshot of this container.
+     */
+    public ChainContainer<STATE_TYPE, TRANSITION_TYPE, CHAIN_TYPE> freeze() {
+        return this.freeze(TransitionContainer::freeze);
+    }
+
+    /**
+     * Creates an immutable snapshot of the chain. Chain parts and listeners are copied into compact immutable lists, so adding further containers to the snapshot fails with an
+     * {@link UnsupportedOperationException}.
+     *
+     * @param partFreezer Function which returns the frozen container of a chain part. This allows sharing the frozen transitions of a configuration.
+     *
+     * @return The immutable snapshot of this container.
+     */
+    public ChainContainer<STATE_TYPE, TRANSITION_TYPE, CHAIN_TYPE> freeze(@NonNull final Function<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>, TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> partFreezer) {
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> frozenParts = this.chainParts.stream()
+                .map(partFreezer)
+                .collect(Collectors.toUnmodifiableList());
+
+        return new ChainContainer<>(this.from, this.to, this.on, frozenParts, List.copyOf(this.listeners));
+    }
 }
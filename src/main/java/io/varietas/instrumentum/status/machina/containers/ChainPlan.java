@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * <h2>ChainPlan</h2>
+ * <p>
+ * The chain plan is the compiled execution form of a {@link ChainContainer}. The chain parts are stored in execution order and the chain listeners are split into the listeners executed before and
+ * after the chain. All lists are random access and read-only, so a plan can be executed with indexed loops and doesn't allocate.
+ * <p>
+ * The plan stores the transition containers of the parts and not their invokers, since a chain part is fired with the full semantic of a single transition, see
+ * {@link io.varietas.instrumentum.status.machina.BasicChainStateMachine#fireChain(Enum, io.varietas.instrumentum.status.machina.Statable)}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Getter
+@ToString(of = "chain")
+public final class ChainPlan {
+
+    private final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain;
+
+    private final Enum<?> on;
+
+    private final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts;
+
+    private final List<ListenerContainer> beforeListeners;
+
+    private final List<ListenerContainer> afterListeners;
+
+    private ChainPlan(final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain, final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> parts, final List<ListenerContainer> beforeListeners, final List<ListenerContainer> afterListeners) {
+        this.chain = chain;
+        this.on = chain.getOn();
+        this.parts = Collections.unmodifiableList(parts);
+        this.beforeListeners = Collections.unmodifiableList(beforeListeners);
+        this.afterListeners = Collections.unmodifiableList(afterListeners);
+    }
+
+    /**
+     * Compiles the given chain into a chain plan.
+     *
+     * @param chain Chain container which has to be compiled.
+     *
+     * @return The compiled chain plan.
+     */
+    public static ChainPlan of(@NonNull final ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain) {
+
+        final List<ListenerContainer> listeners = chain.getListeners();
+
+        return new ChainPlan(
+                chain,
+                new ArrayList<>(chain.getChainParts()),
+                Objects.isNull(listeners) ? new ArrayList<>(0) : listeners.stream().filter(ListenerContainer::isBefore).collect(Collectors.toCollection(ArrayList::new)),
+                Objects.isNull(listeners) ? new ArrayList<>(0) : listeners.stream().filter(ListenerContainer::isAfter).collect(Collectors.toCollection(ArrayList::new))
+        );
+    }
+}
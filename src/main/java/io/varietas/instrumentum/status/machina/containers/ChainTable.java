@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * <h2>ChainTable</h2>
+ * <p>
+ * The chain table is the compiled dispatch structure for transition chains of a CFSM configuration. It stores the {@link ChainPlan} for each combination of start state and chain in a dense array
+ * which is indexed by the ordinals of both enumerations. If several chains share a start state and a chain identifier, the first collected chain wins.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = {"stateType", "chainType", "size"})
+public final class ChainTable {
+
+    @Getter
+    private final Class<? extends Enum<?>> stateType;
+
+    @Getter
+    private final Class<? extends Enum<?>> chainType;
+
+    @Getter
+    private final int size;
+
+    private final ChainPlan[][] table;
+
+    private ChainTable(final Class<? extends Enum<?>> stateType, final Class<? extends Enum<?>> chainType, final ChainPlan[][] table, final int size) {
+        this.stateType = stateType;
+        this.chainType = chainType;
+        this.table = table;
+        this.size = size;
+    }
+
+    /**
+     * Compiles the given chains into a chain table.
+     *
+     * @param stateType Type of enumeration which is used to represent the states.
+     * @param chainType Type of enumeration which is used to represent a chain event (Chain identifier).
+     * @param chains Collected chains of the CFSM.
+     *
+     * @return The compiled chain table.
+     */
+    public static ChainTable of(@NonNull final Class<? extends Enum<?>> stateType, @NonNull final Class<? extends Enum<?>> chainType, @NonNull final List<ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>>> chains) {
+
+        final ChainPlan[][] table = new ChainPlan[stateType.getEnumConstants().length][chainType.getEnumConstants().length];
+
+        for (ChainContainer<? extends Enum<?>, ? extends Enum<?>, ? extends Enum<?>> chain : chains) {
+            final int from = chain.getFrom().ordinal();
+            final int on = chain.getOn().ordinal();
+
+            if (Objects.isNull(table[from][on])) {
+                table[from][on] = ChainPlan.of(chain);
+            }
+        }
+
+        return new ChainTable(stateType, chainType, table, chains.size());
+    }
+
+    /**
+     * Searches the chain plan for an upcoming chain and the current state of a target.
+     *
+     * @param chain Next transition chain kind.
+     * @param currentState Current state of the target.
+     *
+     * @return Expected plan for the chain, otherwise null.
+     */
+    public ChainPlan find(final Enum<?> chain, final Enum<?> currentState) {
+
+        if (Objects.isNull(chain) || Objects.isNull(currentState) || chain.getDeclaringClass() != this.chainType || currentState.getDeclaringClass() != this.stateType) {
+            return null;
+        }
+
+        return this.table[currentState.ordinal()][chain.ordinal()];
+    }
+}
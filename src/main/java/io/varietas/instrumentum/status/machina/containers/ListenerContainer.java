@@ -15,22 +15,130 @@
  */
 package io.varietas.instrumentum.status.machina.containers;
 
+import io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionListenerException;
+import io.varietas.instrumentum.status.machina.invokers.Invokers;
+import io.varietas.instrumentum.status.machina.invokers.ListenerInvoker;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 import lombok.Value;
 
 /**
  * <h2>ListenerContainer</h2>
+ * <p>
+ * The listener container holds the type of a transition or chain listener and the information which listener methods are available. A container created with the event type of the FSM resolves
+ * the invokers of the before and after methods once. The listener instance is created corresponding to the {@link ListenerLifecycle} of the listener.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 11/4/2017
  */
-@ToString
-@EqualsAndHashCode
-@Value(staticConstructor = "of")
+@ToString(of = {"listener", "before", "after", "lifecycle"})
+@EqualsAndHashCode(of = {"listener", "before", "after", "lifecycle"})
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ListenerContainer {
 
     Class<?> listener;
     boolean before;
     boolean after;
+
+    ListenerLifecycle lifecycle;
+
+    Supplier<Object> factory;
+
+    Object instance;
+
+    ListenerInvoker beforeInvoker;
+
+    ListenerInvoker afterInvoker;
+
+    /**
+     * Creates a {@link ListenerContainer} without resolved invokers. The listener methods are searched on each call and a new listener instance is created for each call.
+     *
+     * @param listener Type of the listener
+     * @param before True if the listener provides a before method
+     * @param after True if the listener provides an after method
+     *
+     * @return An instance with the basic information of the listener
+     */
+    public static ListenerContainer of(final Class<?> listener, final boolean before, final boolean after) {
+        return new ListenerContainer(listener, before, after, ListenerLifecycle.PER_FIRE, Invokers.constructor(listener), null, null, null);
+    }
+
+    /**
+     * Creates a {@link ListenerContainer} with resolved invokers for the before and after method. If the lifecycle is {@link ListenerLifecycle#SINGLETON}, the listener instance is created
+     * immediately.
+     *
+     * @param listener Type of the listener
+     * @param before True if the listener provides a before method
+     * @param after True if the listener provides an after method
+     * @param eventType Type of enumeration which is passed to the listener methods
+     * @param lifecycle Lifecycle of the listener instances
+     *
+     * @return An instance with the resolved information of the listener
+     */
+    public static ListenerContainer of(@NonNull final Class<?> listener, final boolean before, final boolean after, @NonNull final Class<? extends Enum<?>> eventType, @NonNull final ListenerLifecycle lifecycle) {
+
+        final Supplier<Object> factory = Invokers.constructor(listener);
+
+        return new ListenerContainer(
+                listener,
+                before,
+                after,
+                lifecycle,
+                factory,
+                (lifecycle == ListenerLifecycle.SINGLETON) ? ListenerContainer.createInstance(listener, factory) : null,
+                (before) ? Invokers.listener(listener, "before", eventType) : null,
+                (after) ? Invokers.listener(listener, "after", eventType) : null
+        );
+    }
+
+    /**
+     * Creates a {@link ListenerContainer} with invokers and a factory which are provided by the caller, e.g. by a generated
+     * {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor}. A listener method is available if its invoker is present. If the lifecycle is
+     * {@link ListenerLifecycle#SINGLETON}, the listener instance is created immediately.
+     *
+     * @param listener Type of the listener
+     * @param lifecycle Lifecycle of the listener instances
+     * @param factory Factory for listener instances
+     * @param beforeInvoker Invoker of the before method or null if the listener has no before method
+     * @param afterInvoker Invoker of the after method or null if the listener has no after method
+     *
+     * @return An instance with the resolved information of the listener
+     */
+    public static ListenerContainer of(@NonNull final Class<?> listener, @NonNull final ListenerLifecycle lifecycle, @NonNull final Supplier<Object> factory, final ListenerInvoker beforeInvoker, final ListenerInvoker afterInvoker) {
+        return new ListenerContainer(
+                listener,
+                Objects.nonNull(beforeInvoker),
+                Objects.nonNull(afterInvoker),
+                lifecycle,
+                factory,
+                (lifecycle == ListenerLifecycle.SINGLETON) ? ListenerContainer.createInstance(listener, factory) : null,
+                beforeInvoker,
+                afterInvoker
+        );
+    }
+
+    /**
+     * Creates a new instance of the listener.
+     *
+     * @return The new listener instance.
+     */
+    public Object newInstance() {
+        return ListenerContainer.createInstance(this.listener, this.factory);
+    }
+
+    private static Object createInstance(final Class<?> listener, final Supplier<Object> factory) {
+        try {
+            return factory.get();
+        }
+        catch (RuntimeException ex) {
+            throw new InvalidTransitionListenerException(listener, "Listener isn't instantiable.", ex);
+        }
+    }
 }
@@ -16,6 +16,9 @@
 package io.varietas.instrumentum.status.machina.containers;
 
 import io.varietas.instrumentum.status.machina.annotations.Transition;
+import io.varietas.instrumentum.status.machina.invokers.GuardInvoker;
+import io.varietas.instrumentum.status.machina.invokers.Invokers;
+import io.varietas.instrumentum.status.machina.invokers.TransitionInvoker;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,17 +37,21 @@ import lombok.Value;
  * <ul>
  * <li>required start state,</li>
  * <li>state after transition,</li>
- * <li>name of the transition and</li>
- * <li>method which is invoked to manipulate the transition target.</li>
+ * <li>name of the transition,</li>
+ * <li>method which is invoked to manipulate the transition target and</li>
+ * <li>optional guard which decides if the transition is selected for a target.</li>
  * </ul>
+ * <p>
+ * The method is invoked via a {@link TransitionInvoker} which is created once together with the container. The method itself is kept for diagnostics only. Containers created by generated
+ * {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor}s don't hold the method but its name only.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/7/2017
  * @param <STATE_TYPE> Generic type of enumeration which is used to represent the states.
  * @param <TRANSITION_TYPE> Generic type of enumeration which is used to represent the occurred event (Event identifier).
  */
-@ToString(exclude = {"calledMethod"})
-@EqualsAndHashCode(exclude = "calledMethod")
+@ToString(exclude = {"methodName", "calledMethod", "invoker", "guard"})
+@EqualsAndHashCode(exclude = {"methodName", "calledMethod", "invoker", "guard"})
 @Value
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("rawtypes")
@@ -56,12 +63,20 @@ public class TransitionContainer<STATE_TYPE extends Enum, TRANSITION_TYPE extend
 
     TRANSITION_TYPE on;
 
+    String methodName;
+
     Method calledMethod;
 
+    TransitionInvoker invoker;
+
     List<ListenerContainer> listeners;
 
+    String guardName;
+
+    GuardInvoker guard;
+
     /**
-     * Creates a {@link TransitionContainer} with the basic information. Adding listeners is possible by
+     * Creates a {@link TransitionContainer} with the basic information. The called method is invoked reflectively. Adding listeners is possible by
      * {@link TransitionContainer#andAddListener(io.varietas.instrumentum.status.machina.containers.ListenerContainer)} or {@link TransitionContainer#andAddListeners(java.util.List)}.
      *
      * @param from Type that marks the start of the transition
@@ -74,7 +89,42 @@ public class TransitionContainer<STATE_TYPE extends Enum, TRANSITION_TYPE extend
      * @return An instance with the basic information of the transition
      */
     public static <STATE_TYPE extends Enum<?>, TRANSITION_TYPE extends Enum<?>> TransitionContainer<STATE_TYPE, TRANSITION_TYPE> of(@NonNull final STATE_TYPE from, @NonNull final STATE_TYPE to, @NonNull final TRANSITION_TYPE on, @NonNull final Method calledMethod) {
-        return new TransitionContainer<>(from, to, on, calledMethod, new ArrayList<>());
+        return new TransitionContainer<>(from, to, on, calledMethod.getName(), calledMethod, Invokers.reflective(calledMethod), new ArrayList<>(), null, null);
+    }
+
+    /**
+     * Creates a {@link TransitionContainer} with the basic information and a pre-built invoker for the called method.
+     *
+     * @param from Type that marks the start of the transition
+     * @param to Type that marks the end of the transition
+     * @param on Type that is used as the identifier of the transition
+     * @param calledMethod The method that represents the handler of the call
+     * @param invoker The invoker that calls the handler
+     * @param <STATE_TYPE> Generic type of enumeration which is used to represent the states.
+     * @param <TRANSITION_TYPE> Generic type of enumeration which is used to represent the occurred event (Event identifier).
+     *
+     * @return An instance with the basic information of the transition
+     */
+    public static <STATE_TYPE extends Enum<?>, TRANSITION_TYPE extends Enum<?>> TransitionContainer<STATE_TYPE, TRANSITION_TYPE> of(@NonNull final STATE_TYPE from, @NonNull final STATE_TYPE to, @NonNull final TRANSITION_TYPE on, @NonNull final Method calledMethod, @NonNull final TransitionInvoker invoker) {
+        return new TransitionContainer<>(from, to, on, calledMethod.getName(), calledMethod, invoker, new ArrayList<>(), null, null);
+    }
+
+    /**
+     * Creates a {@link TransitionContainer} with the basic information and a pre-built invoker for a method which is known by name only. This is used by generated code which calls the method
+     * directly.
+     *
+     * @param from Type that marks the start of the transition
+     * @param to Type that marks the end of the transition
+     * @param on Type that is used as the identifier of the transition
+     * @param methodName Name of the method that represents the handler of the call
+     * @param invoker The invoker that calls the handler
+     * @param <STATE_TYPE> Generic type of enumeration which is used to represent the states.
+     * @param <TRANSITION_TYPE> Generic type of enumeration which is used to represent the occurred event (Event identifier).
+     *
+     * @return An instance with the basic information of the transition
+     */
+    public static <STATE_TYPE extends Enum<?>, TRANSITION_TYPE extends Enum<?>> TransitionContainer<STATE_TYPE, TRANSITION_TYPE> of(@NonNull final STATE_TYPE from, @NonNull final STATE_TYPE to, @NonNull final TRANSITION_TYPE on, @NonNull final String methodName, @NonNull final TransitionInvoker invoker) {
+        return new TransitionContainer<>(from, to, on, methodName, null, invoker, new ArrayList<>(), null, null);
     }
 
     /**
@@ -108,4 +158,49 @@ public class TransitionContainer<STATE_TYPE extends Enum, TRANSITION_TYPE extend
 
         return this;
     }
+
+    /**
+     * Creates a copy of the transition which is selected only if the guard permits it. The copy shares the listeners with this container.
+     *
+     * @param guardName Name of the guard method.
+     * @param guard The invoker that calls the guard method.
+     *
+     * @return The guarded transition.
+     */
+    public TransitionContainer<STATE_TYPE, TRANSITION_TYPE> andGuard(@NonNull final String guardName, @NonNull final GuardInvoker guard) {
+        return new TransitionContainer<>(this.from, this.to, this.on, this.methodName, this.calledMethod, this.invoker, this.listeners, guardName, guard);
+    }
+
+    /**
+     * Checks if the transition has a guard.
+     *
+     * @return True if the transition is guarded, otherwise false.
+     */
+    public boolean isGuarded() {
+        return Objects.nonNull(this.guard);
+    }
+
+    /**
+     * Evaluates the guard of the transition for a target. Transitions without guard are always permitted.
+     *
+     * @param machine Machine instance where the guard method is declared.
+     * @param target Transition operation target.
+     *
+     * @return True if the transition is permitted, otherwise false.
+     *
+     * @throws Throwable Any error thrown by the guard method.
+     */
+    public boolean isPermitted(final Object machine, final Object target) throws Throwable {
+        return Objects.isNull(this.guard) || this.guard.test(machine, this.from, this.to, this.on, target);
+    }
+
+    /**
+     * Creates an immutable snapshot of the transition. The listeners are copied into a compact immutable list, so adding further listeners to the snapshot fails with an
+     * {@link UnsupportedOperationException}.
+     *
+     * @return The immutable snapshot of this container.
+     */
+    public TransitionContainer<STATE_TYPE, TRANSITION_TYPE> freeze() {
+        return new TransitionContainer<>(this.from, this.to, this.on, this.methodName, this.calledMethod, this.invoker, List.copyOf(this.listeners), this.guardName, this.guard);
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * <h2>TransitionIndex</h2>
+ * <p>
+ * The transition index provides views of a FSM configuration per state. It is backed by {@link EnumMap}s and {@link EnumSet}s which are calculated once, so each query is answered without scanning
+ * the transitions. Allowed events follow the lookup semantic of the {@link TransitionTable}: An event is allowed for a state if firing it on a target in this state doesn't fail for a missing
+ * transition.
+ * <p>
+ * Guards aren't evaluated by the index, because they depend on the target. An event with guarded transitions is allowed for a state, although firing it may be rejected by the guards.
+ * <p>
+ * All returned collections are unmodifiable. Queries for a state of a foreign type or null return empty results.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = {"stateType", "eventType"})
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class TransitionIndex {
+
+    @Getter
+    private final Class<? extends Enum<?>> stateType;
+
+    @Getter
+    private final Class<? extends Enum<?>> eventType;
+
+    private final TransitionTable table;
+
+    private final Map<Enum, Set<Enum<?>>> allowedEvents;
+
+    private final Map<Enum, List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> outgoing;
+
+    private final Map<Enum, Set<Enum<?>>> reachableStates;
+
+    private TransitionIndex(
+            final Class<? extends Enum<?>> stateType,
+            final Class<? extends Enum<?>> eventType,
+            final TransitionTable table,
+            final Map<Enum, Set<Enum<?>>> allowedEvents,
+            final Map<Enum, List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> outgoing,
+            final Map<Enum, Set<Enum<?>>> reachableStates) {
+        this.stateType = stateType;
+        this.eventType = eventType;
+        this.table = table;
+        this.allowedEvents = allowedEvents;
+        this.outgoing = outgoing;
+        this.reachableStates = reachableStates;
+    }
+
+    /**
+     * Creates the index for the given transitions.
+     *
+     * @param table The compiled transition table of the transitions.
+     * @param transitions Collected transitions of the FSM.
+     *
+     * @return The transition index.
+     */
+    public static TransitionIndex of(@NonNull final TransitionTable table, @NonNull final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions) {
+
+        final Class stateType = table.getStateType();
+        final Class eventType = table.getEventType();
+        final Enum[] states = (Enum[]) stateType.getEnumConstants();
+        final Enum[] events = (Enum[]) eventType.getEnumConstants();
+
+        final Map<Enum, Set<Enum<?>>> allowedEvents = new EnumMap<>(stateType);
+        final Map<Enum, List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> outgoing = new EnumMap<>(stateType);
+        final Map<Enum, Set<Enum<?>>> reachableStates = new EnumMap<>(stateType);
+
+        for (Enum state : states) {
+            final EnumSet allowed = EnumSet.noneOf(eventType);
+
+            for (Enum event : events) {
+                if (Objects.nonNull(table.find(event, state))) {
+                    allowed.add(event);
+                }
+            }
+
+            allowedEvents.put(state, Collections.unmodifiableSet(allowed));
+            outgoing.put(state, new ArrayList<>());
+        }
+
+        transitions.forEach(transition -> outgoing.get(transition.getFrom()).add(transition));
+        outgoing.replaceAll((state, stateTransitions) -> List.copyOf(stateTransitions));
+
+        for (Enum state : states) {
+            reachableStates.put(state, Collections.unmodifiableSet(TransitionIndex.reachable(state, stateType, outgoing)));
+        }
+
+        return new TransitionIndex(stateType, eventType, table, allowedEvents, outgoing, reachableStates);
+    }
+
+    /**
+     * Returns the events which can be fired on a target in the given state.
+     *
+     * @param state Current state of a target.
+     *
+     * @return Allowed events.
+     */
+    public Set<Enum<?>> allowedEvents(final Enum<?> state) {
+        return this.isState(state) ? this.allowedEvents.get(state) : Collections.emptySet();
+    }
+
+    /**
+     * Checks if the given event can be fired on a target in the given state. Guards aren't evaluated.
+     *
+     * @param state Current state of a target.
+     * @param event Event which should be fired.
+     *
+     * @return True if a transition is available, otherwise false.
+     */
+    public boolean canFire(final Enum<?> state, final Enum<?> event) {
+        return Objects.nonNull(this.table.find(event, state));
+    }
+
+    /**
+     * Returns the transitions which start at the given state, in order of collection.
+     *
+     * @param state Start state.
+     *
+     * @return Outgoing transitions.
+     */
+    public List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitionsFrom(final Enum<?> state) {
+        return this.isState(state) ? this.outgoing.get(state) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the states which can be reached from the given state by one or more transitions.
+     *
+     * @param state Start state.
+     *
+     * @return Reachable states. The start state is contained only if a cycle leads back to it.
+     */
+    public Set<Enum<?>> reachableStates(final Enum<?> state) {
+        return this.isState(state) ? this.reachableStates.get(state) : Collections.emptySet();
+    }
+
+    private boolean isState(final Enum<?> state) {
+        return Objects.nonNull(state) && state.getDeclaringClass() == this.stateType;
+    }
+
+    private static EnumSet reachable(final Enum start, final Class stateType, final Map<Enum, List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>>> outgoing) {
+
+        final EnumSet res = EnumSet.noneOf(stateType);
+        final Queue<Enum> queue = new ArrayDeque<>();
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            for (TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition : outgoing.get(queue.poll())) {
+                if (res.add(transition.getTo())) {
+                    queue.add(transition.getTo());
+                }
+            }
+        }
+
+        return res;
+    }
+}
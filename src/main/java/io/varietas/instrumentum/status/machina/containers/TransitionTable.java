@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * <h2>TransitionTable</h2>
+ * <p>
+ * The transition table is the compiled dispatch structure of a FSM configuration. It stores the {@link TransitionContainer} for each combination of state and event in a dense array which is
+ * indexed by the ordinals of both enumerations. Resolving a transition costs two array loads and doesn't allocate.
+ * <p>
+ * The table keeps the lookup semantic of the former linear search: A transition is registered for its start state and its end state and the first collected transition wins.
+ * <p>
+ * If guarded transitions are registered for a combination of state and event, the table additionally stores all transitions of the combination as candidates. The candidates are resolved via
+ * {@link #find(Enum, Enum, Object, Object)}, which returns the first permitted candidate. Combinations without guarded transitions are resolved by the dense array only.
+ * <p>
+ * The order of the candidates doesn't depend on the order of collection, which is unspecified for transitions collected via reflection: Guarded transitions precede unguarded transitions, so an
+ * unguarded transition is the fallback if no guard permits the target. Transitions of the same kind are ordered by the name of the transition method and keep the order of their annotations.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = {"stateType", "eventType", "size"})
+public final class TransitionTable {
+
+    @Getter
+    private final Class<? extends Enum<?>> stateType;
+
+    @Getter
+    private final Class<? extends Enum<?>> eventType;
+
+    @Getter
+    private final int size;
+
+    @SuppressWarnings("rawtypes")
+    private final TransitionContainer[][] table;
+
+    @SuppressWarnings("rawtypes")
+    private final TransitionContainer[][][] candidates;
+
+    @SuppressWarnings("rawtypes")
+    private static final Comparator<TransitionContainer> CANDIDATE_ORDER = Comparator.<TransitionContainer, Boolean>comparing(transition -> !transition.isGuarded())
+            .thenComparing(TransitionContainer::getMethodName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @SuppressWarnings("rawtypes")
+    private TransitionTable(final Class<? extends Enum<?>> stateType, final Class<? extends Enum<?>> eventType, final TransitionContainer[][] table, final TransitionContainer[][][] candidates, final int size) {
+        this.stateType = stateType;
+        this.eventType = eventType;
+        this.table = table;
+        this.candidates = candidates;
+        this.size = size;
+    }
+
+    /**
+     * Compiles the given transitions into a transition table.
+     *
+     * @param stateType Type of enumeration which is used to represent the states.
+     * @param eventType Type of enumeration which is used to represent the occurred event (Event identifier).
+     * @param transitions Collected transitions of the FSM.
+     *
+     * @return The compiled transition table.
+     */
+    @SuppressWarnings("rawtypes")
+    public static TransitionTable of(@NonNull final Class<? extends Enum<?>> stateType, @NonNull final Class<? extends Enum<?>> eventType, @NonNull final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions) {
+
+        final int states = stateType.getEnumConstants().length;
+        final int events = eventType.getEnumConstants().length;
+        final TransitionContainer[][] table = new TransitionContainer[states][events];
+        final List<List<TransitionContainer>> cells = new ArrayList<>(states * events);
+        final boolean[] guarded = new boolean[states * events];
+        boolean isGuarded = false;
+
+        for (int index = 0; index < states * events; ++index) {
+            cells.add(new ArrayList<>(1));
+        }
+
+        for (TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition : transitions) {
+            final int on = transition.getOn().ordinal();
+
+            if (Objects.isNull(table[transition.getFrom().ordinal()][on])) {
+                table[transition.getFrom().ordinal()][on] = transition;
+            }
+            if (Objects.isNull(table[transition.getTo().ordinal()][on])) {
+                table[transition.getTo().ordinal()][on] = transition;
+            }
+
+            for (int state : new int[]{transition.getFrom().ordinal(), transition.getTo().ordinal()}) {
+                final List<TransitionContainer> cell = cells.get(state * events + on);
+
+                if (!cell.contains(transition)) {
+                    cell.add(transition);
+                    guarded[state * events + on] |= transition.isGuarded();
+                    isGuarded |= transition.isGuarded();
+                }
+            }
+        }
+
+        if (!isGuarded) {
+            return new TransitionTable(stateType, eventType, table, null, transitions.size());
+        }
+
+        final TransitionContainer[][][] candidates = new TransitionContainer[states][events][];
+
+        for (int index = 0; index < states * events; ++index) {
+            if (guarded[index]) {
+                final List<TransitionContainer> cell = cells.get(index);
+
+                cell.sort(CANDIDATE_ORDER);
+                candidates[index / events][index % events] = cell.toArray(new TransitionContainer[0]);
+                table[index / events][index % events] = cell.get(0);
+            }
+        }
+
+        return new TransitionTable(stateType, eventType, table, candidates, transitions.size());
+    }
+
+    /**
+     * Searches the transition for an upcoming event and the current state of a target. <b>Guards aren't evaluated:</b> If guarded transitions are registered for the combination, the first
+     * candidate is returned although its guard may reject a target. Use {@link #isGuarded(Enum, Enum)} to detect such combinations and {@link #find(Enum, Enum, Object, Object)} to resolve the
+     * transition for a target.
+     *
+     * @param event Next transition kind.
+     * @param currentState Current state of the target.
+     *
+     * @return Expected container for the transition, otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    public TransitionContainer<? extends Enum<?>, ? extends Enum<?>> find(final Enum<?> event, final Enum<?> currentState) {
+
+        if (Objects.isNull(event) || Objects.isNull(currentState) || event.getDeclaringClass() != this.eventType || currentState.getDeclaringClass() != this.stateType) {
+            return null;
+        }
+
+        return this.table[currentState.ordinal()][event.ordinal()];
+    }
+
+    /**
+     * Searches the transition for an upcoming event and a target. If guarded transitions are registered for the current state of the target and the event, the guards of the candidates are
+     * evaluated in candidate order and the first permitted candidate is returned: Guarded transitions precede unguarded transitions and transitions of the same kind are ordered by the name of the
+     * transition method.
+     *
+     * @param event Next transition kind.
+     * @param currentState Current state of the target.
+     * @param machine Machine instance where the guard methods are declared.
+     * @param target Transition target.
+     *
+     * @return Expected container for the transition, otherwise null if no transition is available or permitted.
+     *
+     * @throws TransitionInvocationException Thrown if a guard method fails.
+     */
+    @SuppressWarnings("unchecked")
+    public TransitionContainer<? extends Enum<?>, ? extends Enum<?>> find(final Enum<?> event, final Enum<?> currentState, final Object machine, final Object target) throws TransitionInvocationException {
+
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> res = this.find(event, currentState);
+
+        if (Objects.isNull(res) || Objects.isNull(this.candidates) || Objects.isNull(this.candidates[currentState.ordinal()][event.ordinal()])) {
+            return res;
+        }
+
+        for (TransitionContainer<? extends Enum<?>, ? extends Enum<?>> candidate : this.candidates[currentState.ordinal()][event.ordinal()]) {
+            try {
+                if (candidate.isPermitted(machine, target)) {
+                    return candidate;
+                }
+            }
+            catch (Throwable ex) {
+                throw new TransitionInvocationException(event, candidate.getGuardName(), ex);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if guarded transitions are registered for a combination of state and event. The transition of a guarded combination depends on the target.
+     *
+     * @param event Next transition kind.
+     * @param currentState Current state of the target.
+     *
+     * @return True if the combination has guarded transitions, otherwise false.
+     */
+    public boolean isGuarded(final Enum<?> event, final Enum<?> currentState) {
+        return Objects.nonNull(this.candidates) && Objects.nonNull(this.find(event, currentState)) && Objects.nonNull(this.candidates[currentState.ordinal()][event.ordinal()]);
+    }
+}
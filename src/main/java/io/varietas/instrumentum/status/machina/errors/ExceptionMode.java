@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.errors;
+
+import java.util.Locale;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>ExceptionMode</h2>
+ * <p>
+ * The exception mode defines whether the exceptions thrown while firing transitions capture a stack trace. Capturing the stack trace is the most expensive part of creating an exception, which is
+ * measurable in workloads rejecting many events. The mode affects the {@link InvalidTransitionException}, the {@link InvalidTransitionListenerException}, the {@link TransitionInvocationException}
+ * and the {@link TransitionConflictException}. Messages of these exceptions are built when they are requested, independent of the mode.
+ * <p>
+ * The initial mode is read from the system property {@value #PROPERTY} ("full" or "stackless") and can be changed via {@link #use(ExceptionMode)}. An unknown value is logged and the mode
+ * falls back to {@link #FULL}. The mode is taken when an exception is created.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+public enum ExceptionMode {
+
+    /**
+     * Exceptions capture the stack trace of the thread that created them.
+     */
+    FULL,
+    /**
+     * Exceptions don't capture a stack trace. The causes of an exception keep their own stack traces.
+     */
+    STACKLESS;
+
+    public static final String PROPERTY = "status.machina.exceptions";
+
+    private static volatile ExceptionMode current = ExceptionMode.fromProperty(System.getProperty(PROPERTY));
+
+    /**
+     * Returns the mode which is used for new exceptions.
+     *
+     * @return Current exception mode.
+     */
+    public static ExceptionMode current() {
+        return ExceptionMode.current;
+    }
+
+    /**
+     * Sets the mode which is used for new exceptions.
+     *
+     * @param mode New exception mode.
+     */
+    public static void use(@NonNull final ExceptionMode mode) {
+        ExceptionMode.current = mode;
+    }
+
+    /**
+     * Checks if exceptions created in this mode capture a stack trace.
+     *
+     * @return True if the stack trace is captured, otherwise false.
+     */
+    public boolean isWritableStackTrace() {
+        return this == FULL;
+    }
+
+    static boolean writableStackTrace() {
+        return ExceptionMode.current.isWritableStackTrace();
+    }
+
+    static ExceptionMode fromProperty(final String value) {
+
+        if (Objects.isNull(value) || value.isBlank()) {
+            return FULL;
+        }
+
+        try {
+            return ExceptionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException ex) {
+            LOGGER.warn("Unknown exception mode '{}' in system property '{}', falling back to {}.", value, PROPERTY, FULL);
+            return FULL;
+        }
+    }
+}
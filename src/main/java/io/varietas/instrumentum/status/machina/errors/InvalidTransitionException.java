@@ -22,6 +22,8 @@ import lombok.NonNull;
  * <h2>InvalidTransitionException</h2>
  * <p>
  * Signals the triggering of an invalid transition. The reasons can be e.g. not present transition or mismatching start state.
+ * <p>
+ * The stack trace is captured corresponding to the {@link ExceptionMode}.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/8/2017
@@ -30,14 +32,51 @@ public class InvalidTransitionException extends RuntimeException {
 
     private final Enum transition;
 
+    private final Enum<?> currentState;
+
     public InvalidTransitionException(@NonNull final Enum transition, @NonNull final String message) {
-        super(message);
+        super(message, null, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
+        this.currentState = null;
     }
 
     public InvalidTransitionException(@NonNull final Enum transition, @NonNull final String message, final Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
+        this.currentState = null;
+    }
+
+    private InvalidTransitionException(final Enum<?> transition, final Enum<?> currentState) {
+        super(null, null, true, ExceptionMode.writableStackTrace());
+        this.transition = transition;
+        this.currentState = currentState;
+    }
+
+    /**
+     * Creates the exception for a target whose current state doesn't match the start state of any transition for the given event. The message is built when it is requested.
+     *
+     * @param transition Event which was fired.
+     * @param currentState Current state of the target.
+     *
+     * @return The exception.
+     */
+    public static InvalidTransitionException ofMismatchingState(@NonNull final Enum<?> transition, final Enum<?> currentState) {
+        return new InvalidTransitionException(transition, currentState);
+    }
+
+    @Override
+    public String getMessage() {
+
+        if (Objects.nonNull(super.getMessage())) {
+            return super.getMessage();
+        }
+
+        return new StringBuilder("State of target '")
+                .append(Objects.nonNull(this.currentState) ? this.currentState.name() : null)
+                .append("' doesn't match required state for tarnsition '")
+                .append(this.transition.name())
+                .append("'.")
+                .toString();
     }
 
     @Override
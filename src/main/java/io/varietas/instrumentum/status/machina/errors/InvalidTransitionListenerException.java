@@ -30,6 +30,8 @@ import lombok.NonNull;
  * <li>{@link InvocationTargetException}</li>
  * <li>{@link InstantiationException}</li>
  * </ul>
+ * <p>
+ * The stack trace is captured corresponding to the {@link ExceptionMode}.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/8/2017
@@ -38,14 +40,50 @@ public final class InvalidTransitionListenerException extends RuntimeException {
 
     private final Class<?> listenerType;
 
+    private final String methodName;
+
     public InvalidTransitionListenerException(@NonNull final Class<?> listenerType, @NonNull final String message) {
-        super(message);
+        super(message, null, true, ExceptionMode.writableStackTrace());
         this.listenerType = listenerType;
+        this.methodName = null;
     }
 
     public InvalidTransitionListenerException(@NonNull final Class<?> listenerType, @NonNull final String message, final Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, ExceptionMode.writableStackTrace());
         this.listenerType = listenerType;
+        this.methodName = null;
+    }
+
+    private InvalidTransitionListenerException(final Class<?> listenerType, final Throwable cause, final String methodName) {
+        super(null, cause, true, ExceptionMode.writableStackTrace());
+        this.listenerType = listenerType;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Creates the exception for a failed listener method. The message is built when it is requested.
+     *
+     * @param listenerType Type of the listener.
+     * @param methodName Name of the failed listener method.
+     * @param cause Error of the listener method.
+     *
+     * @return The exception.
+     */
+    public static InvalidTransitionListenerException ofListenerMethod(@NonNull final Class<?> listenerType, @NonNull final String methodName, final Throwable cause) {
+        return new InvalidTransitionListenerException(listenerType, cause, methodName);
+    }
+
+    @Override
+    public String getMessage() {
+
+        if (Objects.isNull(this.methodName)) {
+            return super.getMessage();
+        }
+
+        return new StringBuilder("Listener on method '")
+                .append(this.methodName)
+                .append("'.")
+                .toString();
     }
 
     @Override
@@ -54,7 +92,7 @@ public final class InvalidTransitionListenerException extends RuntimeException {
                 .append(this.listenerType.getName())
                 .append("] not executable.");
 
-        if (Objects.nonNull(super.getMessage())) {
+        if (Objects.nonNull(this.getMessage())) {
             builder
                     .append(' ')
                     .append(this.getMessage());
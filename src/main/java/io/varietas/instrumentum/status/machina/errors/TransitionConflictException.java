@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.errors;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * <h2>TransitionConflictException</h2>
+ * <p>
+ * Signals a transition whose new state couldn't be committed because the state of the target was changed concurrently. The stack trace is captured corresponding to the {@link ExceptionMode}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Getter
+public class TransitionConflictException extends RuntimeException {
+
+    private final Enum<?> transition;
+
+    private final Enum<?> expectedState;
+
+    private final Enum<?> actualState;
+
+    public TransitionConflictException(@NonNull final Enum<?> transition, final Enum<?> expectedState, final Enum<?> actualState) {
+        super(null, null, true, ExceptionMode.writableStackTrace());
+        this.transition = transition;
+        this.expectedState = expectedState;
+        this.actualState = actualState;
+    }
+
+    @Override
+    public String getMessage() {
+        return new StringBuilder("Expected state '")
+                .append(this.expectedState)
+                .append("' but was '")
+                .append(this.actualState)
+                .append('\'')
+                .toString();
+    }
+
+    @Override
+    public String getLocalizedMessage() {
+        return new StringBuilder("Transition '")
+                .append(this.transition.name())
+                .append("' conflicts with a concurrent transition: ")
+                .append(this.getMessage())
+                .append('.')
+                .toString();
+    }
+}
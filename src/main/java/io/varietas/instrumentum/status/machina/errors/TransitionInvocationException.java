@@ -20,6 +20,8 @@ import lombok.NonNull;
 
 /**
  * <h2>TransitionInvocationException</h2>
+ * <p>
+ * Signals a failed invocation of a transition method. The stack trace is captured corresponding to the {@link ExceptionMode}.
  *
  * @author Michael Rhöse
  * @version 1.0.0.0, 10/8/2017
@@ -31,29 +33,36 @@ public class TransitionInvocationException extends RuntimeException {
     private String message;
 
     public TransitionInvocationException(@NonNull final Enum transition, @NonNull final String methodName) {
+        super(null, null, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
         this.methodName = methodName;
     }
 
     public TransitionInvocationException(@NonNull final Enum transition, @NonNull final String methodName, final String message) {
+        super(null, null, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
         this.methodName = methodName;
         this.message = message;
     }
 
     public TransitionInvocationException(@NonNull final Enum transition, @NonNull final String methodName, final String message, final Throwable cause) {
-        super(cause);
+        super(null, cause, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
         this.methodName = methodName;
         this.message = message;
     }
 
     public TransitionInvocationException(@NonNull final Enum transition, @NonNull final String methodName, final Throwable cause) {
-        super(cause);
+        super(null, cause, true, ExceptionMode.writableStackTrace());
         this.transition = transition;
         this.methodName = methodName;
     }
 
+    @Override
+    public String getMessage() {
+        return Objects.nonNull(super.getCause()) ? super.getCause().toString() : null;
+    }
+
     @Override
     public String getLocalizedMessage() {
 
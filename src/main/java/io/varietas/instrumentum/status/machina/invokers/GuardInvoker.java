@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.invokers;
+
+/**
+ * <h2>GuardInvoker</h2>
+ * <p>
+ * A guard invoker calls the guard method of a transition on a machine instance. The guard decides if the transition is selected for a target before any listener or the transition method runs.
+ * Guards must not have side effects because they are evaluated for each candidate transition. Invokers are created once per guard by {@link Invokers#guard(Class, String)}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@FunctionalInterface
+public interface GuardInvoker {
+
+    /**
+     * Invokes the guard method.
+     *
+     * @param machine Machine instance where the guard method is declared.
+     * @param from State before the transition.
+     * @param to State after the transition.
+     * @param on Event that triggers the transition.
+     * @param target Transition operation target.
+     *
+     * @return True if the transition is permitted, otherwise false.
+     *
+     * @throws Throwable Any error thrown by the guard method.
+     */
+    boolean test(Object machine, Object from, Object to, Object on, Object target) throws Throwable;
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.invokers;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>Invokers</h2>
+ * <p>
+ * Factory for invokers of configured methods. An invoker is generated via {@link LambdaMetafactory} within the lookup context of the declaring class of the method. If the generation isn't
+ * possible, e.g. because the declaring class isn't accessible, a reflective invoker is used as fallback.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Invokers {
+
+    private static final MethodType TRANSITION_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Object.class, Object.class, Object.class);
+
+    private static final MethodType GUARD_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class, Object.class, Object.class, Object.class);
+
+    private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * Creates an invoker for a transition method. The method has to accept the start state, the end state, the event and the target.
+     *
+     * @param method Transition method.
+     *
+     * @return The generated invoker or a reflective invoker if the generation isn't possible.
+     */
+    public static TransitionInvoker transition(@NonNull final Method method) {
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(TransitionInvoker.class), TRANSITION_TYPE, handle, handle.type());
+
+            return (TransitionInvoker) site.getTarget().invoke();
+        }
+        catch (LambdaConversionException | IllegalAccessException | IllegalArgumentException | SecurityException ex) {
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Couldn't generate invoker for method '{}', reflection is used. {}: {}", method.getName(), ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return Invokers.reflective(method);
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Couldn't link invoker for method '" + method.getName() + "'.", ex);
+        }
+    }
+
+    /**
+     * Creates a reflective invoker for a transition method. The invoker unwraps the {@link InvocationTargetException} and rethrows the error of the transition method.
+     *
+     * @param method Transition method.
+     *
+     * @return The reflective invoker.
+     */
+    public static TransitionInvoker reflective(@NonNull final Method method) {
+        return (machine, from, to, on, target) -> {
+            try {
+                method.invoke(machine, from, to, on, target);
+            }
+            catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+
+    /**
+     * Resolves the invoker for a guard method. The guard is identified by its name and has to be a public method of the machine type which accepts the start state, the end state, the event and the
+     * target and returns a boolean.
+     *
+     * @param machineType Type of the machine.
+     * @param guardName Name of the guard method.
+     *
+     * @return The generated invoker or a reflective invoker if the generation isn't possible.
+     *
+     * @throws IllegalArgumentException Thrown if no or more than one method matches.
+     */
+    public static GuardInvoker guard(@NonNull final Class<?> machineType, @NonNull final String guardName) {
+
+        final List<Method> candidates = Stream.of(machineType.getMethods())
+                .filter(method -> method.getName().equals(guardName))
+                .filter(method -> method.getParameterCount() == 4 && method.getReturnType() == boolean.class)
+                .collect(Collectors.toList());
+
+        if (candidates.size() != 1) {
+            throw new IllegalArgumentException("Guard '" + guardName + "' of '" + machineType.getName() + "' isn't resolvable.");
+        }
+
+        final Method method = candidates.get(0);
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "test", MethodType.methodType(GuardInvoker.class), GUARD_TYPE, handle, handle.type());
+
+            return (GuardInvoker) site.getTarget().invoke();
+        }
+        catch (LambdaConversionException | IllegalAccessException | IllegalArgumentException | SecurityException ex) {
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Couldn't generate invoker for guard '{}', reflection is used. {}: {}", guardName, ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return (machine, from, to, on, target) -> {
+                try {
+                    return (boolean) method.invoke(machine, from, to, on, target);
+                }
+                catch (InvocationTargetException invocationEx) {
+                    throw invocationEx.getCause();
+                }
+            };
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Couldn't link invoker for guard '" + guardName + "'.", ex);
+        }
+    }
+
+    /**
+     * Resolves the invoker for a listener method. The method is identified by its name and has to accept the event respectively chain and the target. If no or more than one method matches,
+     * nothing is resolved and the method has to be searched on each call.
+     *
+     * @param listenerType Type of the listener.
+     * @param methodName Name of the listener method.
+     * @param eventType Type of enumeration which is passed to the listener method.
+     *
+     * @return The invoker or null if the method isn't resolvable.
+     */
+    public static ListenerInvoker listener(@NonNull final Class<?> listenerType, @NonNull final String methodName, @NonNull final Class<? extends Enum<?>> eventType) {
+
+        final List<Method> candidates = Stream.of(listenerType.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .filter(method -> method.getParameterCount() == 2 && method.getParameterTypes()[0].isAssignableFrom(eventType))
+                .collect(Collectors.toList());
+
+        if (candidates.size() != 1) {
+            return null;
+        }
+
+        final Method method = candidates.get(0);
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(listenerType, MethodHandles.lookup());
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(ListenerInvoker.class), LISTENER_TYPE, handle, handle.type());
+
+            return (ListenerInvoker) site.getTarget().invoke();
+        }
+        catch (LambdaConversionException | IllegalAccessException | IllegalArgumentException | SecurityException ex) {
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Couldn't generate invoker for listener method '{}', reflection is used. {}: {}", methodName, ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return (listener, on, target) -> {
+                try {
+                    method.invoke(listener, on, target);
+                }
+                catch (InvocationTargetException invocationEx) {
+                    throw invocationEx.getCause();
+                }
+            };
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Couldn't link invoker for listener method '" + methodName + "'.", ex);
+        }
+    }
+
+    /**
+     * Creates a factory for instances of the given type. The type requires an accessible default constructor. If the constructor isn't accessible, a reflective factory is used which fails on
+     * call.
+     *
+     * @param type Type of instances which are created.
+     *
+     * @return The factory.
+     */
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> constructor(@NonNull final Class<?> type) {
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            final MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class), FACTORY_TYPE, handle, handle.type());
+
+            return (Supplier<Object>) site.getTarget().invoke();
+        }
+        catch (LambdaConversionException | NoSuchMethodException | IllegalAccessException | IllegalArgumentException | SecurityException ex) {
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Couldn't generate factory for type '{}', reflection is used. {}: {}", type.getName(), ex.getClass().getSimpleName(), ex.getMessage());
+            }
+            return () -> {
+                try {
+                    return type.getDeclaredConstructor().newInstance();
+                }
+                catch (ReflectiveOperationException reflectionEx) {
+                    throw new IllegalStateException("Couldn't create instance of '" + type.getName() + "'.", reflectionEx);
+                }
+            };
+        }
+        catch (Throwable ex) {
+            throw new IllegalStateException("Couldn't link factory for type '" + type.getName() + "'.", ex);
+        }
+    }
+}
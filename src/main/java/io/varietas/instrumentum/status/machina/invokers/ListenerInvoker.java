@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.invokers;
+
+/**
+ * <h2>ListenerInvoker</h2>
+ * <p>
+ * A listener invoker calls the before or after method of a transition or chain listener. Invokers are resolved once by {@link Invokers#listener(Class, String, Class)} when the
+ * {@link io.varietas.instrumentum.status.machina.containers.ListenerContainer} is built.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@FunctionalInterface
+public interface ListenerInvoker {
+
+    /**
+     * Invokes the listener method.
+     *
+     * @param listener Listener instance where the method is declared.
+     * @param on Event or chain that triggers the listener.
+     * @param target Transition operation target.
+     *
+     * @throws Throwable Any error thrown by the listener method.
+     */
+    void invoke(Object listener, Object on, Object target) throws Throwable;
+}
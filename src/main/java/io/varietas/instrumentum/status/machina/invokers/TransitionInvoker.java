@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.invokers;
+
+/**
+ * <h2>TransitionInvoker</h2>
+ * <p>
+ * A transition invoker calls the method of a transition on a machine instance. Invokers are created once per transition by {@link Invokers#transition(java.lang.reflect.Method)} and replace
+ * the reflective call of the method on each fired event.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@FunctionalInterface
+public interface TransitionInvoker {
+
+    /**
+     * Invokes the transition method.
+     *
+     * @param machine Machine instance where the transition method is declared.
+     * @param from State before the transition.
+     * @param to State after the transition.
+     * @param on Event that triggers the transition.
+     * @param target Transition operation target.
+     *
+     * @throws Throwable Any error thrown by the transition method.
+     */
+    void invoke(Object machine, Object from, Object to, Object on, Object target) throws Throwable;
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>io.varietas.instrumentum.status.machina.invokers</h2>
+ * <p>
+ * The invokers replace the reflective calls of transition and listener methods. Each invoker is generated once via {@link java.lang.invoke.LambdaMetafactory} while the configuration is extracted
+ * and called directly on each fired event, which allows the JIT to inline the called method.</p>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+package io.varietas.instrumentum.status.machina.invokers;
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.management;
+
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.metrics.InMemoryTransitionMetrics;
+import io.varietas.instrumentum.status.machina.metrics.LatencyHistogram;
+import io.varietas.instrumentum.status.machina.metrics.TransitionStatistics;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>ManagedStateMachine</h2>
+ * <p>
+ * Implementation of the {@link StateMachineMXBean} of a machine type. The recorder is resolved on each request because it is created with the first machine of the type.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+final class ManagedStateMachine implements StateMachineMXBean {
+
+    private static final double PERCENTILE = 99.0;
+
+    private final FSMConfiguration configuration;
+
+    private final Supplier<Optional<InMemoryTransitionMetrics>> metrics;
+
+    private final LongAdder machineCacheHits = new LongAdder();
+
+    private final LongAdder machineCacheMisses = new LongAdder();
+
+    private final LongAdder configurationCacheHits = new LongAdder();
+
+    private final LongAdder configurationCacheMisses = new LongAdder();
+
+    ManagedStateMachine(final FSMConfiguration configuration, final Supplier<Optional<InMemoryTransitionMetrics>> metrics) {
+        this.configuration = configuration;
+        this.metrics = metrics;
+    }
+
+    void machineCacheAccess(final boolean hit) {
+        (hit ? this.machineCacheHits : this.machineCacheMisses).increment();
+    }
+
+    void configurationCacheAccess(final boolean hit) {
+        (hit ? this.configurationCacheHits : this.configurationCacheMisses).increment();
+    }
+
+    @Override
+    public String getMachineType() {
+        return this.configuration.getMachineType().getName();
+    }
+
+    @Override
+    public String getStateType() {
+        return this.configuration.getStateType().getName();
+    }
+
+    @Override
+    public String getEventType() {
+        return this.configuration.getEventType().getName();
+    }
+
+    @Override
+    public String getChainType() {
+        return (this.configuration instanceof CFSMConfiguration) ? ((CFSMConfiguration) this.configuration).getChainType().getName() : null;
+    }
+
+    @Override
+    public String getConflictPolicy() {
+        return this.configuration.getConflictPolicy().name();
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return this.configuration.getMaxRetries();
+    }
+
+    @Override
+    public int getTransitionCount() {
+        return this.configuration.getTransitions().size();
+    }
+
+    @Override
+    public int getChainCount() {
+        return (this.configuration instanceof CFSMConfiguration) ? ((CFSMConfiguration) this.configuration).getChains().size() : 0;
+    }
+
+    @Override
+    public boolean isRecording() {
+        return this.metrics.get().isPresent();
+    }
+
+    @Override
+    public boolean isDetailedTiming() {
+        return this.metrics.get().map(InMemoryTransitionMetrics::isTimed).orElse(false);
+    }
+
+    @Override
+    public void setDetailedTiming(final boolean detailedTiming) {
+        this.metrics.get().ifPresent(metrics -> metrics.setTimed(detailedTiming));
+    }
+
+    @Override
+    public long getFired() {
+        return this.statistics().stream().mapToLong(TransitionStatistics::getFired).sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return this.statistics().stream().mapToLong(TransitionStatistics::getRejected).sum() + this.metrics.get().map(InMemoryTransitionMetrics::unknownRejections).orElse(0L);
+    }
+
+    @Override
+    public long getFailed() {
+        return this.statistics().stream().mapToLong(TransitionStatistics::getFailed).sum();
+    }
+
+    @Override
+    public double getThroughput() {
+        return this.throughput(this.getFired());
+    }
+
+    @Override
+    public double getErrorRate() {
+        return ManagedStateMachine.rate(this.getFailed(), this.getFired());
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        return this.latency().getMean();
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        return this.latency().percentile(PERCENTILE);
+    }
+
+    @Override
+    public List<TransitionData> getTransitions() {
+        return this.statistics().stream()
+                .map(statistics -> TransitionData.of(
+                statistics.getState().name(),
+                statistics.getEvent().name(),
+                statistics.getFired(),
+                statistics.getRejected(),
+                statistics.getFailed(),
+                this.throughput(statistics.getFired()),
+                ManagedStateMachine.rate(statistics.getFailed(), statistics.getFired()),
+                statistics.getLatency().getMean(),
+                statistics.getLatency().percentile(PERCENTILE)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getMachineCacheHits() {
+        return this.machineCacheHits.sum();
+    }
+
+    @Override
+    public long getMachineCacheMisses() {
+        return this.machineCacheMisses.sum();
+    }
+
+    @Override
+    public double getMachineCacheHitRate() {
+        return ManagedStateMachine.rate(this.getMachineCacheHits(), this.getMachineCacheMisses());
+    }
+
+    @Override
+    public long getConfigurationCacheHits() {
+        return this.configurationCacheHits.sum();
+    }
+
+    @Override
+    public long getConfigurationCacheMisses() {
+        return this.configurationCacheMisses.sum();
+    }
+
+    @Override
+    public double getConfigurationCacheHitRate() {
+        return ManagedStateMachine.rate(this.getConfigurationCacheHits(), this.getConfigurationCacheMisses());
+    }
+
+    @Override
+    public void resetCounters() {
+        this.metrics.get().ifPresent(InMemoryTransitionMetrics::reset);
+        this.machineCacheHits.reset();
+        this.machineCacheMisses.reset();
+        this.configurationCacheHits.reset();
+        this.configurationCacheMisses.reset();
+    }
+
+    private List<TransitionStatistics> statistics() {
+        return this.metrics.get().map(InMemoryTransitionMetrics::transitions).orElse(Collections.emptyList());
+    }
+
+    private LatencyHistogram.Snapshot latency() {
+        return this.statistics().stream()
+                .map(TransitionStatistics::getLatency)
+                .reduce(LatencyHistogram.EMPTY, LatencyHistogram.Snapshot::merge);
+    }
+
+    private double throughput(final long fired) {
+
+        final long elapsed = this.metrics.get().map(InMemoryTransitionMetrics::elapsedNanos).orElse(0L);
+
+        return (elapsed <= 0L) ? 0.0 : fired * (double) TimeUnit.SECONDS.toNanos(1L) / elapsed;
+    }
+
+    /**
+     * Calculates the share of the counted cases of all cases.
+     *
+     * @param counted Number of the counted cases.
+     * @param others Number of the other cases.
+     *
+     * @return Share between 0.0 and 1.0, zero if there are no cases.
+     */
+    private static double rate(final long counted, final long others) {
+        return (counted + others == 0L) ? 0.0 : (double) counted / (counted + others);
+    }
+}
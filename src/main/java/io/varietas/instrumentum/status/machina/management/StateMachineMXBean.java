@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.management;
+
+import java.util.List;
+
+/**
+ * <h2>StateMachineMXBean</h2>
+ * <p>
+ * Management interface of a machine type. Counters and latencies are taken from the recorder of the machine type and cover the time since the last reset. Latencies are available only while the
+ * detailed timing is switched on.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public interface StateMachineMXBean {
+
+    /**
+     * Returns the name of the machine type.
+     *
+     * @return Binary name of the machine type.
+     */
+    String getMachineType();
+
+    /**
+     * Returns the name of the state type.
+     *
+     * @return Binary name of the state type.
+     */
+    String getStateType();
+
+    /**
+     * Returns the name of the event type.
+     *
+     * @return Binary name of the event type.
+     */
+    String getEventType();
+
+    /**
+     * Returns the name of the chain type.
+     *
+     * @return Binary name of the chain type or null if the machine doesn't support chains.
+     */
+    String getChainType();
+
+    /**
+     * Returns the conflict policy of the machine type.
+     *
+     * @return Name of the conflict policy.
+     */
+    String getConflictPolicy();
+
+    /**
+     * Returns the maximum number of retries of a conflicting transition.
+     *
+     * @return Maximum number of retries.
+     */
+    int getMaxRetries();
+
+    /**
+     * Returns the number of configured transitions.
+     *
+     * @return Number of transitions.
+     */
+    int getTransitionCount();
+
+    /**
+     * Returns the number of configured chains.
+     *
+     * @return Number of chains.
+     */
+    int getChainCount();
+
+    /**
+     * Checks if the metrics of the machine type are recorded. Metrics aren't recorded if a custom metrics provider is used or the machines were created before the management was enabled.
+     *
+     * @return True if metrics are recorded, otherwise false.
+     */
+    boolean isRecording();
+
+    /**
+     * Checks if the durations of transitions and listeners are measured.
+     *
+     * @return True if the detailed timing is switched on.
+     */
+    boolean isDetailedTiming();
+
+    /**
+     * Switches the measurement of durations. Without detailed timing only the counters are recorded.
+     *
+     * @param detailedTiming True to switch the detailed timing on.
+     */
+    void setDetailedTiming(boolean detailedTiming);
+
+    /**
+     * Returns the number of transitions which were fired successfully.
+     *
+     * @return Number of fired transitions.
+     */
+    long getFired();
+
+    /**
+     * Returns the number of events which were rejected because no transition was available.
+     *
+     * @return Number of rejected events.
+     */
+    long getRejected();
+
+    /**
+     * Returns the number of transitions whose method failed.
+     *
+     * @return Number of failed transitions.
+     */
+    long getFailed();
+
+    /**
+     * Returns the number of fired transitions per second.
+     *
+     * @return Throughput per second.
+     */
+    double getThroughput();
+
+    /**
+     * Returns the share of failed transitions of all invoked transitions.
+     *
+     * @return Error rate between 0.0 and 1.0.
+     */
+    double getErrorRate();
+
+    /**
+     * Returns the mean duration of the transition methods.
+     *
+     * @return Mean duration in nanoseconds.
+     */
+    double getMeanLatencyNanos();
+
+    /**
+     * Returns the 99th percentile of the durations of the transition methods.
+     *
+     * @return Duration in nanoseconds.
+     */
+    long getP99LatencyNanos();
+
+    /**
+     * Returns the statistics per state and event.
+     *
+     * @return Statistics of all combinations of state and event which were fired, rejected or failed.
+     */
+    List<TransitionData> getTransitions();
+
+    /**
+     * Returns the number of requests of the shared machine which were served from the cache of the factory.
+     *
+     * @return Number of cache hits.
+     */
+    long getMachineCacheHits();
+
+    /**
+     * Returns the number of requests of the shared machine which created the machine.
+     *
+     * @return Number of cache misses.
+     */
+    long getMachineCacheMisses();
+
+    /**
+     * Returns the share of requests of the shared machine which were served from the cache.
+     *
+     * @return Hit rate between 0.0 and 1.0.
+     */
+    double getMachineCacheHitRate();
+
+    /**
+     * Returns the number of configuration requests which were served from the cache of the factory.
+     *
+     * @return Number of cache hits.
+     */
+    long getConfigurationCacheHits();
+
+    /**
+     * Returns the number of configuration requests which extracted the configuration.
+     *
+     * @return Number of cache misses.
+     */
+    long getConfigurationCacheMisses();
+
+    /**
+     * Returns the share of configuration requests which were served from the cache.
+     *
+     * @return Hit rate between 0.0 and 1.0.
+     */
+    double getConfigurationCacheHitRate();
+
+    /**
+     * Resets the counters, latencies and cache statistics.
+     */
+    void resetCounters();
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.management;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.metrics.InMemoryMetricsProvider;
+import io.varietas.instrumentum.status.machina.metrics.Instrumentation;
+import io.varietas.instrumentum.status.machina.metrics.MetricsProvider;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>StateMachineManagement</h2>
+ * <p>
+ * The state machine management registers a {@link StateMachineMXBean} for each machine type whose configuration is loaded by the {@link io.varietas.instrumentum.status.machina.StateMachineFactory}.
+ * The registration is switched off by default and is enabled via {@link #enable()} or the system property {@value #PROPERTY}.
+ * <p>
+ * If no metrics provider is in use, enabling the management installs an {@link InMemoryMetricsProvider} whose recorders only count. The durations are measured after switching on the detailed
+ * timing of a machine type via JMX. An existing {@link InMemoryMetricsProvider} is reused. Machine types whose configuration was loaded before the management was enabled are registered by
+ * {@link #enable()} and their machines are recorded from their next transition on.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StateMachineManagement {
+
+    /**
+     * System property which enables the management on startup.
+     */
+    public static final String PROPERTY = "status.machina.jmx";
+
+    private static final String DOMAIN = "io.varietas.instrumentum.status.machina";
+
+    private static final Map<Class<? extends StateMachine>, ManagedStateMachine> MANAGED = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private static volatile InMemoryMetricsProvider provider;
+
+    static {
+        if (Boolean.getBoolean(PROPERTY)) {
+            StateMachineManagement.enable();
+        }
+    }
+
+    /**
+     * Enables the registration of machine types and registers all machine types whose configuration is already cached by the
+     * {@link io.varietas.instrumentum.status.machina.StateMachineFactory}.
+     */
+    public static synchronized void enable() {
+
+        final MetricsProvider current = Instrumentation.current();
+
+        if (current instanceof InMemoryMetricsProvider) {
+            StateMachineManagement.provider = (InMemoryMetricsProvider) current;
+        } else if (current == MetricsProvider.NONE) {
+            StateMachineManagement.provider = new InMemoryMetricsProvider(false);
+            Instrumentation.use(StateMachineManagement.provider);
+        } else {
+            StateMachineManagement.provider = null;
+        }
+
+        StateMachineManagement.enabled = true;
+
+        StateMachineFactory.getConfigurations().forEach(StateMachineManagement::register);
+    }
+
+    /**
+     * Disables the registration of machine types and unregisters all registered machine types. The metrics provider stays in use.
+     */
+    public static synchronized void disable() {
+        StateMachineManagement.enabled = false;
+        StateMachineManagement.unregisterAll();
+    }
+
+    /**
+     * Checks if the registration of machine types is enabled.
+     *
+     * @return True if the management is enabled, otherwise false.
+     */
+    public static boolean isEnabled() {
+        return StateMachineManagement.enabled;
+    }
+
+    /**
+     * Creates the name of the MXBean of a machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return Object name of the MXBean.
+     */
+    public static ObjectName objectName(@NonNull final Class<? extends StateMachine> machineType) {
+        try {
+            return new ObjectName(DOMAIN + ":type=StateMachine,name=" + machineType.getName());
+        }
+        catch (MalformedObjectNameException ex) {
+            throw new IllegalArgumentException("Couldn't create object name of '" + machineType.getName() + "'.", ex);
+        }
+    }
+
+    /**
+     * Registers the MXBean of a machine type if the management is enabled. A machine type is registered once.
+     *
+     * @param configuration The configuration of the machine type.
+     */
+    public static void register(@NonNull final FSMConfiguration configuration) {
+
+        if (!StateMachineManagement.enabled || MANAGED.containsKey(configuration.getMachineType())) {
+            return;
+        }
+
+        final Class<? extends StateMachine> machineType = configuration.getMachineType();
+        final ManagedStateMachine managed = new ManagedStateMachine(configuration, () -> Optional.ofNullable(StateMachineManagement.provider).flatMap(current -> current.get(machineType)));
+
+        if (Objects.nonNull(MANAGED.putIfAbsent(machineType, managed))) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(managed, StateMachineManagement.objectName(machineType));
+        }
+        catch (JMException ex) {
+            MANAGED.remove(machineType, managed);
+            LOGGER.warn("Couldn't register MXBean of '{}': {}", machineType.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the MXBean of a machine type.
+     *
+     * @param machineType The machine type.
+     */
+    public static void unregister(@NonNull final Class<? extends StateMachine> machineType) {
+
+        if (Objects.isNull(MANAGED.remove(machineType))) {
+            return;
+        }
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.unregisterMBean(StateMachineManagement.objectName(machineType));
+        }
+        catch (JMException ex) {
+            LOGGER.warn("Couldn't unregister MXBean of '{}': {}", machineType.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the MXBeans of all machine types.
+     */
+    public static void unregisterAll() {
+        MANAGED.keySet().forEach(StateMachineManagement::unregister);
+    }
+
+    /**
+     * Records a request of the shared machine of a machine type. Used by the {@link io.varietas.instrumentum.status.machina.StateMachineFactory}.
+     *
+     * @param machineType The machine type.
+     * @param hit True if the machine was taken from the cache.
+     */
+    public static void recordMachineCacheAccess(@NonNull final Class<? extends StateMachine> machineType, final boolean hit) {
+        final ManagedStateMachine managed = MANAGED.get(machineType);
+
+        if (Objects.nonNull(managed)) {
+            managed.machineCacheAccess(hit);
+        }
+    }
+
+    /**
+     * Records a request of the configuration of a machine type. Used by the {@link io.varietas.instrumentum.status.machina.StateMachineFactory}.
+     *
+     * @param machineType The machine type.
+     * @param hit True if the configuration was taken from the cache.
+     */
+    public static void recordConfigurationCacheAccess(@NonNull final Class<? extends StateMachine> machineType, final boolean hit) {
+        final ManagedStateMachine managed = MANAGED.get(machineType);
+
+        if (Objects.nonNull(managed)) {
+            managed.configurationCacheAccess(hit);
+        }
+    }
+}
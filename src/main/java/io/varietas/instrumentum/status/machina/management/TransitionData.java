@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.management;
+
+import lombok.Value;
+
+/**
+ * <h2>TransitionData</h2>
+ * <p>
+ * Statistics of the events fired on targets in a single state as exposed by the {@link StateMachineMXBean}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Value(staticConstructor = "of")
+public class TransitionData {
+
+    String state;
+
+    String event;
+
+    long fired;
+
+    long rejected;
+
+    long failed;
+
+    double throughput;
+
+    double errorRate;
+
+    double meanLatencyNanos;
+
+    long p99LatencyNanos;
+}
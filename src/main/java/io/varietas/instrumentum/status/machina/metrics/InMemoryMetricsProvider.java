@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * <h2>InMemoryMetricsProvider</h2>
+ * <p>
+ * Provider of {@link InMemoryTransitionMetrics}. All machines of a machine type share one recorder, so the shared machine and the machines created via
+ * {@link io.varietas.instrumentum.status.machina.StateMachineFactory#newStateMachine(Class)} are recorded together. Enable it via {@code Instrumentation.use(new InMemoryMetricsProvider())}, running
+ * machines are recorded from their next transition on.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class InMemoryMetricsProvider implements MetricsProvider {
+
+    private final Map<Class<? extends StateMachine>, InMemoryTransitionMetrics> metrics = new ConcurrentHashMap<>();
+
+    private final boolean timed;
+
+    /**
+     * Creates a provider of timed recorders.
+     */
+    public InMemoryMetricsProvider() {
+        this(true);
+    }
+
+    /**
+     * Creates a provider.
+     *
+     * @param timed True if new recorders measure durations, see {@link InMemoryTransitionMetrics#setTimed(boolean)}.
+     */
+    public InMemoryMetricsProvider(final boolean timed) {
+        this.timed = timed;
+    }
+
+    @Override
+    public InMemoryTransitionMetrics create(@NonNull final FSMConfiguration configuration) {
+        return this.metrics.computeIfAbsent(configuration.getMachineType(), type -> InMemoryTransitionMetrics.of(configuration, this.timed));
+    }
+
+    /**
+     * Returns the recorder of a machine type.
+     *
+     * @param machineType The machine type.
+     *
+     * @return The recorder, otherwise an empty Optional if no machine of the type was created.
+     */
+    public Optional<InMemoryTransitionMetrics> get(@NonNull final Class<? extends StateMachine> machineType) {
+        return Optional.ofNullable(this.metrics.get(machineType));
+    }
+
+    /**
+     * Returns the recorders of all machine types.
+     *
+     * @return Unmodifiable view of the recorders by machine type.
+     */
+    public Map<Class<? extends StateMachine>, InMemoryTransitionMetrics> getAll() {
+        return Collections.unmodifiableMap(this.metrics);
+    }
+}
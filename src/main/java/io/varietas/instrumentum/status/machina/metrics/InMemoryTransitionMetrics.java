@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * <h2>InMemoryTransitionMetrics</h2>
+ * <p>
+ * Recorder which keeps the metrics of a machine type in memory. Counters and histograms are stored in arrays indexed by the ordinals of state and event, and all of them are striped
+ * {@link LongAdder}s, so concurrent firing doesn't contend on the metrics. Histograms exist only for the combinations of state and event which have a transition.
+ * <p>
+ * The timing can be switched at runtime via {@link #setTimed(boolean)}. Without timing only the counters are recorded and the machine doesn't take any timestamps. Events of foreign types and rejections of targets without state are counted as unknown rejections.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = "machineType")
+public final class InMemoryTransitionMetrics implements TransitionMetrics {
+
+    @Getter
+    private final Class<? extends StateMachine> machineType;
+
+    private final Class<? extends Enum<?>> stateType;
+
+    private final Class<? extends Enum<?>> eventType;
+
+    private final Enum<?>[] states;
+
+    private final Enum<?>[] events;
+
+    private final LongAdder[] fired;
+
+    private final LongAdder[] rejected;
+
+    private final LongAdder[] failed;
+
+    private final LatencyHistogram[] latencies;
+
+    private final LongAdder unknownRejected = new LongAdder();
+
+    private final Map<Class<?>, LatencyHistogram[]> listeners = new ConcurrentHashMap<>();
+
+    private volatile boolean timed;
+
+    private volatile long since = System.nanoTime();
+
+    private InMemoryTransitionMetrics(final FSMConfiguration configuration, final boolean timed) {
+        this.timed = timed;
+        this.machineType = configuration.getMachineType();
+        this.stateType = configuration.getStateType();
+        this.eventType = configuration.getEventType();
+        this.states = this.stateType.getEnumConstants();
+        this.events = this.eventType.getEnumConstants();
+
+        final int size = this.states.length * this.events.length;
+
+        this.fired = new LongAdder[size];
+        this.rejected = new LongAdder[size];
+        this.failed = new LongAdder[size];
+        this.latencies = new LatencyHistogram[size];
+
+        for (int index = 0; index < size; ++index) {
+            this.fired[index] = new LongAdder();
+            this.rejected[index] = new LongAdder();
+            this.failed[index] = new LongAdder();
+
+            if (Objects.nonNull(configuration.getTransitionTable().find(this.events[index % this.events.length], this.states[index / this.events.length]))) {
+                this.latencies[index] = new LatencyHistogram();
+            }
+        }
+    }
+
+    /**
+     * Creates a timed recorder for the machine type of the given configuration.
+     *
+     * @param configuration Configuration of the machine type.
+     *
+     * @return The recorder.
+     */
+    public static InMemoryTransitionMetrics of(@NonNull final FSMConfiguration configuration) {
+        return new InMemoryTransitionMetrics(configuration, true);
+    }
+
+    /**
+     * Creates a recorder for the machine type of the given configuration.
+     *
+     * @param configuration Configuration of the machine type.
+     * @param timed True if durations are measured initially.
+     *
+     * @return The recorder.
+     */
+    public static InMemoryTransitionMetrics of(@NonNull final FSMConfiguration configuration, final boolean timed) {
+        return new InMemoryTransitionMetrics(configuration, timed);
+    }
+
+    @Override
+    public boolean isTimed() {
+        return this.timed;
+    }
+
+    /**
+     * Switches the measurement of durations. Machines take the change into account on the next fired event.
+     *
+     * @param timed True if durations should be measured.
+     */
+    public void setTimed(final boolean timed) {
+        this.timed = timed;
+    }
+
+    /**
+     * Returns the nanoseconds since the recorder was created or reset.
+     *
+     * @return Elapsed nanoseconds.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - this.since;
+    }
+
+    /**
+     * Resets all counters, histograms and listener timings.
+     */
+    public void reset() {
+
+        for (int index = 0; index < this.fired.length; ++index) {
+            this.fired[index].reset();
+            this.rejected[index].reset();
+            this.failed[index].reset();
+
+            if (Objects.nonNull(this.latencies[index])) {
+                this.latencies[index].reset();
+            }
+        }
+
+        this.unknownRejected.reset();
+        this.listeners.clear();
+        this.since = System.nanoTime();
+    }
+
+    @Override
+    public void fired(final Enum<?> state, final Enum<?> event, final long nanos) {
+
+        final int index = this.index(state, event);
+
+        if (index >= 0) {
+            this.fired[index].increment();
+
+            if (nanos >= 0L && Objects.nonNull(this.latencies[index])) {
+                this.latencies[index].record(nanos);
+            }
+        }
+    }
+
+    @Override
+    public void rejected(final Enum<?> state, final Enum<?> event) {
+
+        final int index = this.index(state, event);
+
+        if (index >= 0) {
+            this.rejected[index].increment();
+        } else {
+            this.unknownRejected.increment();
+        }
+    }
+
+    @Override
+    public void failed(final Enum<?> state, final Enum<?> event) {
+
+        final int index = this.index(state, event);
+
+        if (index >= 0) {
+            this.failed[index].increment();
+        }
+    }
+
+    @Override
+    public void beforeListener(final Class<?> listener, final Enum<?> on, final long nanos) {
+        this.listenerLatencies(listener)[0].record(nanos);
+    }
+
+    @Override
+    public void afterListener(final Class<?> listener, final Enum<?> on, final long nanos) {
+        this.listenerLatencies(listener)[1].record(nanos);
+    }
+
+    /**
+     * Returns the statistics of all combinations of state and event which were fired, rejected or failed at least once.
+     *
+     * @return Statistics in order of state and event ordinals.
+     */
+    public List<TransitionStatistics> transitions() {
+
+        final List<TransitionStatistics> res = new ArrayList<>();
+
+        for (int index = 0; index < this.fired.length; ++index) {
+            final long firedCount = this.fired[index].sum();
+            final long rejectedCount = this.rejected[index].sum();
+            final long failedCount = this.failed[index].sum();
+
+            if (firedCount + rejectedCount + failedCount > 0L) {
+                res.add(TransitionStatistics.of(this.states[index / this.events.length], this.events[index % this.events.length], firedCount, rejectedCount, failedCount, this.snapshot(index)));
+            }
+        }
+
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Returns the listener timings of all listeners which were executed at least once.
+     *
+     * @return Listener statistics.
+     */
+    public List<ListenerStatistics> listeners() {
+
+        final List<ListenerStatistics> res = new ArrayList<>(this.listeners.size());
+
+        this.listeners.forEach((listener, histograms) -> res.add(ListenerStatistics.of(listener, histograms[0].snapshot(), histograms[1].snapshot())));
+
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Returns the number of rejected events whose state or event couldn't be assigned.
+     *
+     * @return Number of unknown rejections.
+     */
+    public long unknownRejections() {
+        return this.unknownRejected.sum();
+    }
+
+    private int index(final Enum<?> state, final Enum<?> event) {
+
+        if (Objects.isNull(state) || Objects.isNull(event) || state.getDeclaringClass() != this.stateType || event.getDeclaringClass() != this.eventType) {
+            return -1;
+        }
+
+        return state.ordinal() * this.events.length + event.ordinal();
+    }
+
+    private LatencyHistogram.Snapshot snapshot(final int index) {
+        return Objects.nonNull(this.latencies[index]) ? this.latencies[index].snapshot() : LatencyHistogram.EMPTY;
+    }
+
+    private LatencyHistogram[] listenerLatencies(final Class<?> listener) {
+
+        final LatencyHistogram[] res = this.listeners.get(listener);
+
+        if (Objects.nonNull(res)) {
+            return res;
+        }
+
+        return this.listeners.computeIfAbsent(listener, type -> new LatencyHistogram[]{new LatencyHistogram(), new LatencyHistogram()});
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * <h2>Instrumentation</h2>
+ * <p>
+ * The instrumentation holds the {@link MetricsProvider} which is used by the machines. The initial provider is the first provider found by the {@link ServiceLoader}, otherwise
+ * {@link MetricsProvider#NONE}. The provider can be changed via {@link #use(MetricsProvider)}. Machines check the provider with each transition, so existing machines switch to the recorder of a
+ * new provider with their next transition.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Instrumentation {
+
+    private static volatile MetricsProvider provider = ServiceLoader.load(MetricsProvider.class, Instrumentation.class.getClassLoader())
+            .findFirst()
+            .orElse(MetricsProvider.NONE);
+
+    /**
+     * Returns the provider which is used by the machines.
+     *
+     * @return Current metrics provider.
+     */
+    public static MetricsProvider current() {
+        return Instrumentation.provider;
+    }
+
+    /**
+     * Sets the provider which is used by the machines.
+     *
+     * @param provider New metrics provider.
+     */
+    public static void use(@NonNull final MetricsProvider provider) {
+        Instrumentation.provider = provider;
+    }
+
+    /**
+     * Creates the recorder of a machine via the current provider.
+     *
+     * @param configuration Configuration of the machine, may be null.
+     *
+     * @return The recorder of the machine, {@link TransitionMetrics#NONE} if the configuration is null or the provider returns nothing.
+     */
+    public static TransitionMetrics metrics(final FSMConfiguration configuration) {
+        return Instrumentation.metrics(Instrumentation.provider, configuration);
+    }
+
+    /**
+     * Creates the recorder of a machine via the given provider.
+     *
+     * @param provider Provider which creates the recorder.
+     * @param configuration Configuration of the machine, may be null.
+     *
+     * @return The recorder of the machine, {@link TransitionMetrics#NONE} if the configuration is null or the provider returns nothing.
+     */
+    public static TransitionMetrics metrics(@NonNull final MetricsProvider provider, final FSMConfiguration configuration) {
+
+        if (Objects.isNull(configuration)) {
+            return TransitionMetrics.NONE;
+        }
+
+        final TransitionMetrics res = provider.create(configuration);
+
+        return Objects.nonNull(res) ? res : TransitionMetrics.NONE;
+    }
+}
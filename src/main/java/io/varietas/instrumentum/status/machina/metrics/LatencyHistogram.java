@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * <h2>LatencyHistogram</h2>
+ * <p>
+ * The latency histogram counts durations in log-linear buckets like a HDR histogram: Each power of two is split into {@value #SUB_BUCKETS} linear sub buckets, so a recorded value is reported with
+ * a relative error of at most 12.5%. Values below {@value #SUB_BUCKETS} are counted exactly. Each bucket is a {@link LongAdder} which is created on the first value in its range, so recording never
+ * becomes a contention point and unused ranges don't occupy memory.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@ToString(of = {"sum", "max"})
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * Snapshot of a histogram without recorded values.
+     */
+    public static final Snapshot EMPTY = new Snapshot(0L, 0L, 0L, new long[BUCKETS]);
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value The value, e.g. a duration in nanoseconds.
+     */
+    public void record(final long value) {
+
+        final long used = Math.max(value, 0L);
+        final int index = LatencyHistogram.bucket(used);
+
+        LongAdder bucket = this.buckets.get(index);
+
+        if (Objects.isNull(bucket)) {
+            this.buckets.compareAndSet(index, null, new LongAdder());
+            bucket = this.buckets.get(index);
+        }
+
+        bucket.increment();
+        this.sum.add(used);
+        this.max.accumulate(used);
+    }
+
+    /**
+     * Removes all recorded values. Values which are recorded concurrently may be kept partially.
+     */
+    public void reset() {
+
+        for (int index = 0; index < BUCKETS; ++index) {
+            final LongAdder bucket = this.buckets.get(index);
+
+            if (Objects.nonNull(bucket)) {
+                bucket.reset();
+            }
+        }
+
+        this.sum.reset();
+        this.max.reset();
+    }
+
+    /**
+     * Creates a snapshot of the recorded values. Values which are recorded concurrently may be missing in parts of the snapshot.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+
+        final long[] counts = new long[BUCKETS];
+
+        for (int index = 0; index < BUCKETS; ++index) {
+            final LongAdder bucket = this.buckets.get(index);
+            counts[index] = Objects.nonNull(bucket) ? bucket.sum() : 0L;
+        }
+
+        return new Snapshot(Arrays.stream(counts).sum(), this.sum.sum(), this.max.get(), counts);
+    }
+
+    static int bucket(final long value) {
+
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(final int bucket) {
+
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * <h2>Snapshot</h2>
+     * <p>
+     * Immutable snapshot of a {@link LatencyHistogram}.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+
+        long count;
+
+        long sum;
+
+        long max;
+
+        @Getter(AccessLevel.NONE)
+        @ToString.Exclude
+        long[] buckets;
+
+        /**
+         * Merges this snapshot with another snapshot, e.g. to aggregate the histograms of several transitions.
+         *
+         * @param other The other snapshot.
+         *
+         * @return Snapshot which contains the values of both snapshots.
+         */
+        public Snapshot merge(@NonNull final Snapshot other) {
+
+            final long[] counts = this.buckets.clone();
+
+            for (int index = 0; index < counts.length; ++index) {
+                counts[index] += other.buckets[index];
+            }
+
+            return new Snapshot(this.count + other.count, this.sum + other.sum, Math.max(this.max, other.max), counts);
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @return The mean or zero if nothing was recorded.
+         */
+        public double getMean() {
+            return (this.count == 0L) ? 0.0 : (double) this.sum / this.count;
+        }
+
+        /**
+         * Returns the value below or at which the given share of the recorded values lies. The value is the upper bound of the bucket, but never larger than the maximum.
+         *
+         * @param percentile Share between 0.0 and 100.0.
+         *
+         * @return The value of the percentile or zero if nothing was recorded.
+         */
+        public long percentile(final double percentile) {
+
+            if (this.count == 0L) {
+                return 0L;
+            }
+
+            final long rank = Math.max(1L, (long) Math.ceil(Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * this.count));
+            long seen = 0L;
+
+            for (int index = 0; index < this.buckets.length; ++index) {
+                seen += this.buckets[index];
+
+                if (seen >= rank) {
+                    return Math.min(LatencyHistogram.upperBound(index), this.max);
+                }
+            }
+
+            return this.max;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+
+/**
+ * <h2>MetricsProvider</h2>
+ * <p>
+ * A metrics provider creates the {@link TransitionMetrics} of a machine. Providers are registered via {@link Instrumentation#use(MetricsProvider)} or as service of the {@link java.util.ServiceLoader}
+ * in {@code META-INF/services/io.varietas.instrumentum.status.machina.metrics.MetricsProvider}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@FunctionalInterface
+public interface MetricsProvider {
+
+    /**
+     * Provider which disables the metrics.
+     */
+    MetricsProvider NONE = configuration -> TransitionMetrics.NONE;
+
+    /**
+     * Creates or returns the recorder of a machine. Machines of the same machine type may share a recorder.
+     *
+     * @param configuration Configuration of the machine.
+     *
+     * @return The recorder of the machine.
+     */
+    TransitionMetrics create(FSMConfiguration configuration);
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+/**
+ * <h2>TransitionMetrics</h2>
+ * <p>
+ * Transition metrics are the recorder of a machine. The machine calls the recorder on each fired event, so implementations have to be thread-safe and must not block. Durations are measured
+ * only if the recorder is enabled and timed. The timing can be switched at runtime, it is checked on each fired event.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public interface TransitionMetrics {
+
+    /**
+     * Duration which is passed if the duration wasn't measured.
+     */
+    long UNTIMED = -1L;
+
+    /**
+     * Recorder which records nothing.
+     */
+    TransitionMetrics NONE = new TransitionMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void fired(final Enum<?> state, final Enum<?> event, final long nanos) {
+        }
+
+        @Override
+        public void rejected(final Enum<?> state, final Enum<?> event) {
+        }
+
+        @Override
+        public void failed(final Enum<?> state, final Enum<?> event) {
+        }
+
+        @Override
+        public void beforeListener(final Class<?> listener, final Enum<?> on, final long nanos) {
+        }
+
+        @Override
+        public void afterListener(final Class<?> listener, final Enum<?> on, final long nanos) {
+        }
+    };
+
+    /**
+     * Checks if the recorder records anything. A machine doesn't call a disabled recorder.
+     *
+     * @return True if the recorder is enabled, otherwise false.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Checks if the durations of transition methods and listeners are measured. Listeners aren't recorded if the recorder isn't timed.
+     *
+     * @return True if durations are measured, otherwise false.
+     */
+    default boolean isTimed() {
+        return true;
+    }
+
+    /**
+     * Records a transition method which returned normally.
+     *
+     * @param state State of the target when the event was fired.
+     * @param event The fired event.
+     * @param nanos Duration of the transition method in nanoseconds or {@link #UNTIMED}.
+     */
+    void fired(Enum<?> state, Enum<?> event, long nanos);
+
+    /**
+     * Records an event which was rejected because no transition is available for the state of the target.
+     *
+     * @param state State of the target, may be null.
+     * @param event The fired event.
+     */
+    void rejected(Enum<?> state, Enum<?> event);
+
+    /**
+     * Records a transition method which failed with an exception.
+     *
+     * @param state State of the target when the event was fired.
+     * @param event The fired event.
+     */
+    void failed(Enum<?> state, Enum<?> event);
+
+    /**
+     * Records the execution of the before method of a listener.
+     *
+     * @param listener Type of the listener.
+     * @param on Event or chain which triggered the listener.
+     * @param nanos Duration of the listener method in nanoseconds.
+     */
+    void beforeListener(Class<?> listener, Enum<?> on, long nanos);
+
+    /**
+     * Records the execution of the after method of a listener.
+     *
+     * @param listener Type of the listener.
+     * @param on Event or chain which triggered the listener.
+     * @param nanos Duration of the listener method in nanoseconds.
+     */
+    void afterListener(Class<?> listener, Enum<?> on, long nanos);
+}
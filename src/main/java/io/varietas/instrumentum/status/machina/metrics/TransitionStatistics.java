@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import lombok.Value;
+
+/**
+ * <h2>TransitionStatistics</h2>
+ * <p>
+ * Statistics of the events fired on targets in a single state, recorded by the {@link InMemoryTransitionMetrics}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Value(staticConstructor = "of")
+public class TransitionStatistics {
+
+    Enum<?> state;
+
+    Enum<?> event;
+
+    long fired;
+
+    long rejected;
+
+    long failed;
+
+    /**
+     * Durations of the transition method in nanoseconds.
+     */
+    LatencyHistogram.Snapshot latency;
+}
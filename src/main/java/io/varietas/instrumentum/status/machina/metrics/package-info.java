@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>io.varietas.instrumentum.status.machina.metrics</h2>
+ * <p>
+ * The metrics record fired, rejected and failed transitions per state and event as well as the durations of transition methods and listeners. A machine takes its {@link
+ * io.varietas.instrumentum.status.machina.metrics.TransitionMetrics} from the current provider of the {@link io.varietas.instrumentum.status.machina.metrics.Instrumentation}. Without a registered
+ * {@link io.varietas.instrumentum.status.machina.metrics.MetricsProvider} nothing is recorded and no time is measured.</p>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+package io.varietas.instrumentum.status.machina.metrics;
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.processors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h2>DescriptorWriter</h2>
+ * <p>
+ * Writes the source of a {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor} for a {@link MachineModel}. The transition methods are called by a single invoker type which
+ * switches over the index of the method, so the call site of the invoker within the machine stays monomorphic and each method is called directly. Guard methods are called directly by a lambda per
+ * guard.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class DescriptorWriter {
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Writes the descriptor source of a machine.
+     *
+     * @param model Model of the machine.
+     * @param writer Target of the source.
+     *
+     * @throws IOException Thrown if the source couldn't be written.
+     */
+    static void write(final MachineModel model, final Writer writer) throws IOException {
+
+        final StringBuilder builder = new StringBuilder();
+
+        if (!model.getPackageName().isEmpty()) {
+            builder.append("package ").append(model.getPackageName()).append(";\n\n");
+        }
+
+        builder
+                .append("import io.varietas.instrumentum.status.machina.StateMachine;\n")
+                .append("import io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle;\n")
+                .append("import io.varietas.instrumentum.status.machina.builders.MachineDescriptor;\n")
+                .append("import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;\n")
+                .append("import io.varietas.instrumentum.status.machina.containers.ListenerContainer;\n")
+                .append("import io.varietas.instrumentum.status.machina.containers.TransitionContainer;\n")
+                .append("import io.varietas.instrumentum.status.machina.invokers.GuardInvoker;\n")
+                .append("import io.varietas.instrumentum.status.machina.invokers.Invokers;\n")
+                .append("import io.varietas.instrumentum.status.machina.invokers.TransitionInvoker;\n")
+                .append("import java.util.ArrayList;\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n")
+                .append(" * Descriptor of {@link ").append(model.getMachineType()).append("}. Generated at build time, don't edit.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(StateMachineProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(model.getDescriptorName()).append(" implements MachineDescriptor {\n\n");
+
+        DescriptorWriter.writeMachineType(model, builder);
+        DescriptorWriter.writeNewInstance(model, builder);
+        DescriptorWriter.writeCreateTransitions(model, builder);
+        DescriptorWriter.writeChainPaths(model, builder);
+        DescriptorWriter.writeDispatcher(model, builder);
+
+        builder.append("}\n");
+
+        writer.write(builder.toString());
+    }
+
+    private static void writeMachineType(final MachineModel model, final StringBuilder builder) {
+        builder
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public Class<? extends StateMachine> getMachineType() {\n")
+                .append(INDENT).append(INDENT).append("return ").append(model.getMachineType()).append(".class;\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    private static void writeNewInstance(final MachineModel model, final StringBuilder builder) {
+        builder
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public StateMachine newInstance(final FSMConfiguration configuration) {\n")
+                .append(INDENT).append(INDENT).append("return new ").append(model.getMachineType()).append("(configuration);\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    private static void writeCreateTransitions(final MachineModel model, final StringBuilder builder) {
+
+        builder
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> createTransitions() {\n\n")
+                .append(INDENT).append(INDENT).append("final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> res = new ArrayList<>();\n");
+
+        final List<String> guards = new ArrayList<>(model.getGuards().keySet());
+
+        for (int index = 0; index < guards.size(); index++) {
+            final List<String> types = model.getGuards().get(guards.get(index));
+
+            builder
+                    .append(INDENT).append(INDENT).append("final GuardInvoker guard").append(index).append(" = (machine, from, to, on, target) -> ((").append(model.getMachineType()).append(") machine).")
+                    .append(guards.get(index))
+                    .append("((").append(types.get(0)).append(") from, (").append(types.get(1)).append(") to, (").append(types.get(2)).append(") on, (").append(types.get(3)).append(") target);\n");
+        }
+
+        for (int index = 0; index < model.getMethods().size(); index++) {
+            final MachineModel.Method method = model.getMethods().get(index);
+
+            builder
+                    .append('\n')
+                    .append(INDENT).append(INDENT).append("final TransitionInvoker invoker").append(index).append(" = new Dispatcher(").append(index).append(");\n")
+                    .append(INDENT).append(INDENT).append("final List<ListenerContainer> listeners").append(index).append(" = ");
+
+            if (method.getListeners().isEmpty()) {
+                builder.append("null;\n");
+            } else {
+                builder.append("List.of(\n");
+
+                for (int listenerIndex = 0; listenerIndex < method.getListeners().size(); listenerIndex++) {
+                    builder.append(INDENT).append(INDENT).append(INDENT).append(INDENT);
+                    DescriptorWriter.writeListener(method.getListeners().get(listenerIndex), builder);
+                    builder.append((listenerIndex + 1 < method.getListeners().size()) ? ",\n" : "\n");
+                }
+
+                builder.append(INDENT).append(INDENT).append(");\n");
+            }
+
+            for (MachineModel.Transition transition : method.getTransitions()) {
+                builder
+                        .append(INDENT).append(INDENT).append("res.add(TransitionContainer.of(")
+                        .append(model.getStateType()).append('.').append(transition.getFrom()).append(", ")
+                        .append(model.getStateType()).append('.').append(transition.getTo()).append(", ")
+                        .append(model.getEventType()).append('.').append(transition.getOn()).append(", \"")
+                        .append(method.getName()).append("\", invoker").append(index).append(").andAddListeners(listeners").append(index).append(')');
+
+                if (!transition.getGuard().isEmpty()) {
+                    builder.append(".andGuard(\"").append(transition.getGuard()).append("\", guard").append(guards.indexOf(transition.getGuard())).append(')');
+                }
+
+                builder.append(");\n");
+            }
+        }
+
+        builder
+                .append('\n')
+                .append(INDENT).append(INDENT).append("return res;\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    private static void writeChainPaths(final MachineModel model, final StringBuilder builder) {
+
+        if (model.getChainPaths().isEmpty()) {
+            return;
+        }
+
+        builder
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public Map<String, int[]> getChainPaths() {\n")
+                .append(INDENT).append(INDENT).append("return Map.ofEntries(\n");
+
+        int index = 0;
+
+        for (Map.Entry<String, int[]> path : model.getChainPaths().entrySet()) {
+            builder
+                    .append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                    .append("Map.entry(\"").append(path.getKey()).append("\", new int[]{")
+                    .append(Arrays.stream(path.getValue()).mapToObj(Integer::toString).collect(Collectors.joining(", ")))
+                    .append("})")
+                    .append((++index < model.getChainPaths().size()) ? ",\n" : "\n");
+        }
+
+        builder
+                .append(INDENT).append(INDENT).append(");\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    private static void writeListener(final MachineModel.Listener listener, final StringBuilder builder) {
+        builder
+                .append("ListenerContainer.of(")
+                .append(listener.getType()).append(".class, ")
+                .append("ListenerLifecycle.").append(listener.getLifecycle()).append(", ");
+
+        if (listener.isConstructible()) {
+            builder.append(listener.getType()).append("::new, ");
+        } else {
+            builder.append("Invokers.constructor(").append(listener.getType()).append(".class), ");
+        }
+
+        DescriptorWriter.writeListenerInvoker(listener.getType(), "before", listener.getBeforeParameterTypes(), builder);
+        builder.append(", ");
+        DescriptorWriter.writeListenerInvoker(listener.getType(), "after", listener.getAfterParameterTypes(), builder);
+        builder.append(')');
+    }
+
+    private static void writeListenerInvoker(final String listenerType, final String methodName, final List<String> parameterTypes, final StringBuilder builder) {
+
+        if (Objects.isNull(parameterTypes)) {
+            builder.append("null");
+            return;
+        }
+
+        builder
+                .append("(listener, on, target) -> ((").append(listenerType).append(") listener).").append(methodName)
+                .append("((").append(parameterTypes.get(0)).append(") on, (").append(parameterTypes.get(1)).append(") target)");
+    }
+
+    private static void writeDispatcher(final MachineModel model, final StringBuilder builder) {
+
+        final String indent = INDENT + INDENT;
+
+        builder
+                .append(INDENT).append("private static final class Dispatcher implements TransitionInvoker {\n\n")
+                .append(indent).append("private final int method;\n\n")
+                .append(indent).append("private Dispatcher(final int method) {\n")
+                .append(indent).append(INDENT).append("this.method = method;\n")
+                .append(indent).append("}\n\n")
+                .append(indent).append("@Override\n")
+                .append(indent).append("public void invoke(final Object machine, final Object from, final Object to, final Object on, final Object target) throws Throwable {\n")
+                .append(indent).append(INDENT).append("switch (this.method) {\n");
+
+        for (int index = 0; index < model.getMethods().size(); index++) {
+            final MachineModel.Method method = model.getMethods().get(index);
+            final List<String> types = method.getParameterTypes();
+
+            builder
+                    .append(indent).append(INDENT).append(INDENT).append("case ").append(index).append(":\n")
+                    .append(indent).append(INDENT).append(INDENT).append(INDENT)
+                    .append("((").append(model.getMachineType()).append(") machine).").append(method.getName())
+                    .append("((").append(types.get(0)).append(") from, (").append(types.get(1)).append(") to, (").append(types.get(2)).append(") on, (").append(types.get(3)).append(") target);\n")
+                    .append(indent).append(INDENT).append(INDENT).append(INDENT).append("return;\n");
+        }
+
+        builder
+                .append(indent).append(INDENT).append(INDENT).append("default:\n")
+                .append(indent).append(INDENT).append(INDENT).append(INDENT).append("throw new IllegalStateException(\"Unknown transition method \" + this.method + \".\");\n")
+                .append(indent).append(INDENT).append("}\n")
+                .append(indent).append("}\n")
+                .append(INDENT).append("}\n");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.processors;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * <h2>MachineModel</h2>
+ * <p>
+ * The machine model holds the information of a machine type which is required to write its descriptor. All types are stored as source names.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Value(staticConstructor = "of")
+class MachineModel {
+
+    String packageName;
+
+    String descriptorName;
+
+    String machineType;
+
+    String stateType;
+
+    String eventType;
+
+    List<Method> methods;
+
+    /**
+     * Parameter types of the guard methods by guard name, in order of first use.
+     */
+    Map<String, List<String>> guards;
+
+    /**
+     * Precomputed paths of the transition chains by chain key. A path contains the indexes of the chain parts within the transitions of the machine.
+     */
+    Map<String, int[]> chainPaths;
+
+    /**
+     * A transition method with its transitions and listeners.
+     */
+    @Value(staticConstructor = "of")
+    static class Method {
+
+        String name;
+
+        List<String> parameterTypes;
+
+        List<Transition> transitions;
+
+        List<Listener> listeners;
+    }
+
+    /**
+     * A transition configured on a method. The states and the event are stored as names of the enumeration constants, the guard as name of the guard method or empty if the transition isn't
+     * guarded.
+     */
+    @Value(staticConstructor = "of")
+    static class Transition {
+
+        String from;
+
+        String to;
+
+        String on;
+
+        String guard;
+    }
+
+    /**
+     * A listener configured on a method. The parameter types of a listener method are null if the listener doesn't provide the method.
+     */
+    @Value(staticConstructor = "of")
+    static class Listener {
+
+        String type;
+
+        String lifecycle;
+
+        boolean constructible;
+
+        List<String> beforeParameterTypes;
+
+        List<String> afterParameterTypes;
+    }
+}
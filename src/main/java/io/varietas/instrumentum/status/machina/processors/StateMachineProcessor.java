@@ -0,0 +1,654 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.processors;
+
+import io.varietas.instrumentum.status.machina.builders.MachineDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * <h2>StateMachineProcessor</h2>
+ * <p>
+ * The state machine processor generates a {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor} for each type annotated with
+ * {@link io.varietas.instrumentum.status.machina.annotations.StateMachineConfiguration}. The descriptor contains the transitions and transition listeners of the machine and calls the transition and
+ * listener methods directly, so neither the annotations have to be scanned nor invokers have to be generated at runtime. The processor is registered as service and runs if status machina is on
+ * the class path of the compiler.
+ * <p>
+ * Before the descriptor is generated, the transition graph of the machine is validated. The processor reports
+ * <ul>
+ * <li>states, events and chains which aren't constants of the configured enumerations,</li>
+ * <li>ambiguous transitions, i.e. two unguarded transitions of the same event which start in the same state or of which one starts in the end state of the other. The runtime transition table
+ * registers a transition for its start and its end state, so one of both transitions would never be selected,</li>
+ * <li>guards which don't refer to a public method of the machine returning a boolean and accepting four parameters and</li>
+ * <li>transition chains whose end state isn't reachable from their start state.</li>
+ * </ul>
+ * The paths of the transition chains are precomputed and stored in the descriptor, so the chains aren't planned at runtime. Findings are reported as errors by default. The processor option
+ * {@value #VALIDATION} switches the kind to {@code warning} or turns the validation {@code off}.
+ * <p>
+ * A descriptor is generated only if all constants are resolvable and the generated code is able to access all used types and methods. Otherwise, a note is reported and the machine is configured
+ * via reflection at runtime. This is the case e.g. for abstract or private machine types, machine types without a public constructor accepting the configuration, transition methods which don't
+ * accept four parameters and listener methods which can't be resolved unambiguously. Transition chain listeners are still read at runtime.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@SupportedAnnotationTypes(StateMachineProcessor.STATE_MACHINE_CONFIGURATION)
+@SupportedOptions(StateMachineProcessor.VALIDATION)
+public class StateMachineProcessor extends AbstractProcessor {
+
+    /**
+     * Processor option which defines the kind of validation findings: {@code error} (default), {@code warning} or {@code off}.
+     */
+    public static final String VALIDATION = "status.machina.validation";
+
+    static final String ANNOTATIONS = "io.varietas.instrumentum.status.machina.annotations.";
+    static final String STATE_MACHINE_CONFIGURATION = ANNOTATIONS + "StateMachineConfiguration";
+    static final String TRANSITION = ANNOTATIONS + "Transition";
+    static final String TRANSITIONS = ANNOTATIONS + "Transitions";
+    static final String TRANSITION_LISTENER = ANNOTATIONS + "TransitionListener";
+    static final String TRANSITION_LISTENERS = ANNOTATIONS + "TransitionListeners";
+    static final String CHAIN_CONFIGURATION = ANNOTATIONS + "ChainConfiguration";
+    static final String TRANSITION_CHAIN = ANNOTATIONS + "TransitionChain";
+    static final String TRANSITION_CHAINS = ANNOTATIONS + "TransitionChains";
+    static final String CHAIN_LISTENER = ANNOTATIONS + "ChainListener";
+    static final String CHAIN_LISTENERS = ANNOTATIONS + "ChainListeners";
+
+    private static final String STATE_MACHINE = "io.varietas.instrumentum.status.machina.StateMachine";
+    private static final String FSM_CONFIGURATION = "io.varietas.instrumentum.status.machina.configurations.FSMConfiguration";
+    private static final String SUFFIX = "_StatusMachina";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+
+    private Types types;
+
+    private Diagnostic.Kind findings;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.findings = StateMachineProcessor.findingsKind(processingEnv.getOptions().get(VALIDATION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        final TypeElement configuration = this.elements.getTypeElement(STATE_MACHINE_CONFIGURATION);
+
+        if (Objects.isNull(configuration)) {
+            return false;
+        }
+
+        for (TypeElement machine : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(configuration))) {
+
+            final String machineName = machine.getQualifiedName().toString();
+
+            if (!this.generated.add(machineName)) {
+                continue;
+            }
+
+            try {
+                final Validation result = this.validate(machine);
+
+                if (result.isResolvable()) {
+                    this.writeDescriptor(this.createModel(machine, result), machine);
+                } else if (Objects.isNull(this.findings)) {
+                    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No descriptor generated for '" + machineName + "', reflection is used: Unknown constants are used.", machine);
+                }
+            }
+            catch (UnsupportedMachineException ex) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No descriptor generated for '" + machineName + "', reflection is used: " + ex.getMessage(), machine);
+            }
+            catch (IOException ex) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Couldn't write descriptor for '" + machineName + "': " + ex.getMessage(), machine);
+            }
+        }
+
+        return false;
+    }
+
+    private void writeDescriptor(final MachineModel model, final TypeElement machine) throws IOException {
+
+        final String name = model.getPackageName().isEmpty() ? model.getDescriptorName() : model.getPackageName() + '.' + model.getDescriptorName();
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(name, machine).openWriter()) {
+            DescriptorWriter.write(model, writer);
+        }
+    }
+
+    /**
+     * Validates the transition graph of a machine type and precomputes the paths of its transition chains. Findings are reported corresponding to the {@value #VALIDATION} option.
+     *
+     * @param machine The machine type.
+     *
+     * @return The result of the validation.
+     *
+     * @throws UnsupportedMachineException Thrown if the configuration of the machine can't be read.
+     */
+    private Validation validate(final TypeElement machine) throws UnsupportedMachineException {
+
+        final AnnotationMirror configuration = this.annotations(machine, STATE_MACHINE_CONFIGURATION, null).get(0);
+        final TypeElement stateType = this.enumType(this.value(configuration, "stateType"), "state");
+        final TypeElement eventType = this.enumType(this.value(configuration, "eventType"), "event");
+        final List<String> states = this.constants(stateType);
+        final Set<String> events = new HashSet<>(this.constants(eventType));
+
+        final TransitionGraph graph = TransitionGraph.of(states);
+        final Validation res = new Validation(stateType, eventType);
+        final Map<String, ExecutableElement> handled = new HashMap<>();
+        final Map<String, ExecutableElement> entered = new HashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(machine))) {
+
+            final List<AnnotationMirror> transitions = this.annotations(method, TRANSITION, TRANSITIONS);
+
+            if (transitions.isEmpty() || !method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+
+            final String listeners = this.annotations(method, TRANSITION_LISTENER, TRANSITION_LISTENERS).stream()
+                    .map(this::listenerKey)
+                    .collect(Collectors.joining(","));
+            final List<MachineModel.Transition> accepted = new ArrayList<>();
+
+            for (AnnotationMirror transition : transitions) {
+                final String from = (String) this.value(transition, "from").getValue();
+                final String to = (String) this.value(transition, "to").getValue();
+                final String on = (String) this.value(transition, "on").getValue();
+                final String guard = (String) this.value(transition, "guard").getValue();
+
+                if (!this.isConstant(states, from, "state", method, transition, res) | !this.isConstant(states, to, "state", method, transition, res) | !this.isConstant(events, on, "event", method, transition, res)) {
+                    continue;
+                }
+
+                if (!guard.isEmpty() && !this.isGuard(machine, guard, method, transition, res)) {
+                    continue;
+                }
+
+                if (!graph.add(from, to, from + '>' + to + ':' + on + '?' + guard + '[' + listeners + ']')) {
+                    continue;
+                }
+
+                if (guard.isEmpty()) {
+                    this.checkAmbiguity(from, to, on, method, transition, handled, entered);
+                }
+
+                accepted.add(MachineModel.Transition.of(from, to, on, guard));
+            }
+
+            res.transitions.put(method, accepted);
+        }
+
+        this.validateChains(machine, states, graph, res);
+
+        return res;
+    }
+
+    /**
+     * Reports an unguarded transition which shares the cell of the runtime transition table with another unguarded transition of the same event. Like the transition table, a transition is
+     * registered for its start state and its end state, so a transition is shadowed by a transition of the same start state or by a transition which ends in its start state. Transitions which
+     * only share their end state aren't reported, the shared cell re-enters the end state only.
+     */
+    private void checkAmbiguity(final String from, final String to, final String on, final ExecutableElement method, final AnnotationMirror transition, final Map<String, ExecutableElement> handled,
+            final Map<String, ExecutableElement> entered) {
+
+        ExecutableElement previous = handled.putIfAbsent(from + ':' + on, method);
+        String state = from;
+
+        if (Objects.isNull(previous)) {
+            previous = entered.get(from + ':' + on);
+        }
+
+        if (Objects.isNull(previous) && !from.equals(to)) {
+            previous = handled.get(to + ':' + on);
+            state = to;
+        }
+
+        if (!from.equals(to)) {
+            entered.putIfAbsent(to + ':' + on, method);
+        }
+
+        if (Objects.nonNull(previous)) {
+            this.report("Transition " + from + " -> " + to + " on " + on + " of method '" + method.getSimpleName() + "' is ambiguous, method '" + previous.getSimpleName() + "' handles " + on + " in state " + state + " already.", method, transition);
+        }
+    }
+
+    /**
+     * Checks if a guard refers to exactly one public method of the machine which returns a boolean and accepts four parameters, like
+     * {@link io.varietas.instrumentum.status.machina.invokers.Invokers#guard(Class, String)} does at runtime.
+     */
+    private boolean isGuard(final TypeElement machine, final String guard, final ExecutableElement method, final AnnotationMirror transition, final Validation validation) {
+
+        if (validation.guards.containsKey(guard)) {
+            return true;
+        }
+
+        final List<ExecutableElement> candidates = ElementFilter.methodsIn(this.elements.getAllMembers(machine)).stream()
+                .filter(candidate -> candidate.getModifiers().contains(Modifier.PUBLIC))
+                .filter(candidate -> candidate.getSimpleName().contentEquals(guard))
+                .filter(candidate -> candidate.getParameters().size() == 4 && candidate.getReturnType().getKind() == TypeKind.BOOLEAN)
+                .collect(Collectors.toList());
+
+        if (candidates.size() == 1) {
+            validation.guards.put(guard, candidates.get(0));
+            return true;
+        }
+
+        validation.resolvable = false;
+        this.report("Unknown guard '" + guard + "' of method '" + method.getSimpleName() + "', the machine has no single public method '" + guard + "' returning boolean and accepting four parameters.", method, transition);
+
+        return false;
+    }
+
+    private void validateChains(final TypeElement machine, final List<String> states, final TransitionGraph graph, final Validation res) throws UnsupportedMachineException {
+
+        final List<AnnotationMirror> configuration = this.annotations(machine, CHAIN_CONFIGURATION, null);
+
+        if (configuration.isEmpty()) {
+            return;
+        }
+
+        final Set<String> chains = new HashSet<>(this.constants(this.enumType(this.value(configuration.get(0), "chainType"), "chain")));
+
+        for (AnnotationMirror chain : this.annotations(machine, TRANSITION_CHAIN, TRANSITION_CHAINS)) {
+            final String from = (String) this.value(chain, "from").getValue();
+            final String to = (String) this.value(chain, "to").getValue();
+            final String on = (String) this.value(chain, "on").getValue();
+
+            if (!this.isConstant(states, from, "state", machine, chain, res) | !this.isConstant(states, to, "state", machine, chain, res) | !this.isConstant(chains, on, "chain", machine, chain, res)) {
+                continue;
+            }
+
+            final int[] path = graph.path(from, to);
+
+            if (Objects.isNull(path)) {
+                this.report("Chain " + on + " isn't possible, state " + to + " isn't reachable from state " + from + ".", machine, chain);
+                continue;
+            }
+
+            res.chains.putIfAbsent(MachineDescriptor.chainKey(from, to, on), path);
+        }
+
+        for (AnnotationMirror listener : this.annotations(machine, CHAIN_LISTENER, CHAIN_LISTENERS)) {
+            @SuppressWarnings("unchecked")
+            final List<? extends AnnotationValue> targets = (List<? extends AnnotationValue>) this.value(listener, "forChains").getValue();
+
+            targets.stream()
+                    .map(target -> (String) target.getValue())
+                    .filter(target -> !target.equals("ALL") && !chains.contains(target))
+                    .forEach(target -> this.report("Chain listener refers to unknown chain '" + target + "'.", machine, listener));
+        }
+    }
+
+    /**
+     * Creates the model of a machine type.
+     *
+     * @param machine The machine type.
+     * @param validation The result of the validation of the machine.
+     *
+     * @return The model of the machine.
+     *
+     * @throws UnsupportedMachineException Thrown if no descriptor can be generated for the machine.
+     */
+    private MachineModel createModel(final TypeElement machine, final Validation validation) throws UnsupportedMachineException {
+
+        final PackageElement pkg = this.elements.getPackageOf(machine);
+        final TypeElement stateType = validation.stateType;
+        final TypeElement eventType = validation.eventType;
+
+        this.checkMachine(machine, pkg);
+        this.check(this.isAccessible(stateType, pkg), "State type isn't accessible.");
+        this.check(this.isAccessible(eventType, pkg), "Event type isn't accessible.");
+
+        final List<MachineModel.Method> methods = new ArrayList<>();
+        final Map<String, List<String>> guards = new LinkedHashMap<>();
+
+        for (Map.Entry<ExecutableElement, List<MachineModel.Transition>> entry : validation.transitions.entrySet()) {
+            methods.add(this.createMethod(entry.getKey(), entry.getValue(), eventType, pkg));
+        }
+
+        for (Map.Entry<String, ExecutableElement> guard : validation.guards.entrySet()) {
+            this.check(!guard.getValue().getModifiers().contains(Modifier.STATIC), "Guard method '" + guard.getKey() + "' is static.");
+            guards.put(guard.getKey(), this.parameterTypes(guard.getValue(), pkg));
+        }
+
+        return MachineModel.of(
+                pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString(),
+                this.flatName(machine, pkg) + SUFFIX,
+                machine.getQualifiedName().toString(),
+                stateType.getQualifiedName().toString(),
+                eventType.getQualifiedName().toString(),
+                methods,
+                guards,
+                validation.chains);
+    }
+
+    private void checkMachine(final TypeElement machine, final PackageElement pkg) throws UnsupportedMachineException {
+
+        this.check(machine.getKind() == ElementKind.CLASS && !machine.getModifiers().contains(Modifier.ABSTRACT), "Machine type isn't a concrete class.");
+        this.check(machine.getNestingKind() == NestingKind.TOP_LEVEL || (machine.getNestingKind() == NestingKind.MEMBER && machine.getModifiers().contains(Modifier.STATIC)), "Machine type isn't a top level or static member type.");
+        this.check(this.isAccessible(machine, pkg), "Machine type isn't accessible.");
+        this.check(this.types.isAssignable(this.types.erasure(machine.asType()), this.types.erasure(this.elements.getTypeElement(STATE_MACHINE).asType())), "Machine type doesn't implement the state machine.");
+
+        final TypeMirror configurationType = this.elements.getTypeElement(FSM_CONFIGURATION).asType();
+        final boolean isConstructible = ElementFilter.constructorsIn(machine.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .anyMatch(constructor -> constructor.getParameters().size() == 1 && this.types.isSameType(this.types.erasure(constructor.getParameters().get(0).asType()), configurationType));
+
+        this.check(isConstructible, "Machine type has no public constructor accepting the configuration.");
+    }
+
+    private MachineModel.Method createMethod(final ExecutableElement method, final List<MachineModel.Transition> transitions, final TypeElement eventType, final PackageElement pkg) throws UnsupportedMachineException {
+
+        final String name = method.getSimpleName().toString();
+
+        this.check(!method.getModifiers().contains(Modifier.STATIC), "Transition method '" + name + "' is static.");
+        this.check(method.getParameters().size() == 4, "Transition method '" + name + "' doesn't accept four parameters.");
+
+        final List<String> parameterTypes = this.parameterTypes(method, pkg);
+        final List<MachineModel.Listener> listeners = new ArrayList<>();
+
+        for (AnnotationMirror listener : this.annotations(method, TRANSITION_LISTENER, TRANSITION_LISTENERS)) {
+            listeners.add(this.createListener(listener, eventType, pkg));
+        }
+
+        return MachineModel.Method.of(name, parameterTypes, transitions, listeners);
+    }
+
+    private MachineModel.Listener createListener(final AnnotationMirror annotation, final TypeElement eventType, final PackageElement pkg) throws UnsupportedMachineException {
+
+        final TypeElement listener = (TypeElement) this.types.asElement((TypeMirror) this.value(annotation, "value").getValue());
+        final String lifecycle = ((VariableElement) this.value(annotation, "lifecycle").getValue()).getSimpleName().toString();
+        final String name = listener.getQualifiedName().toString();
+
+        this.check(this.isAccessible(listener, pkg), "Listener '" + name + "' isn't accessible.");
+
+        final boolean isConstructible = listener.getKind() == ElementKind.CLASS
+                && !listener.getModifiers().contains(Modifier.ABSTRACT)
+                && (listener.getNestingKind() == NestingKind.TOP_LEVEL || listener.getModifiers().contains(Modifier.STATIC))
+                && ElementFilter.constructorsIn(listener.getEnclosedElements()).stream()
+                        .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
+
+        return MachineModel.Listener.of(
+                name,
+                lifecycle,
+                isConstructible,
+                this.listenerMethod(listener, "before", eventType, pkg),
+                this.listenerMethod(listener, "after", eventType, pkg));
+    }
+
+    /**
+     * Resolves a listener method like {@link io.varietas.instrumentum.status.machina.invokers.Invokers#listener(Class, String, Class)} does at runtime.
+     *
+     * @return The parameter types of the method or null if the listener has no method with the given name.
+     */
+    private List<String> listenerMethod(final TypeElement listener, final String methodName, final TypeElement eventType, final PackageElement pkg) throws UnsupportedMachineException {
+
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(this.elements.getAllMembers(listener)).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .filter(method -> method.getSimpleName().contentEquals(methodName))
+                .collect(Collectors.toList());
+
+        if (methods.isEmpty()) {
+            return null;
+        }
+
+        final List<ExecutableElement> candidates = methods.stream()
+                .filter(method -> method.getParameters().size() == 2)
+                .filter(method -> this.types.isAssignable(eventType.asType(), this.types.erasure(method.getParameters().get(0).asType())))
+                .collect(Collectors.toList());
+
+        this.check(candidates.size() == 1, "Method '" + methodName + "' of listener '" + listener.getQualifiedName() + "' isn't resolvable.");
+        this.check(!candidates.get(0).getModifiers().contains(Modifier.STATIC), "Method '" + methodName + "' of listener '" + listener.getQualifiedName() + "' is static.");
+
+        return this.parameterTypes(candidates.get(0), pkg);
+    }
+
+    private List<String> parameterTypes(final ExecutableElement method, final PackageElement pkg) throws UnsupportedMachineException {
+
+        final List<String> res = new ArrayList<>();
+
+        for (VariableElement parameter : method.getParameters()) {
+            final TypeMirror type = this.types.erasure(parameter.asType());
+
+            this.check(this.isAccessible(type, pkg), "Parameter type '" + type + "' of method '" + method.getSimpleName() + "' isn't accessible.");
+
+            res.add(type.toString());
+        }
+
+        return res;
+    }
+
+    /**
+     * Collects the annotations of the given type on an element including the annotations within the container of a repeatable annotation.
+     */
+    private List<AnnotationMirror> annotations(final Element element, final String type, final String containerType) {
+
+        final List<AnnotationMirror> res = new ArrayList<>();
+
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+
+            if (name.equals(type)) {
+                res.add(mirror);
+            } else if (name.equals(containerType)) {
+                @SuppressWarnings("unchecked")
+                final List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) this.value(mirror, "value").getValue();
+                values.forEach(value -> res.add((AnnotationMirror) value.getValue()));
+            }
+        }
+
+        return res;
+    }
+
+    private AnnotationValue value(final AnnotationMirror mirror, final String name) {
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+
+        throw new IllegalStateException("Annotation value '" + name + "' not available.");
+    }
+
+    private TypeElement enumType(final AnnotationValue value, final String kind) throws UnsupportedMachineException {
+
+        final Element type = (value.getValue() instanceof TypeMirror) ? this.types.asElement((TypeMirror) value.getValue()) : null;
+
+        this.check(Objects.nonNull(type) && type.getKind() == ElementKind.ENUM, "The " + kind + " type isn't an enumeration.");
+
+        return (TypeElement) type;
+    }
+
+    /**
+     * Returns the names of the constants of an enumeration in order of their ordinals.
+     */
+    private List<String> constants(final TypeElement enumType) {
+        return enumType.getEnclosedElements().stream()
+                .filter(element -> element.getKind() == ElementKind.ENUM_CONSTANT)
+                .map(element -> element.getSimpleName().toString())
+                .collect(Collectors.toList());
+    }
+
+    private boolean isConstant(final Collection<String> constants, final String name, final String kind, final Element element, final AnnotationMirror annotation, final Validation validation) {
+
+        if (constants.contains(name)) {
+            return true;
+        }
+
+        validation.resolvable = false;
+        this.report("Unknown " + kind + " '" + name + "'.", element, annotation);
+
+        return false;
+    }
+
+    /**
+     * Creates the key of a transition listener which corresponds to the equality of listener containers at runtime.
+     */
+    private String listenerKey(final AnnotationMirror annotation) {
+
+        final TypeElement listener = (TypeElement) this.types.asElement((TypeMirror) this.value(annotation, "value").getValue());
+        final Set<String> methods = ElementFilter.methodsIn(this.elements.getAllMembers(listener)).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .map(method -> method.getSimpleName().toString())
+                .collect(Collectors.toSet());
+
+        return listener.getQualifiedName() + "/" + this.value(annotation, "lifecycle").getValue() + "/" + methods.contains("before") + "/" + methods.contains("after");
+    }
+
+    private void report(final String message, final Element element, final AnnotationMirror annotation) {
+        if (Objects.nonNull(this.findings)) {
+            this.processingEnv.getMessager().printMessage(this.findings, message, element, annotation);
+        }
+    }
+
+    private static Diagnostic.Kind findingsKind(final String value) {
+
+        if (Objects.isNull(value) || value.equalsIgnoreCase("error")) {
+            return Diagnostic.Kind.ERROR;
+        }
+
+        if (value.equalsIgnoreCase("warning") || value.equalsIgnoreCase("warn")) {
+            return Diagnostic.Kind.WARNING;
+        }
+
+        if (value.equalsIgnoreCase("off")) {
+            return null;
+        }
+
+        throw new IllegalArgumentException("Unknown value '" + value + "' of option " + VALIDATION + ".");
+    }
+
+    private boolean isAccessible(final TypeMirror type, final PackageElement pkg) {
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            return this.isAccessible(((ArrayType) type).getComponentType(), pkg);
+        }
+
+        return type.getKind() == TypeKind.DECLARED && this.isAccessible(((DeclaredType) type).asElement(), pkg);
+    }
+
+    private boolean isAccessible(final Element element, final PackageElement pkg) {
+
+        for (Element current = element; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!current.getModifiers().contains(Modifier.PUBLIC) && !this.elements.getPackageOf(current).equals(pkg)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String flatName(final TypeElement type, final PackageElement pkg) {
+
+        final String name = type.getQualifiedName().toString();
+
+        return (pkg.isUnnamed() ? name : name.substring(pkg.getQualifiedName().length() + 1)).replace('.', '_');
+    }
+
+    private void check(final boolean condition, final String reason) throws UnsupportedMachineException {
+        if (!condition) {
+            throw new UnsupportedMachineException(reason);
+        }
+    }
+
+    /**
+     * Result of the validation of a machine type.
+     */
+    private static final class Validation {
+
+        private final TypeElement stateType;
+
+        private final TypeElement eventType;
+
+        private final Map<ExecutableElement, List<MachineModel.Transition>> transitions = new LinkedHashMap<>();
+
+        private final Map<String, int[]> chains = new LinkedHashMap<>();
+
+        private final Map<String, ExecutableElement> guards = new LinkedHashMap<>();
+
+        private boolean resolvable = true;
+
+        Validation(final TypeElement stateType, final TypeElement eventType) {
+            this.stateType = stateType;
+            this.eventType = eventType;
+        }
+
+        boolean isResolvable() {
+            return this.resolvable;
+        }
+    }
+
+    /**
+     * Signals a machine type for which no descriptor can be generated.
+     */
+    private static final class UnsupportedMachineException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedMachineException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
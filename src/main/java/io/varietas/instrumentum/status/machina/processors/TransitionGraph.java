@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.processors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>TransitionGraph</h2>
+ * <p>
+ * The transition graph holds the transitions of a machine type by the ordinals of their states at compile time. Transitions are added in the order which is used at runtime and equal transitions
+ * are dropped like by the builders, so the index of a transition equals its index in the transitions of the configuration. Paths are searched like by the
+ * {@link io.varietas.instrumentum.status.machina.builders.TransitionChainPlanner}, so a precomputed path equals the path planned at runtime.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+final class TransitionGraph {
+
+    private final Map<String, Integer> states = new HashMap<>();
+
+    private final List<List<int[]>> outgoing = new ArrayList<>();
+
+    private final Set<String> keys = new HashSet<>();
+
+    private int size;
+
+    private TransitionGraph(final List<String> states) {
+        for (int ordinal = 0; ordinal < states.size(); ordinal++) {
+            this.states.put(states.get(ordinal), ordinal);
+            this.outgoing.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Creates an empty graph.
+     *
+     * @param states Names of the state constants in order of their ordinals.
+     *
+     * @return The graph.
+     */
+    static TransitionGraph of(final List<String> states) {
+        return new TransitionGraph(states);
+    }
+
+    /**
+     * Adds a transition if no equal transition was added before.
+     *
+     * @param from Name of the start state.
+     * @param to Name of the end state.
+     * @param key Key which identifies equal transitions.
+     *
+     * @return True if the transition was added, otherwise false.
+     */
+    boolean add(final String from, final String to, final String key) {
+
+        if (!this.keys.add(key)) {
+            return false;
+        }
+
+        this.outgoing.get(this.states.get(from)).add(new int[]{this.states.get(to), this.size++});
+
+        return true;
+    }
+
+    /**
+     * Returns the number of added transitions.
+     *
+     * @return Number of transitions.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Searches the shortest path from the start state to the end state. A path contains at least one transition.
+     *
+     * @param from Name of the start state.
+     * @param to Name of the end state.
+     *
+     * @return Indexes of the transitions of the path in execution order, otherwise null if the end state isn't reachable.
+     */
+    int[] path(final String from, final String to) {
+
+        final int start = this.states.get(from);
+        final int target = this.states.get(to);
+        final int[] via = new int[this.outgoing.size()];
+        final int[] viaFrom = new int[this.outgoing.size()];
+        final boolean[] visited = new boolean[this.outgoing.size()];
+        final int[] queue = new int[this.outgoing.size()];
+
+        int head = 0;
+        int tail = 0;
+        int last = -1;
+        int lastFrom = -1;
+
+        queue[tail++] = start;
+        visited[start] = true;
+
+        search:
+        while (head < tail) {
+            final int state = queue[head++];
+
+            for (int[] transition : this.outgoing.get(state)) {
+
+                if (transition[0] == target) {
+                    last = transition[1];
+                    lastFrom = state;
+                    break search;
+                }
+
+                if (!visited[transition[0]]) {
+                    visited[transition[0]] = true;
+                    via[transition[0]] = transition[1];
+                    viaFrom[transition[0]] = state;
+                    queue[tail++] = transition[0];
+                }
+            }
+        }
+
+        if (last < 0) {
+            return null;
+        }
+
+        final List<Integer> parts = new ArrayList<>();
+        parts.add(last);
+
+        for (int state = lastFrom; state != start; state = viaFrom[state]) {
+            parts.add(0, via[state]);
+        }
+
+        return parts.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>io.varietas.instrumentum.status.machina.processors</h2>
+ * <p>
+ * The annotation processor of status machina. It generates a {@link io.varietas.instrumentum.status.machina.builders.MachineDescriptor} for each machine type at build time, which replaces the
+ * scanning of the annotations and the generation of invokers at runtime.</p>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+package io.varietas.instrumentum.status.machina.processors;
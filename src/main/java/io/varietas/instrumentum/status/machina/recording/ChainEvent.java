@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.recording;
+
+import io.varietas.instrumentum.status.machina.Statable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <h2>ChainEvent</h2>
+ * <p>
+ * Flight recorder event of a fired transition chain. The duration covers the chain listeners and all chain parts, the parts are recorded as {@link TransitionEvent}s of their own.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Name(FlightRecording.CHAIN)
+@Label("Transition Chain")
+@Category(FlightRecording.CATEGORY)
+@Description("Transition chain fired by a state machine")
+@Threshold(FlightRecording.DEFAULT_THRESHOLD)
+@StackTrace(false)
+public final class ChainEvent extends Event {
+
+    @Label("Machine Type")
+    Class<?> machineType;
+
+    @Label("Chain")
+    String chain;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Completed")
+    @Description("True if all chain parts were fired")
+    boolean completed;
+
+    /**
+     * Ends the event and commits it if it exceeds the threshold. The fields are only set if the event is committed.
+     *
+     * @param machineType Type of the firing machine.
+     * @param chain Fired chain.
+     * @param from State of the target before the chain.
+     * @param target Transition target, its current state is recorded as end state.
+     * @param completed True if all chain parts were fired.
+     */
+    @SuppressWarnings("rawtypes")
+    public void complete(final Class<?> machineType, final Enum<?> chain, final Enum<?> from, final Statable target, final boolean completed) {
+        this.end();
+
+        if (!this.shouldCommit()) {
+            return;
+        }
+
+        this.machineType = machineType;
+        this.chain = FlightRecording.name(chain);
+        this.from = FlightRecording.name(from);
+        this.to = FlightRecording.name(target.state());
+        this.targetType = target.getClass();
+        this.completed = completed;
+        this.commit();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.recording;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * <h2>FlightRecording</h2>
+ * <p>
+ * Names and settings of the flight recorder events of status machina. All events are recorded only if they take longer than {@value #DEFAULT_THRESHOLD} by default. The threshold can be changed
+ * per event type in a recording setting (e.g. {@code io.varietas.instrumentum.status.machina.Transition#threshold=5 ms}) or for a {@link Recording} via
+ * {@link #enable(Recording, Duration)}.
+ * <p>
+ * The machines create events only if the event type is enabled in a running recording, see {@link #isTransitionEnabled()}. Without a recording firing a transition doesn't allocate an event.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlightRecording {
+
+    /**
+     * Category of all events.
+     */
+    public static final String CATEGORY = "Status Machina";
+
+    /**
+     * Default threshold of all events.
+     */
+    public static final String DEFAULT_THRESHOLD = "1 ms";
+
+    /**
+     * Name of the {@link TransitionEvent}.
+     */
+    public static final String TRANSITION = "io.varietas.instrumentum.status.machina.Transition";
+
+    /**
+     * Name of the {@link ChainEvent}.
+     */
+    public static final String CHAIN = "io.varietas.instrumentum.status.machina.Chain";
+
+    /**
+     * Name of the {@link ListenerEvent}.
+     */
+    public static final String LISTENER = "io.varietas.instrumentum.status.machina.Listener";
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(TransitionEvent.class, ChainEvent.class, ListenerEvent.class);
+
+    private static final EventType TRANSITION_TYPE = EventType.getEventType(TransitionEvent.class);
+
+    private static final EventType CHAIN_TYPE = EventType.getEventType(ChainEvent.class);
+
+    private static final EventType LISTENER_TYPE = EventType.getEventType(ListenerEvent.class);
+
+    /**
+     * Checks if the {@link TransitionEvent} is enabled in a running recording.
+     *
+     * @return True if transition events are recorded, otherwise false.
+     */
+    public static boolean isTransitionEnabled() {
+        return TRANSITION_TYPE.isEnabled();
+    }
+
+    /**
+     * Checks if the {@link ChainEvent} is enabled in a running recording.
+     *
+     * @return True if chain events are recorded, otherwise false.
+     */
+    public static boolean isChainEnabled() {
+        return CHAIN_TYPE.isEnabled();
+    }
+
+    /**
+     * Checks if the {@link ListenerEvent} is enabled in a running recording.
+     *
+     * @return True if listener events are recorded, otherwise false.
+     */
+    public static boolean isListenerEnabled() {
+        return LISTENER_TYPE.isEnabled();
+    }
+
+    /**
+     * Enables all events of status machina for a recording.
+     *
+     * @param recording The recording.
+     * @param threshold Minimum duration of recorded events, zero records all events.
+     *
+     * @return The recording.
+     */
+    public static Recording enable(@NonNull final Recording recording, @NonNull final Duration threshold) {
+        EVENT_TYPES.forEach(type -> recording.enable(type).withThreshold(threshold));
+        return recording;
+    }
+
+    /**
+     * Disables all events of status machina for a recording.
+     *
+     * @param recording The recording.
+     *
+     * @return The recording.
+     */
+    public static Recording disable(@NonNull final Recording recording) {
+        EVENT_TYPES.forEach(recording::disable);
+        return recording;
+    }
+
+    static String name(final Enum<?> value) {
+        return Objects.nonNull(value) ? value.name() : null;
+    }
+}
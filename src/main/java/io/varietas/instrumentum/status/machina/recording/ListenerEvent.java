@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.recording;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <h2>ListenerEvent</h2>
+ * <p>
+ * Flight recorder event of a call of a transition or chain listener.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Name(FlightRecording.LISTENER)
+@Label("Listener Call")
+@Category(FlightRecording.CATEGORY)
+@Description("Call of a transition or chain listener")
+@Threshold(FlightRecording.DEFAULT_THRESHOLD)
+@StackTrace(false)
+public final class ListenerEvent extends Event {
+
+    @Label("Machine Type")
+    Class<?> machineType;
+
+    @Label("Listener")
+    Class<?> listener;
+
+    @Label("Method")
+    String method;
+
+    @Label("Event")
+    @Description("Event or chain that triggered the listener")
+    String event;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if it exceeds the threshold. The fields are only set if the event is committed.
+     *
+     * @param machineType Type of the machine which calls the listener.
+     * @param listener Type of the listener.
+     * @param method Name of the listener method.
+     * @param event Event or chain that triggered the listener.
+     * @param target Transition target.
+     * @param succeeded True if the listener method returned normally.
+     */
+    public void complete(final Class<?> machineType, final Class<?> listener, final String method, final Enum<?> event, final Object target, final boolean succeeded) {
+        this.end();
+
+        if (!this.shouldCommit()) {
+            return;
+        }
+
+        this.machineType = machineType;
+        this.listener = listener;
+        this.method = method;
+        this.event = FlightRecording.name(event);
+        this.targetType = target.getClass();
+        this.succeeded = succeeded;
+        this.commit();
+    }
+}
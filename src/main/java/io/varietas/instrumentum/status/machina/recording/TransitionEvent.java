@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.recording;
+
+import io.varietas.instrumentum.status.machina.Statable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <h2>TransitionEvent</h2>
+ * <p>
+ * Flight recorder event of a fired transition. The duration covers the listeners, the transition method and the commit of the new state including retries of concurrently changed targets.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Name(FlightRecording.TRANSITION)
+@Label("Transition")
+@Category(FlightRecording.CATEGORY)
+@Description("Transition fired by a state machine")
+@Threshold(FlightRecording.DEFAULT_THRESHOLD)
+@StackTrace(false)
+public final class TransitionEvent extends Event {
+
+    @Label("Machine Type")
+    Class<?> machineType;
+
+    @Label("Event")
+    String event;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Committed")
+    @Description("True if the new state was committed")
+    boolean committed;
+
+    /**
+     * Ends the event and commits it if it exceeds the threshold. The fields are only set if the event is committed.
+     *
+     * @param machineType Type of the firing machine.
+     * @param event Fired event.
+     * @param from State of the target before the transition.
+     * @param target Transition target, its current state is recorded as end state.
+     * @param committed True if the new state was committed.
+     */
+    @SuppressWarnings("rawtypes")
+    public void complete(final Class<?> machineType, final Enum<?> event, final Enum<?> from, final Statable target, final boolean committed) {
+        this.end();
+
+        if (!this.shouldCommit()) {
+            return;
+        }
+
+        this.machineType = machineType;
+        this.event = FlightRecording.name(event);
+        this.from = FlightRecording.name(from);
+        this.to = FlightRecording.name(target.state());
+        this.targetType = target.getClass();
+        this.committed = committed;
+        this.commit();
+    }
+}
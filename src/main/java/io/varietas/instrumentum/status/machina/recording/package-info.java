@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>io.varietas.instrumentum.status.machina.recording</h2>
+ * <p>
+ * The recording emits Java Flight Recorder events for fired transitions, transition chains and listener calls. The events carry the machine type, the states, the event and the target type, so the
+ * time spent in state machines can be correlated with garbage collection and lock contention of the same recording. Only events which take longer than their threshold are recorded, see
+ * {@link io.varietas.instrumentum.status.machina.recording.FlightRecording}.</p>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+package io.varietas.instrumentum.status.machina.recording;
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.tracing;
+
+/**
+ * <h2>MachineEventSink</h2>
+ * <p>
+ * Consumer of the events of machines. A machine takes the current sink from {@link Tracing} and hands an event over only if {@link #isEnabled(MachineEventType)} returns true. The
+ * fields of an event are passed as they are, so a sink must not keep references to targets beyond the call. Implementations must be thread-safe.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public interface MachineEventSink {
+
+    /**
+     * Sink which drops all events.
+     */
+    MachineEventSink NONE = new MachineEventSink() {
+        @Override
+        public boolean isEnabled(final MachineEventType type) {
+            return false;
+        }
+
+        @Override
+        public void machine(final MachineEventType type, final Class<?> machineType, final int transitions, final int chains) {
+        }
+
+        @Override
+        public void transition(final MachineEventType type, final Class<?> machineType, final Enum<?> on, final Enum<?> from, final Enum<?> to) {
+        }
+
+        @Override
+        public void listener(final MachineEventType type, final Class<?> machineType, final Class<?> listener, final Enum<?> on, final boolean before, final Throwable error) {
+        }
+    };
+
+    /**
+     * Checks if events of a type are consumed. The check is done before each event, so it has to be cheap.
+     *
+     * @param type Type of the event.
+     *
+     * @return True if the events are consumed, otherwise false.
+     */
+    boolean isEnabled(MachineEventType type);
+
+    /**
+     * Consumes an event of the lifecycle of a machine.
+     *
+     * @param type Type of the event.
+     * @param machineType Type of the machine.
+     * @param transitions Number of configured transitions.
+     * @param chains Number of configured chains.
+     */
+    void machine(MachineEventType type, Class<?> machineType, int transitions, int chains);
+
+    /**
+     * Consumes an event of a transition.
+     *
+     * @param type Type of the event.
+     * @param machineType Type of the firing machine.
+     * @param on Fired event.
+     * @param from State of the target before the transition.
+     * @param to End state of the transition.
+     */
+    void transition(MachineEventType type, Class<?> machineType, Enum<?> on, Enum<?> from, Enum<?> to);
+
+    /**
+     * Consumes an event of a listener call.
+     *
+     * @param type Type of the event.
+     * @param machineType Type of the machine which calls the listener.
+     * @param listener Type of the listener.
+     * @param on Event or chain that triggered the listener.
+     * @param before True for the before method, false for the after method.
+     * @param error Error of the listener method, may be null.
+     */
+    void listener(MachineEventType type, Class<?> machineType, Class<?> listener, Enum<?> on, boolean before, Throwable error);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.tracing;
+
+/**
+ * <h2>MachineEventType</h2>
+ * <p>
+ * Types of the events which are handed to a {@link MachineEventSink}.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public enum MachineEventType {
+
+    /**
+     * A machine was created, see {@link MachineEventSink#machine(MachineEventType, Class, int, int)}.
+     */
+    MACHINE_CREATED,
+    /**
+     * A transition was entered, see {@link MachineEventSink#transition(MachineEventType, Class, Enum, Enum, Enum)}.
+     */
+    TRANSITION_ENTERED,
+    /**
+     * The new state of a transition was committed, see {@link MachineEventSink#transition(MachineEventType, Class, Enum, Enum, Enum)}.
+     */
+    TRANSITION_FINISHED,
+    /**
+     * A transition was ignored because the state of the target was changed concurrently, see {@link MachineEventSink#transition(MachineEventType, Class, Enum, Enum, Enum)}.
+     */
+    TRANSITION_IGNORED,
+    /**
+     * A listener method failed, see {@link MachineEventSink#listener(MachineEventType, Class, Class, Enum, boolean, Throwable)}.
+     */
+    LISTENER_FAILED
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.tracing;
+
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>Slf4jEventSink</h2>
+ * <p>
+ * Sink which logs the events via SLF4J. The lifecycle of machines and ignored transitions are logged on debug, entered and finished transitions on trace and failed listeners on error level. The
+ * messages are only formatted if the level is enabled.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@Slf4j
+public final class Slf4jEventSink implements MachineEventSink {
+
+    /**
+     * Shared instance of the sink.
+     */
+    public static final Slf4jEventSink INSTANCE = new Slf4jEventSink();
+
+    private Slf4jEventSink() {
+    }
+
+    @Override
+    public boolean isEnabled(final MachineEventType type) {
+        switch (type) {
+            case TRANSITION_ENTERED:
+            case TRANSITION_FINISHED:
+                return LOGGER.isTraceEnabled();
+            case LISTENER_FAILED:
+                return LOGGER.isErrorEnabled();
+            default:
+                return LOGGER.isDebugEnabled();
+        }
+    }
+
+    @Override
+    public void machine(final MachineEventType type, final Class<?> machineType, final int transitions, final int chains) {
+        LOGGER.debug("Machine '{}' created with {} transitions and {} chains.", machineType.getSimpleName(), transitions, chains);
+    }
+
+    @Override
+    public void transition(final MachineEventType type, final Class<?> machineType, final Enum<?> on, final Enum<?> from, final Enum<?> to) {
+        switch (type) {
+            case TRANSITION_ENTERED:
+                LOGGER.trace("State change to {} entered.", on);
+                break;
+            case TRANSITION_FINISHED:
+                LOGGER.trace("State change to {} finished.", on);
+                break;
+            default:
+                LOGGER.debug("Transition {} ignored. State changed concurrently from {} to {}.", on, from, to);
+        }
+    }
+
+    @Override
+    public void listener(final MachineEventType type, final Class<?> machineType, final Class<?> listener, final Enum<?> on, final boolean before, final Throwable error) {
+        LOGGER.error("Couldn't call listener method '{}'. {}: {}",
+                (before) ? "before" : "after",
+                (Objects.nonNull(error)) ? error.getClass().getSimpleName() : null,
+                (Objects.nonNull(error) && Objects.nonNull(error.getMessage())) ? error.getMessage() : "No message available");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.tracing;
+
+import java.util.ServiceLoader;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * <h2>Tracing</h2>
+ * <p>
+ * The tracing holds the {@link MachineEventSink} which is used by the machines. The initial sink is the first sink found by the {@link ServiceLoader}, otherwise the {@link Slf4jEventSink}. The
+ * sink can be changed via {@link #use(MachineEventSink)}. Machines read the sink with each event, so existing machines hand their next events to a new sink.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Tracing {
+
+    private static volatile MachineEventSink sink = ServiceLoader.load(MachineEventSink.class, Tracing.class.getClassLoader())
+            .findFirst()
+            .orElse(Slf4jEventSink.INSTANCE);
+
+    /**
+     * Returns the sink which is used by the machines.
+     *
+     * @return Current event sink.
+     */
+    public static MachineEventSink current() {
+        return Tracing.sink;
+    }
+
+    /**
+     * Sets the sink which is used by the machines.
+     *
+     * @param sink New event sink.
+     */
+    public static void use(@NonNull final MachineEventSink sink) {
+        Tracing.sink = sink;
+    }
+}
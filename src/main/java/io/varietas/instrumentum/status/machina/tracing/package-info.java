@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>io.varietas.instrumentum.status.machina.tracing</h2>
+ * <p>
+ * The tracing hands the lifecycle of machines and the progress of transitions to a {@link io.varietas.instrumentum.status.machina.tracing.MachineEventSink}. The events are delivered as types, enums
+ * and primitives, so a sink decides if and how they are formatted. By default the events are logged via SLF4J by the {@link io.varietas.instrumentum.status.machina.tracing.Slf4jEventSink}.</p>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+package io.varietas.instrumentum.status.machina.tracing;
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.containers.TransitionMessage;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class AsyncStateMachineTest {
+
+    @Test
+    public void submit_validMessages_firesInOrder() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        try (AsyncStateMachine machine = AsyncStateMachine.of(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class), 4)) {
+            machine.submit(TransitionMessage.of(ExampleEvent.REGISTER, entity));
+            final CompletableFuture<TransitionMessage> result = machine.submit(TransitionMessage.of(ExampleEvent.ACTIVATE, entity));
+
+            Assertions.assertThat(result.get(5, TimeUnit.SECONDS).getTarget()).isSameAs(entity);
+            Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+        }
+    }
+
+    @Test
+    public void submit_invalidTransition_completesExceptionally() throws Exception {
+
+        try (AsyncStateMachine machine = AsyncStateMachine.of(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class), 4)) {
+            final CompletableFuture<TransitionMessage> result = machine.submit(TransitionMessage.of(ExampleEvent.ACTIVATE, TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+            Assertions.assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(InvalidTransitionException.class);
+            Assertions.assertThatThrownBy(() -> machine.fire(ExampleEvent.ACTIVATE, TestEntity.of(ExampleState.AVAILABLE, 0))).isInstanceOf(InvalidTransitionException.class);
+        }
+    }
+
+    @Test
+    public void trySubmit_fullQueue_rejectsMessage() throws Exception {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final StateMachine blocking = (transition, target) -> {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try (AsyncStateMachine machine = AsyncStateMachine.of(blocking, 1)) {
+            final CompletableFuture<TransitionMessage> first = machine.trySubmit(TransitionMessage.of(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0)));
+            Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final CompletableFuture<TransitionMessage> second = machine.trySubmit(TransitionMessage.of(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0)));
+            final CompletableFuture<TransitionMessage> third = machine.trySubmit(TransitionMessage.of(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+            Assertions.assertThatThrownBy(third::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+
+            Assertions.assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+            Assertions.assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+    }
+
+    @Test
+    public void close_queuedMessages_firesQueuedAndRejectsNewMessages() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+        final AsyncStateMachine machine = AsyncStateMachine.of(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class), 4);
+
+        final CompletableFuture<TransitionMessage> queued = machine.submit(TransitionMessage.of(ExampleEvent.REGISTER, entity));
+        machine.close();
+
+        Assertions.assertThat(queued).isCompleted();
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(machine.isClosed()).isTrue();
+        Assertions.assertThatThrownBy(() -> machine.submit(TransitionMessage.of(ExampleEvent.ACTIVATE, entity)).join()).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void fire_onWorkerThread_firesDirectly() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+        final AtomicReference<AsyncStateMachine> reference = new AtomicReference<>();
+
+        ///< Fires the activation from the worker thread like a listener would do.
+        final StateMachine nested = (transition, target) -> {
+            if (transition == ExampleEvent.REGISTER) {
+                reference.get().fire(ExampleEvent.ACTIVATE, target);
+            } else {
+                ((TestEntity) target).state(ExampleState.ACTIVATED);
+            }
+        };
+
+        try (AsyncStateMachine machine = AsyncStateMachine.of(nested, 1)) {
+            reference.set(machine);
+
+            machine.submit(TransitionMessage.of(ExampleEvent.REGISTER, entity)).get(5, TimeUnit.SECONDS);
+
+            Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+        }
+    }
+
+    @Test
+    public void close_onWorkerThread_stopsWithoutWaiting() throws Exception {
+
+        final AtomicReference<AsyncStateMachine> reference = new AtomicReference<>();
+        final AsyncStateMachine machine = AsyncStateMachine.of((transition, target) -> reference.get().close(), 1);
+        reference.set(machine);
+
+        machine.submit(TransitionMessage.of(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0))).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(machine.isClosed()).isTrue();
+        Assertions.assertThatThrownBy(() -> machine.submit(TransitionMessage.of(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0))).join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.annotations.ConflictPolicy;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.DefaultFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.errors.TransitionConflictException;
+import io.varietas.instrumentum.status.machina.machines.transition.AtomicStateMachine;
+import io.varietas.instrumentum.status.machina.models.AtomicTestEntity;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class ConflictPolicyTest {
+
+    @Test
+    public void fire_noConflict_commitsState() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+
+        this.machine(ConflictPolicy.FAIL).fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(entity.getInvocations()).isEqualTo(1);
+    }
+
+    @Test
+    public void fire_conflictWithFailPolicy_throwsException() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        final Throwable result = Assertions.catchThrowable(() -> this.machine(ConflictPolicy.FAIL).fire(ExampleEvent.REGISTER, entity));
+
+        Assertions.assertThat(result)
+                .isInstanceOf(TransitionConflictException.class)
+                .hasMessage("Expected state 'AVAILABLE' but was 'DELETED'");
+        Assertions.assertThat(result.getLocalizedMessage()).isEqualTo("Transition 'REGISTER' conflicts with a concurrent transition: Expected state 'AVAILABLE' but was 'DELETED'.");
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    @Test
+    public void tryFire_conflictWithFailPolicy_returnsConflict() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        Assertions.assertThat(this.machine(ConflictPolicy.FAIL).tryFire(ExampleEvent.REGISTER, entity)).isEqualTo(FireResult.CONFLICT);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    @Test
+    public void fire_conflictWithIgnorePolicy_keepsConcurrentState() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        this.machine(ConflictPolicy.IGNORE).fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+        Assertions.assertThat(entity.getInvocations()).isEqualTo(1);
+    }
+
+    @Test
+    public void tryFire_conflictWithIgnorePolicy_returnsIgnored() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        final FireResult result = this.machine(ConflictPolicy.IGNORE).tryFire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(result).isEqualTo(FireResult.IGNORED);
+        Assertions.assertThat(result.isSuccess()).isFalse();
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    @Test
+    public void fireAll_conflictWithIgnorePolicy_addsFailure() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        final BatchResult result = this.machine(ConflictPolicy.IGNORE).fireAll(ExampleEvent.REGISTER, List.of(entity));
+
+        Assertions.assertThat(result.isSuccess(0)).isFalse();
+        Assertions.assertThat(result.getFailures()).singleElement().extracting(BatchResult.Failure::getCause).isInstanceOf(TransitionConflictException.class);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    @Test
+    public void fire_conflictWithRetryPolicy_firesAgainForNewState() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.REGISTERED);
+
+        this.machine(ConflictPolicy.RETRY).fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(entity.getInvocations()).isEqualTo(2);
+    }
+
+    @Test
+    public void fire_conflictWithRetryPolicyAndNoTransitionForNewState_throwsException() {
+
+        final AtomicTestEntity entity = new AtomicTestEntity(ExampleState.AVAILABLE);
+        entity.setInterferingState(ExampleState.DELETED);
+
+        Assertions.assertThatThrownBy(() -> this.machine(ConflictPolicy.RETRY).fire(ExampleEvent.REGISTER, entity))
+                .isInstanceOf(InvalidTransitionException.class);
+    }
+
+    @Test
+    public void fire_permanentConflictWithRetryPolicy_throwsExceptionAfterMaxRetries() {
+
+        final AtomicTestEntity entity = new FlappingTestEntity(ExampleState.AVAILABLE);
+
+        Assertions.assertThatThrownBy(() -> this.machine(ConflictPolicy.RETRY, 2).fire(ExampleEvent.REGISTER, entity))
+                .isInstanceOf(TransitionConflictException.class);
+        Assertions.assertThat(entity.getInvocations()).isEqualTo(3);
+    }
+
+    @Test
+    public void fire_stateChangedAfterLookup_comparesWithResolvedState() {
+
+        final AtomicTestEntity entity = new RacyTestEntity(ExampleState.AVAILABLE, ExampleState.DELETED);
+
+        Assertions.assertThatThrownBy(() -> this.machine(ConflictPolicy.FAIL).fire(ExampleEvent.REGISTER, entity))
+                .isInstanceOf(TransitionConflictException.class)
+                .hasMessage("Expected state 'AVAILABLE' but was 'DELETED'");
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    @Test
+    public void fireAll_stateChangedAfterLookup_comparesWithResolvedState() {
+
+        final AtomicTestEntity entity = new RacyTestEntity(ExampleState.AVAILABLE, ExampleState.DELETED);
+
+        final BatchResult result = this.machine(ConflictPolicy.FAIL).fireAll(ExampleEvent.REGISTER, List.of(entity));
+
+        Assertions.assertThat(result.getFailures()).singleElement().satisfies(failure -> Assertions.assertThat(failure.getCause()).isInstanceOf(TransitionConflictException.class));
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.DELETED);
+    }
+
+    private StateMachine machine(final ConflictPolicy conflictPolicy) {
+        return this.machine(conflictPolicy, ConflictPolicy.DEFAULT_MAX_RETRIES);
+    }
+
+    private StateMachine machine(final ConflictPolicy conflictPolicy, final int maxRetries) {
+
+        final FSMConfiguration extracted = SimpleStateMachineBuilder.getBuilder().extractConfiguration(AtomicStateMachine.class).configuration();
+        final DefaultFSMConfiguration configuration = DefaultFSMConfiguration.of(AtomicStateMachine.class, extracted.getStateType(), extracted.getEventType())
+                .andAddTransitions(extracted.getTransitions())
+                .andConflictPolicy(conflictPolicy)
+                .andMaxRetries(maxRetries)
+                .freeze();
+
+        return new AtomicStateMachine(configuration);
+    }
+
+    /**
+     * Atomic entity whose state is changed concurrently between start and end state on each invocation of the transition.
+     */
+    private static class FlappingTestEntity extends AtomicTestEntity {
+
+        FlappingTestEntity(final ExampleState state) {
+            super(state);
+        }
+
+        @Override
+        public void invoked() {
+            super.invoked();
+            this.state((this.state() == ExampleState.AVAILABLE) ? ExampleState.REGISTERED : ExampleState.AVAILABLE);
+        }
+    }
+
+    /**
+     * Atomic entity whose state is changed concurrently right after it was read for the first time.
+     */
+    private static class RacyTestEntity extends AtomicTestEntity {
+
+        private ExampleState concurrentState;
+
+        RacyTestEntity(final ExampleState state, final ExampleState concurrentState) {
+            super(state);
+            this.concurrentState = concurrentState;
+        }
+
+        @Override
+        public ExampleState state() {
+            final ExampleState res = super.state();
+
+            if (this.concurrentState != null) {
+                super.state(this.concurrentState);
+                this.concurrentState = null;
+            }
+
+            return res;
+        }
+    }
+}
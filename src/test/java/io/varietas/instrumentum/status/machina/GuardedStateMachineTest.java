@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionChainException;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.machines.chain.GuardedChainStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.GuardedStateMachine;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class GuardedStateMachineTest {
+
+    @Test
+    public void fire_guardPermits_selectsGuardedTransition() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 10);
+
+        StateMachineFactory.getStateMachine(GuardedStateMachine.class).fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.PARKED);
+        Assertions.assertThat(entity.getValue()).isEqualTo(11);
+    }
+
+    @Test
+    public void fire_guardRejects_selectsNextCandidate() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        StateMachineFactory.getStateMachine(GuardedStateMachine.class).fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(entity.getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void fire_noCandidatePermitted_throwsInvalidTransitionException() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(GuardedStateMachine.class);
+        final TestEntity entity = TestEntity.of(ExampleState.REGISTERED, 1);
+
+        Assertions.assertThatThrownBy(() -> machine.fire(ExampleEvent.ACTIVATE, entity)).isInstanceOf(InvalidTransitionException.class);
+        Assertions.assertThat(machine.tryFire(ExampleEvent.ACTIVATE, entity)).isEqualTo(FireResult.NO_TRANSITION);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(entity.getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void fireAll_guardedTransitions_resolvedPerTarget() throws Exception {
+
+        final TestEntity parkable = TestEntity.of(ExampleState.AVAILABLE, 10);
+        final TestEntity registrable = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        StateMachineFactory.getStateMachine(GuardedStateMachine.class).fireAll(ExampleEvent.REGISTER, List.of(parkable, registrable));
+
+        Assertions.assertThat(parkable.state()).isEqualTo(ExampleState.PARKED);
+        Assertions.assertThat(registrable.state()).isEqualTo(ExampleState.REGISTERED);
+    }
+
+    @Test
+    public void fireChain_guardsPermit_firesAllParts() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 5);
+
+        ((ChainStateMachine) StateMachineFactory.getStateMachine(GuardedChainStateMachine.class)).fireChain(ExampleChain.INSTALLING, entity);
+
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+        Assertions.assertThat(entity.getValue()).isEqualTo(8);
+    }
+
+    @Test
+    public void fireChain_guardOfLaterPartRejects_abortsBeforeListenersAndParts() throws Exception {
+
+        final ChainStateMachine machine = (ChainStateMachine) StateMachineFactory.getStateMachine(GuardedChainStateMachine.class);
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        Assertions.assertThatThrownBy(() -> machine.fireChain(ExampleChain.INSTALLING, entity))
+                .isInstanceOf(InvalidTransitionChainException.class);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.AVAILABLE);
+        Assertions.assertThat(entity.getValue()).isZero();
+    }
+}
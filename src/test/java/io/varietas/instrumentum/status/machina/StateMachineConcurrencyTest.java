@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithListenerLifecycles;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stress tests for shared machine instances which fire concurrently on disjoint targets.
+ *
+ * @author Michael Rhöse
+ */
+public class StateMachineConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    private static final int TARGETS_PER_THREAD = 500;
+
+    @Test
+    public void fire_sharedMachineDisjointTargets_allTransitionsApplied() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithListenerLifecycles.class);
+        final TestEntity reference = TestEntity.of(ExampleState.AVAILABLE, 0);
+        machine.fire(ExampleEvent.REGISTER, reference);
+        machine.fire(ExampleEvent.ACTIVATE, reference);
+
+        final List<List<TestEntity>> targets = this.runConcurrently(entity -> {
+            machine.fire(ExampleEvent.REGISTER, entity);
+            machine.fire(ExampleEvent.ACTIVATE, entity);
+        });
+
+        targets.forEach(part -> Assertions.assertThat(part).allSatisfy(entity -> {
+            Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+            Assertions.assertThat(entity.getValue()).isEqualTo(reference.getValue());
+        }));
+    }
+
+    @Test
+    public void fireChain_sharedMachineDisjointTargets_allChainsApplied() throws Exception {
+
+        final ChainStateMachine machine = (ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithChainListener.class);
+        final TestEntity reference = TestEntity.of(ExampleState.AVAILABLE, 0);
+        machine.fireChain(ExampleChain.INSTALLING, reference);
+
+        final List<List<TestEntity>> targets = this.runConcurrently(entity -> machine.fireChain(ExampleChain.INSTALLING, entity));
+
+        targets.forEach(part -> Assertions.assertThat(part).allSatisfy(entity -> {
+            Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+            Assertions.assertThat(entity.getValue()).isEqualTo(reference.getValue());
+        }));
+    }
+
+    /**
+     * Runs the action for disjoint targets on several threads. All threads start at the same time.
+     */
+    private List<List<TestEntity>> runConcurrently(final TargetAction action) throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<List<TestEntity>> targets = new ArrayList<>();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            final List<TestEntity> part = new ArrayList<>();
+
+            for (int index = 0; index < TARGETS_PER_THREAD; index++) {
+                part.add(TestEntity.of(ExampleState.AVAILABLE, 0));
+            }
+
+            targets.add(part);
+            tasks.add(() -> {
+                start.await();
+                for (TestEntity entity : part) {
+                    action.apply(entity);
+                }
+                return null;
+            });
+        }
+
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            tasks.forEach(task -> futures.add(executor.submit(task)));
+            start.countDown();
+
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        return targets;
+    }
+
+    @FunctionalInterface
+    private interface TargetAction {
+
+        void apply(TestEntity entity) throws Exception;
+    }
+}
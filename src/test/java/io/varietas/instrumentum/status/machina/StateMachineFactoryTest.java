@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class StateMachineFactoryTest {
+
+    @Test
+    public void getConfiguration_repeatedRequests_returnsCachedConfiguration() {
+
+        final FSMConfiguration configuration = StateMachineFactory.getConfiguration(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(StateMachineFactory.getConfiguration(StateMachineWithoutListener.class)).isSameAs(configuration);
+    }
+
+    @Test
+    public void getConfiguration_chainMachine_returnsChainConfiguration() {
+        Assertions.assertThat(StateMachineFactory.getConfiguration(ChainStateMachineWithoutListener.class)).isInstanceOf(CFSMConfiguration.class);
+    }
+
+    @Test
+    public void getStateMachine_repeatedRequests_returnsSharedMachine() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class)).isSameAs(machine);
+    }
+
+    @Test
+    public void newStateMachine_repeatedRequests_returnsNewMachines() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.newStateMachine(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(StateMachineFactory.newStateMachine(StateMachineWithoutListener.class))
+                .isNotSameAs(machine)
+                .isNotSameAs(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class));
+    }
+
+    @Test
+    public void evict_sharedMachine_createsMachineAgain() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+
+        StateMachineFactory.evict(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class)).isNotSameAs(machine);
+    }
+
+    @Test
+    public void evict_cachedConfiguration_extractsConfigurationAgain() {
+
+        final FSMConfiguration configuration = StateMachineFactory.getConfiguration(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(StateMachineFactory.evict(StateMachineWithoutListener.class)).isTrue();
+        Assertions.assertThat(StateMachineFactory.evict(StateMachineWithoutListener.class)).isFalse();
+        Assertions.assertThat(StateMachineFactory.getConfiguration(StateMachineWithoutListener.class))
+                .isNotSameAs(configuration)
+                .isEqualTo(configuration);
+    }
+
+    @Test
+    public void clear_cachedConfigurations_extractsConfigurationsAgain() {
+
+        final FSMConfiguration configuration = StateMachineFactory.getConfiguration(ChainStateMachineWithoutListener.class);
+
+        StateMachineFactory.clear();
+
+        Assertions.assertThat(StateMachineFactory.getConfiguration(ChainStateMachineWithoutListener.class)).isNotSameAs(configuration);
+    }
+
+    @Test
+    public void warmUp_machineTypes_createsSharedMachines() {
+
+        StateMachineFactory.clear();
+
+        Assertions.assertThatCode(() -> StateMachineFactory.warmUp(StateMachineWithoutListener.class, ChainStateMachineWithoutListener.class)).doesNotThrowAnyException();
+        Assertions.assertThat(StateMachineFactory.evict(StateMachineWithoutListener.class)).isTrue();
+        Assertions.assertThat(StateMachineFactory.evict(ChainStateMachineWithoutListener.class)).isTrue();
+    }
+}
@@ -15,15 +15,28 @@
  */
 package io.varietas.instrumentum.status.machina;
 
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
 import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
 import io.varietas.instrumentum.status.machina.errors.MachineCreationException;
+import io.varietas.instrumentum.status.machina.listeners.CountingMachineListener;
+import io.varietas.instrumentum.status.machina.listeners.CountingSingletonListener;
 import io.varietas.instrumentum.status.machina.machines.transition.FailingStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithListenerLifecycles;
 import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionAfterListener;
 import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionBeforeListener;
 import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
 import io.varietas.instrumentum.status.machina.models.ExampleEvent;
 import io.varietas.instrumentum.status.machina.models.ExampleState;
 import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.AfterEach;
@@ -77,6 +90,19 @@ public class StateMachineTests {
         Assertions.assertThatThrownBy(() -> stateMachine.fire(ExampleEvent.ACTIVATE, entity)).isInstanceOf(InvalidTransitionException.class);
     }
 
+    @Test
+    public void testTryFire() throws Exception {
+
+        StateMachine stateMachine = this.getStateMachine(StateMachineWithoutListener.class);
+
+        TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        this.softly.assertThat(stateMachine.tryFire(ExampleEvent.ACTIVATE, entity)).isEqualTo(FireResult.NO_TRANSITION);
+        this.softly.assertThat(entity.state()).isEqualTo(ExampleState.AVAILABLE);
+        this.softly.assertThat(stateMachine.tryFire(ExampleEvent.REGISTER, entity)).isEqualTo(FireResult.OK);
+        this.softly.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+    }
+
     @Test
     public void testFailMachineBuilding() {
         Assertions.assertThatThrownBy(() -> this.getStateMachine(FailingStateMachine.class))
@@ -128,6 +154,75 @@ public class StateMachineTests {
         this.softly.assertThat(entity.state()).isEqualTo(state);
     }
 
+    @Test
+    public void testFireAllCollectsSuccessesAndFailures() throws MachineCreationException {
+        StateMachine stateMachine = this.getStateMachine(StateMachineWithoutListener.class);
+
+        List<TestEntity> entities = Arrays.asList(
+                TestEntity.of(ExampleState.ACTIVATED, 0),
+                TestEntity.of(ExampleState.AVAILABLE, 0),
+                TestEntity.of(ExampleState.ACTIVATED, 0),
+                TestEntity.of(null, 0));
+
+        BatchResult result = stateMachine.fireAll(ExampleEvent.DEACTIVATE, entities);
+
+        this.softly.assertThat(result.getSize()).isEqualTo(4);
+        this.softly.assertThat(result.getSuccesses()).isEqualTo(BitSet.valueOf(new long[]{0b101}));
+        this.softly.assertThat(result.getFailures()).extracting(BatchResult.Failure::getIndex).containsExactly(1, 3);
+        this.softly.assertThat(result.getFailures()).extracting(BatchResult.Failure::getCause).allMatch(InvalidTransitionException.class::isInstance);
+        this.softly.assertThat(result.getFailures().get(0).getCause()).hasMessage("State of target 'AVAILABLE' doesn't match required state for tarnsition 'DEACTIVATE'.");
+        this.softly.assertThat(entities).extracting(TestEntity::state).containsExactly(ExampleState.DEACTIVATED, ExampleState.AVAILABLE, ExampleState.DEACTIVATED, null);
+    }
+
+    @Test
+    public void testFireAllDefaultImplementation() {
+        StateMachine stateMachine = (transition, target) -> {
+            if (target.state() != ExampleState.AVAILABLE) {
+                throw new InvalidTransitionException(transition, "Unexpected state.");
+            }
+        };
+
+        BatchResult result = stateMachine.fireAll(ExampleEvent.REGISTER, Arrays.asList(TestEntity.of(ExampleState.AVAILABLE, 0), TestEntity.of(ExampleState.DELETED, 0)));
+
+        this.softly.assertThat(result.isSuccess(0)).isTrue();
+        this.softly.assertThat(result.isAllSuccessful()).isFalse();
+        this.softly.assertThat(result.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFireAllParallelKeepsPositions() throws Exception {
+        StateMachine stateMachine = this.getStateMachine(StateMachineWithoutListener.class);
+
+        List<TestEntity> entities = IntStream.range(0, 1000)
+                .mapToObj(index -> TestEntity.of((index % 3 == 0) ? ExampleState.AVAILABLE : ExampleState.ACTIVATED, 0))
+                .collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            BatchResult result = stateMachine.fireAll(ExampleEvent.DEACTIVATE, entities, executor);
+
+            this.softly.assertThat(result.getSize()).isEqualTo(1000);
+            this.softly.assertThat(result.getFailureCount()).isEqualTo(334);
+            this.softly.assertThat(result.getFailures()).extracting(BatchResult.Failure::getIndex).allMatch(index -> index % 3 == 0).isSorted();
+            this.softly.assertThat(IntStream.range(0, 1000).allMatch(index -> result.isSuccess(index) == (index % 3 != 0))).isTrue();
+            this.softly.assertThat(result.getFailures()).allMatch(failure -> failure.getTarget() == entities.get(failure.getIndex()));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFireAllParallelOnCommonPool() throws Exception {
+        StateMachine stateMachine = this.getStateMachine(StateMachineWithoutListener.class);
+
+        BatchResult result = stateMachine.fireAllParallel(ExampleEvent.REGISTER, Arrays.asList(TestEntity.of(ExampleState.AVAILABLE, 0), TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+        this.softly.assertThat(result.isAllSuccessful()).isTrue();
+        this.softly.assertThat(stateMachine.fireAllParallel(ExampleEvent.REGISTER, Collections.emptyList()).getSize()).isZero();
+    }
+
     @Test
     public void testForInvalidTransition() throws MachineCreationException {
         StateMachine stateMachine = this.getStateMachine(StateMachineWithTransitionAfterListener.class);
@@ -138,4 +233,22 @@ public class StateMachineTests {
                 .isInstanceOf(InvalidTransitionException.class)
                 .hasMessage("State of target 'AVAILABLE' doesn't match required state for tarnsition 'ACTIVATE'.");
     }
+
+    @Test
+    public void testListenerLifecycles() throws MachineCreationException {
+        final int singletons = CountingSingletonListener.INSTANCES.get();
+        final int perMachine = CountingMachineListener.INSTANCES.get();
+
+        final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithListenerLifecycles.class).configuration();
+        final StateMachine first = SimpleStateMachineBuilder.getBuilder().configuration(configuration).build();
+        final StateMachine second = SimpleStateMachineBuilder.getBuilder().configuration(configuration).build();
+
+        for (int index = 0; index < 3; index++) {
+            this.assertTransition(first, ExampleEvent.REGISTER, ExampleState.REGISTERED, TestEntity.of(ExampleState.AVAILABLE, 0), 11);
+            this.assertTransition(second, ExampleEvent.ACTIVATE, ExampleState.ACTIVATED, TestEntity.of(ExampleState.REGISTERED, 0), 21);
+        }
+
+        this.softly.assertThat(CountingSingletonListener.INSTANCES.get() - singletons).isEqualTo(1);
+        this.softly.assertThat(CountingMachineListener.INSTANCES.get() - perMachine).isEqualTo(2);
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina;
+
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class StripedStateMachineTest {
+
+    private static final int THREADS = 8;
+
+    private static final int ROUNDS = 2000;
+
+    @Test
+    public void fire_sharedTarget_serializesTransitions() throws Exception {
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+        final AtomicInteger counter = new AtomicInteger();
+
+        ///< Toggles the state and counts a lost update if the state was changed concurrently.
+        final StateMachine toggling = (transition, target) -> {
+            final TestEntity testEntity = (TestEntity) target;
+            final ExampleState state = testEntity.state();
+            testEntity.setValue(testEntity.getValue() + 1);
+            Thread.yield();
+            testEntity.state(state == ExampleState.AVAILABLE ? ExampleState.REGISTERED : ExampleState.AVAILABLE);
+            counter.incrementAndGet();
+        };
+
+        final StateMachine machine = StripedStateMachine.of(toggling);
+
+        this.runConcurrently(() -> machine.fire(ExampleEvent.REGISTER, entity));
+
+        Assertions.assertThat(counter.get()).isEqualTo(THREADS * ROUNDS);
+        Assertions.assertThat(entity.getValue()).isEqualTo(THREADS * ROUNDS);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.AVAILABLE);
+    }
+
+    @Test
+    public void fire_keyExtractor_serializesEqualKeys() throws Exception {
+
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+
+        final StateMachine detecting = (transition, target) -> {
+            if (active.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            Thread.yield();
+            active.decrementAndGet();
+        };
+
+        ///< All targets share the same key, so all transitions have to be serialized.
+        final StateMachine machine = StripedStateMachine.of(detecting, 64, target -> "entity");
+
+        this.runConcurrently(() -> machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+        Assertions.assertThat(overlaps.get()).isZero();
+    }
+
+    @Test
+    public void fireChain_chainMachine_delegatesChain() throws Exception {
+
+        final StripedChainStateMachine machine = StripedChainStateMachine.of((ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithoutListener.class), 3, null);
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        machine.fireChain(ExampleChain.INSTALLING, entity);
+
+        Assertions.assertThat(machine.getStripes()).isEqualTo(4);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.ACTIVATED);
+    }
+
+    @Test
+    public void of_matchesTypeOfDelegate() throws Exception {
+
+        Assertions.assertThat(StripedStateMachine.of((transition, target) -> {
+        })).isNotInstanceOf(ChainStateMachine.class);
+        Assertions.assertThat(StripedStateMachine.of(StateMachineFactory.getStateMachine(ChainStateMachineWithoutListener.class))).isInstanceOf(StripedChainStateMachine.class);
+    }
+
+    private void runConcurrently(final Runnable action) throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+
+            for (int thread = 0; thread < THREADS; thread++) {
+                tasks.add(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        action.run();
+                    }
+                    return null;
+                });
+            }
+
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.builders;
+
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class TransitionChainPlannerTest {
+
+    private final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = new ArrayList<>();
+
+    @Test
+    public void plan_multipleWays_returnsShortestChain() throws Exception {
+
+        this.transition(ExampleState.AVAILABLE, ExampleState.REGISTERED, ExampleEvent.REGISTER);
+        this.transition(ExampleState.REGISTERED, ExampleState.ACTIVATED, ExampleEvent.ACTIVATE);
+        this.transition(ExampleState.ACTIVATED, ExampleState.DEACTIVATED, ExampleEvent.DEACTIVATE);
+        this.transition(ExampleState.DEACTIVATED, ExampleState.UNREGISTERED, ExampleEvent.UNREGISTER);
+        this.transition(ExampleState.UNREGISTERED, ExampleState.DELETED, ExampleEvent.DELETE);
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> shortcut = this.transition(ExampleState.REGISTERED, ExampleState.DELETED, ExampleEvent.DELETE);
+
+        final TransitionChainPlanner.Plan plan = TransitionChainPlanner.of(ExampleState.class, this.transitions).plan(ExampleState.AVAILABLE, ExampleState.DELETED);
+
+        Assertions.assertThat(plan.isReachable()).isTrue();
+        Assertions.assertThat(plan.getParts()).containsExactly(this.transitions.get(0), shortcut);
+    }
+
+    @Test
+    public void plan_equalLengthWays_returnsFirstCollectedWay() throws Exception {
+
+        this.transition(ExampleState.ACTIVATED, ExampleState.DEACTIVATED, ExampleEvent.DEACTIVATE);
+        this.transition(ExampleState.ACTIVATED, ExampleState.PARKED, ExampleEvent.PARK);
+        this.transition(ExampleState.PARKED, ExampleState.UNREGISTERED, ExampleEvent.UNREGISTER);
+        this.transition(ExampleState.DEACTIVATED, ExampleState.UNREGISTERED, ExampleEvent.UNREGISTER);
+
+        final TransitionChainPlanner.Plan plan = TransitionChainPlanner.of(ExampleState.class, this.transitions).plan(ExampleState.ACTIVATED, ExampleState.UNREGISTERED);
+
+        Assertions.assertThat(plan.getParts()).containsExactly(this.transitions.get(0), this.transitions.get(3));
+    }
+
+    @Test
+    public void plan_unreachableEndState_returnsUnreachablePlan() throws Exception {
+
+        this.transition(ExampleState.AVAILABLE, ExampleState.REGISTERED, ExampleEvent.REGISTER);
+        this.transition(ExampleState.REGISTERED, ExampleState.AVAILABLE, ExampleEvent.UNREGISTER);
+        this.transition(ExampleState.ACTIVATED, ExampleState.DELETED, ExampleEvent.DELETE);
+
+        final TransitionChainPlanner.Plan plan = TransitionChainPlanner.of(ExampleState.class, this.transitions).plan(ExampleState.AVAILABLE, ExampleState.DELETED);
+
+        Assertions.assertThat(plan.isReachable()).isFalse();
+        Assertions.assertThat(plan.getVisitedStates()).isEqualTo(2);
+        Assertions.assertThat(plan.getExpandedTransitions()).isEqualTo(2);
+    }
+
+    @Test
+    public void plan_equalStartAndEndState_requiresCycle() throws Exception {
+
+        this.transition(ExampleState.ACTIVATED, ExampleState.PARKED, ExampleEvent.PARK);
+        this.transition(ExampleState.PARKED, ExampleState.ACTIVATED, ExampleEvent.ACTIVATE);
+
+        final TransitionChainPlanner.Plan plan = TransitionChainPlanner.of(ExampleState.class, this.transitions).plan(ExampleState.ACTIVATED, ExampleState.ACTIVATED);
+
+        Assertions.assertThat(plan.getParts()).containsExactlyElementsOf(this.transitions);
+    }
+
+    private TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition(final ExampleState from, final ExampleState to, final ExampleEvent on) throws Exception {
+
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> transition = TransitionContainer.of(from, to, on, TransitionChainPlannerTest.class.getDeclaredMethod("calledTransitionMethod"));
+        this.transitions.add(transition);
+
+        return transition;
+    }
+
+    private void calledTransitionMethod() {
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.configurations;
+
+import io.varietas.instrumentum.status.machina.BasicStateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.builders.SimpleChainStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.machines.transition.GuardedStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class ConfigurationCodecTest {
+
+    @Test
+    public void read_writtenConfiguration_restoresFrozenConfiguration() throws IOException {
+
+        final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithTransitionListener.class).configuration();
+
+        final FSMConfiguration result = this.roundTrip(configuration);
+
+        Assertions.assertThat(result).isNotSameAs(configuration).isEqualTo(configuration);
+        Assertions.assertThat(((DefaultFSMConfiguration) result).isFrozen()).isTrue();
+    }
+
+    @Test
+    public void read_writtenChainConfiguration_restoresChainsWithSharedParts() throws IOException {
+
+        final CFSMConfiguration configuration = SimpleChainStateMachineBuilder.getBuilder().extractConfiguration(ChainStateMachineWithChainListener.class).configuration();
+
+        final CFSMConfiguration result = (CFSMConfiguration) this.roundTrip(configuration);
+
+        Assertions.assertThat(result).isEqualTo(configuration);
+        Assertions.assertThat(result.getChains()).allSatisfy(chain -> Assertions.assertThat(chain.getChainParts())
+                .allSatisfy(part -> Assertions.assertThat(result.getTransitions()).anySatisfy(transition -> Assertions.assertThat(transition).isSameAs(part))));
+    }
+
+    @Test
+    public void read_machineWithoutDescriptor_resolvesTransitionMethods() throws Exception {
+
+        final FSMConfiguration configuration = DefaultFSMConfiguration.of(UndescribedMachine.class, ExampleState.class, ExampleEvent.class)
+                .andAddTransition(TransitionContainer.of(ExampleState.AVAILABLE, ExampleState.REGISTERED, ExampleEvent.REGISTER, UndescribedMachine.class.getMethod("register", ExampleState.class, ExampleState.class, ExampleEvent.class, TestEntity.class)))
+                .freeze();
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        final FSMConfiguration result = this.roundTrip(configuration);
+        SimpleStateMachineBuilder.getBuilder().configuration(result).build().fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(result).isEqualTo(configuration);
+        Assertions.assertThat(entity.getState()).isEqualTo(ExampleState.REGISTERED);
+        Assertions.assertThat(entity.getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void read_writtenGuardedConfiguration_restoresGuards() throws IOException {
+
+        final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(GuardedStateMachine.class).configuration();
+
+        final FSMConfiguration result = this.roundTrip(configuration);
+
+        Assertions.assertThat(result).isEqualTo(configuration);
+        Assertions.assertThat(result.getTransitions()).filteredOn(TransitionContainer::isGuarded).hasSize(2).allSatisfy(transition -> Assertions.assertThat(transition.getGuard()).isNotNull());
+    }
+
+    @Test
+    public void read_foreignStream_throwsIOException() {
+        Assertions.assertThatThrownBy(() -> ConfigurationCodec.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), this.getClass().getClassLoader()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Stream doesn't contain a stored configuration.");
+    }
+
+    @Test
+    public void load_exportedConfiguration_returnsConfiguration(@TempDir final Path directory) throws Exception {
+
+        ConfigurationExporter.export(directory, List.of(StateMachineWithoutListener.class));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, this.getClass().getClassLoader())) {
+            Assertions.assertThat(ConfigurationCodec.load(StateMachineWithoutListener.class, loader)).contains(StateMachineFactory.getConfiguration(StateMachineWithoutListener.class));
+            Assertions.assertThat(ConfigurationCodec.load(StateMachineWithTransitionListener.class, loader)).isEmpty();
+            Assertions.assertThat(ConfigurationCodec.indexedMachineTypes(loader)).containsExactly(StateMachineWithoutListener.class);
+        }
+    }
+
+    private FSMConfiguration roundTrip(final FSMConfiguration configuration) throws IOException {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigurationCodec.write(configuration, out);
+
+        return ConfigurationCodec.read(new ByteArrayInputStream(out.toByteArray()), this.getClass().getClassLoader());
+    }
+
+    public static class UndescribedMachine extends BasicStateMachine {
+
+        public UndescribedMachine(final FSMConfiguration configuration) {
+            super(configuration);
+        }
+
+        public void register(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+            context.setValue(context.getValue() + 1);
+        }
+    }
+}
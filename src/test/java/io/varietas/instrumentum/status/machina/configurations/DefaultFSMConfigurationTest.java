@@ -15,6 +15,10 @@
  */
 package io.varietas.instrumentum.status.machina.configurations;
 
+import io.varietas.instrumentum.status.machina.builders.SimpleChainStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
 import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
 import io.varietas.instrumentum.status.machina.models.ExampleEvent;
 import io.varietas.instrumentum.status.machina.models.ExampleState;
@@ -35,4 +39,32 @@ public class DefaultFSMConfigurationTest {
         Assertions.assertThat(result).isInstanceOf(NullPointerException.class);
         Assertions.assertThat(result.getLocalizedMessage()).isEqualTo("Empty list isn't allowed");
     }
+
+    @Test
+    public void testFreezeCreatesImmutableSnapshot() {
+        final FSMConfiguration extracted = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithTransitionListener.class).configuration();
+        final DefaultFSMConfiguration configuration = DefaultFSMConfiguration.of(StateMachineWithTransitionListener.class, ExampleState.class, ExampleEvent.class)
+                .andAddTransitions(extracted.getTransitions());
+
+        final DefaultFSMConfiguration result = configuration.freeze();
+
+        Assertions.assertThat(result).isNotSameAs(configuration).isEqualTo(configuration);
+        Assertions.assertThat(result.isFrozen()).isTrue();
+        Assertions.assertThat(result.freeze()).isSameAs(result);
+        Assertions.assertThat(result.getTransitionTable()).isNotNull();
+        Assertions.assertThatThrownBy(() -> result.andAddTransition(extracted.getTransitions().get(0))).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThatThrownBy(() -> result.getTransitions().clear()).isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> result.getTransitions().get(0).getListeners().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testFreezeSharesFrozenTransitionsWithChains() {
+        final CFSMConfiguration result = SimpleChainStateMachineBuilder.getBuilder().extractConfiguration(ChainStateMachineWithoutListener.class).configuration();
+
+        Assertions.assertThat(((DefaultCFSMConfiguration) result).isFrozen()).isTrue();
+        Assertions.assertThat(result.getChains()).allSatisfy(chain -> {
+            Assertions.assertThat(chain.getChainParts()).allSatisfy(part -> Assertions.assertThat(result.getTransitions()).anySatisfy(transition -> Assertions.assertThat(transition).isSameAs(part)));
+            Assertions.assertThatThrownBy(() -> chain.getChainParts().clear()).isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
 }
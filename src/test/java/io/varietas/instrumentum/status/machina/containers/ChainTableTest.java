@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import io.varietas.instrumentum.status.machina.builders.SimpleChainStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.CFSMConfiguration;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class ChainTableTest {
+
+    private final CFSMConfiguration configuration = SimpleChainStateMachineBuilder.getBuilder().extractConfiguration(ChainStateMachineWithChainListener.class).configuration();
+
+    @Test
+    public void find_startStateMatches_returnsCompiledPlan() {
+
+        final ChainPlan result = this.configuration.getChainTable().find(ExampleChain.INSTALLING, ExampleState.AVAILABLE);
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(result.getOn()).isEqualTo(ExampleChain.INSTALLING);
+        Assertions.assertThat(result.getParts()).containsExactlyElementsOf(result.getChain().getChainParts());
+    }
+
+    @Test
+    public void find_chainListenerWithBothMethods_hoistsListenerToBothSides() {
+
+        final ChainPlan result = this.configuration.getChainTable().find(ExampleChain.INSTALLING, ExampleState.AVAILABLE);
+
+        Assertions.assertThat(result.getBeforeListeners()).hasSize(1);
+        Assertions.assertThat(result.getAfterListeners()).containsExactlyElementsOf(result.getBeforeListeners());
+    }
+
+    @Test
+    public void find_endStateOnly_returnsNull() {
+        Assertions.assertThat(this.configuration.getChainTable().find(ExampleChain.INSTALLING, ExampleState.ACTIVATED)).isNull();
+    }
+
+    @Test
+    public void find_foreignTypes_returnsNull() {
+
+        Assertions.assertThat(this.configuration.getChainTable().find(ExampleEvent.REGISTER, ExampleState.AVAILABLE)).isNull();
+        Assertions.assertThat(this.configuration.getChainTable().find(ExampleChain.INSTALLING, ExampleEvent.REGISTER)).isNull();
+    }
+}
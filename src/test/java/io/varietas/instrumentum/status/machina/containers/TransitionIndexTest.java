@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class TransitionIndexTest {
+
+    private final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithoutListener.class).configuration();
+
+    @Test
+    public void allowedEvents_matchesTransitionTable() {
+
+        for (ExampleState state : ExampleState.values()) {
+            for (ExampleEvent event : ExampleEvent.values()) {
+                Assertions.assertThat(this.configuration.allowedEvents(state).contains(event))
+                        .isEqualTo(this.configuration.getTransitionTable().find(event, state) != null);
+                Assertions.assertThat(this.configuration.canFire(state, event))
+                        .isEqualTo(this.configuration.getTransitionTable().find(event, state) != null);
+            }
+        }
+
+        Assertions.assertThat(this.configuration.allowedEvents(ExampleState.ACTIVATED)).containsExactlyInAnyOrder(ExampleEvent.ACTIVATE, ExampleEvent.DEACTIVATE);
+    }
+
+    @Test
+    public void allowedEvents_foreignOrNullState_returnsEmptySet() {
+        Assertions.assertThat(this.configuration.allowedEvents(ExampleChain.INSTALLING)).isEmpty();
+        Assertions.assertThat(this.configuration.allowedEvents(null)).isEmpty();
+        Assertions.assertThat(this.configuration.canFire(null, ExampleEvent.ACTIVATE)).isFalse();
+    }
+
+    @Test
+    public void allowedEvents_isUnmodifiable() {
+        Assertions.assertThatThrownBy(() -> this.configuration.allowedEvents(ExampleState.AVAILABLE).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void transitionsFrom_returnsOutgoingTransitions() {
+
+        Assertions.assertThat(this.configuration.transitionsFrom(ExampleState.PARKED))
+                .extracting(transition -> (Object) transition.getTo())
+                .containsExactlyInAnyOrder(ExampleState.ACTIVATED, ExampleState.UNREGISTERED);
+        Assertions.assertThat(this.configuration.transitionsFrom(ExampleState.DELETED)).isEmpty();
+    }
+
+    @Test
+    public void reachableStates_followsTransitions() {
+
+        Assertions.assertThat(this.configuration.reachableStates(ExampleState.ACTIVATED)).containsExactlyInAnyOrder(
+                ExampleState.ACTIVATED, ExampleState.DEACTIVATED, ExampleState.PARKED, ExampleState.UNREGISTERED, ExampleState.DELETED);
+        Assertions.assertThat(this.configuration.reachableStates(ExampleState.UNREGISTERED)).containsExactly(ExampleState.DELETED);
+        Assertions.assertThat(this.configuration.reachableStates(ExampleState.DELETED)).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.containers;
+
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.machines.transition.GuardedStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class TransitionTableTest {
+
+    private final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithoutListener.class).configuration();
+
+    @Test
+    public void find_startStateMatches_returnsTransition() {
+
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> result = this.configuration.getTransitionTable().find(ExampleEvent.ACTIVATE, ExampleState.PARKED);
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(result.getFrom()).isEqualTo(ExampleState.PARKED);
+        Assertions.assertThat(result.getTo()).isEqualTo(ExampleState.ACTIVATED);
+    }
+
+    @Test
+    public void find_endStateMatches_returnsFirstCollectedTransition() {
+
+        final TransitionContainer<? extends Enum<?>, ? extends Enum<?>> expected = this.configuration.getTransitions().stream()
+                .filter(transition -> transition.getOn().equals(ExampleEvent.ACTIVATE))
+                .findFirst()
+                .get();
+
+        Assertions.assertThat(this.configuration.getTransitionTable().find(ExampleEvent.ACTIVATE, ExampleState.ACTIVATED)).isSameAs(expected);
+    }
+
+    @Test
+    public void find_noTransitionConfigured_returnsNull() {
+        Assertions.assertThat(this.configuration.getTransitionTable().find(ExampleEvent.ACTIVATE, ExampleState.AVAILABLE)).isNull();
+    }
+
+    @Test
+    public void find_foreignEventType_returnsNull() {
+        Assertions.assertThat(this.configuration.getTransitionTable().find(ExampleChain.INSTALLING, ExampleState.AVAILABLE)).isNull();
+    }
+
+    @Test
+    public void find_nullState_returnsNull() {
+        Assertions.assertThat(this.configuration.getTransitionTable().find(ExampleEvent.REGISTER, null)).isNull();
+    }
+
+    @Test
+    public void find_guardedCandidates_orderIndependentOfCollection() {
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = new ArrayList<>(SimpleStateMachineBuilder.getBuilder().extractConfiguration(GuardedStateMachine.class).configuration().getTransitions());
+        final TransitionTable table = TransitionTable.of(ExampleState.class, ExampleEvent.class, transitions);
+
+        Collections.reverse(transitions);
+        final TransitionTable reversed = TransitionTable.of(ExampleState.class, ExampleEvent.class, transitions);
+
+        Assertions.assertThat(table.isGuarded(ExampleEvent.REGISTER, ExampleState.AVAILABLE)).isTrue();
+        Assertions.assertThat(reversed.find(ExampleEvent.REGISTER, ExampleState.AVAILABLE)).isSameAs(table.find(ExampleEvent.REGISTER, ExampleState.AVAILABLE)).satisfies(transition -> {
+            Assertions.assertThat(transition.getGuardName()).isEqualTo("isParkable");
+        });
+    }
+}
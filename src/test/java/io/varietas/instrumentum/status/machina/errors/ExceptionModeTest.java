@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.errors;
+
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class ExceptionModeTest {
+
+    @AfterEach
+    public void afterEach() {
+        ExceptionMode.use(ExceptionMode.FULL);
+    }
+
+    @Test
+    public void fullMode_capturesStackTrace() {
+
+        ExceptionMode.use(ExceptionMode.FULL);
+
+        Assertions.assertThat(InvalidTransitionException.ofMismatchingState(ExampleEvent.ACTIVATE, ExampleState.AVAILABLE).getStackTrace()).isNotEmpty();
+        Assertions.assertThat(new TransitionInvocationException(ExampleEvent.ACTIVATE, "activationMethod").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void stacklessMode_skipsStackTrace() {
+
+        ExceptionMode.use(ExceptionMode.STACKLESS);
+
+        final NullPointerException cause = new NullPointerException("Any null pointer");
+
+        Assertions.assertThat(InvalidTransitionException.ofMismatchingState(ExampleEvent.ACTIVATE, ExampleState.AVAILABLE).getStackTrace()).isEmpty();
+        Assertions.assertThat(new InvalidTransitionListenerException(Object.class, "Any message", cause).getStackTrace()).isEmpty();
+        Assertions.assertThat(new TransitionInvocationException(ExampleEvent.ACTIVATE, "activationMethod", cause).getStackTrace()).isEmpty();
+        Assertions.assertThat(new TransitionConflictException(ExampleEvent.ACTIVATE, ExampleState.AVAILABLE, ExampleState.DELETED).getStackTrace()).isEmpty();
+        Assertions.assertThat(cause.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void fromProperty_unknownValue_fallsBackToFull() {
+        Assertions.assertThat(ExceptionMode.fromProperty("stack-less")).isEqualTo(ExceptionMode.FULL);
+        Assertions.assertThat(ExceptionMode.fromProperty(" Stackless ")).isEqualTo(ExceptionMode.STACKLESS);
+        Assertions.assertThat(ExceptionMode.fromProperty(null)).isEqualTo(ExceptionMode.FULL);
+    }
+
+    @Test
+    public void ofMismatchingState_buildsMessage() {
+
+        final InvalidTransitionException result = InvalidTransitionException.ofMismatchingState(ExampleEvent.ACTIVATE, ExampleState.AVAILABLE);
+
+        Assertions.assertThat(result.getMessage()).isEqualTo("State of target 'AVAILABLE' doesn't match required state for tarnsition 'ACTIVATE'.");
+        Assertions.assertThat(result.getLocalizedMessage()).isEqualTo("Transition 'ACTIVATE' isn't possible: State of target 'AVAILABLE' doesn't match required state for tarnsition 'ACTIVATE'..");
+        Assertions.assertThat(InvalidTransitionException.ofMismatchingState(ExampleEvent.ACTIVATE, null).getMessage())
+                .isEqualTo("State of target 'null' doesn't match required state for tarnsition 'ACTIVATE'.");
+    }
+}
@@ -45,6 +45,14 @@ public class InvalidTransitionListenerExceptionTest {
         Assertions.assertThat(result).isEqualTo(expResult);
     }
 
+    @Test
+    public void testGetLocalizedMessageOfListenerMethod() {
+        InvalidTransitionListenerException instance = InvalidTransitionListenerException.ofListenerMethod(SimpleChainListener.class, "before", new NullPointerException("Any null pointer"));
+        String expResult = "Transition listener [io.varietas.instrumentum.status.machina.listeners.SimpleChainListener] not executable. Listener on method 'before'. NullPointerException: Any null pointer.";
+        String result = instance.getLocalizedMessage();
+        Assertions.assertThat(result).isEqualTo(expResult);
+    }
+
     @Test
     public void testNullListenerTypeAndAnyMessage() {
         Assertions.assertThatThrownBy(() -> new InvalidTransitionListenerException(null, "")).isInstanceOf(NullPointerException.class);
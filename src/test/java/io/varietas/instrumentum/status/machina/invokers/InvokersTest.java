@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.invokers;
+
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.lang.reflect.Method;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class InvokersTest {
+
+    @Test
+    public void transition_accessibleMethod_generatesInvokerInLookupOfDeclaringClass() throws Exception {
+
+        final TransitionInvoker result = Invokers.transition(this.transitionMethod());
+
+        Assertions.assertThat(result.getClass().getName()).startsWith(StateMachineWithoutListener.class.getName());
+    }
+
+    @Test
+    public void transition_generatedInvoker_callsTransitionMethod() throws Throwable {
+
+        final TestEntity target = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        Invokers.transition(this.transitionMethod()).invoke(StateMachineFactory.getStateMachine(StateMachineWithoutListener.class), ExampleState.AVAILABLE, ExampleState.REGISTERED, ExampleEvent.REGISTER, target);
+
+        Assertions.assertThat(target.getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void transition_methodWithUnexpectedSignature_fallsBackToReflection() throws Exception {
+
+        final Method method = InvokersTest.class.getDeclaredMethod("calledTransitionMethod");
+        final Throwable result = Assertions.catchThrowable(() -> Invokers.transition(method).invoke(this, null, null, null, null));
+
+        Assertions.assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void reflective_methodThrowsException_rethrowsCause() throws Exception {
+
+        final Method method = InvokersTest.class.getDeclaredMethod("failingTransitionMethod", Object.class, Object.class, Object.class, Object.class);
+        final Throwable result = Assertions.catchThrowable(() -> Invokers.reflective(method).invoke(this, null, null, null, null));
+
+        Assertions.assertThat(result).isInstanceOf(IllegalStateException.class).hasMessage("Transition failed");
+    }
+
+    private Method transitionMethod() throws NoSuchMethodException {
+        return StateMachineWithoutListener.class.getMethod("fromAvailableToRegistered", ExampleState.class, ExampleState.class, ExampleEvent.class, TestEntity.class);
+    }
+
+    /**
+     * This method is used as the called method with an unexpected signature.
+     */
+    public void calledTransitionMethod() {
+    }
+
+    /**
+     * This method is used as a failing transition method.
+     */
+    public void failingTransitionMethod(final Object from, final Object to, final Object on, final Object target) {
+        throw new IllegalStateException("Transition failed");
+    }
+}
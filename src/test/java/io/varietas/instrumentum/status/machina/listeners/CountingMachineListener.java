@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.listeners;
+
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>CountingMachineListener</h2>
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class CountingMachineListener {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountingMachineListener() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public void before(final ExampleEvent transition, final TestEntity target) {
+        target.setValue(target.getValue() + 1);
+    }
+}
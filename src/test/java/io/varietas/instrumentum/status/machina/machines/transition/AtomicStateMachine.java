@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.machines.transition;
+
+import io.varietas.instrumentum.status.machina.BasicStateMachine;
+import io.varietas.instrumentum.status.machina.annotations.StateMachineConfiguration;
+import io.varietas.instrumentum.status.machina.annotations.Transition;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.models.AtomicTestEntity;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+
+/**
+ * <h2>AtomicStateMachine</h2>
+ */
+@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)
+public class AtomicStateMachine extends BasicStateMachine {
+
+    public AtomicStateMachine(FSMConfiguration configuration) {
+        super(configuration);
+    }
+
+    @Transition(from = "AVAILABLE", on = "REGISTER", to = "REGISTERED")
+    public void fromAvailableToRegistered(final ExampleState from, final ExampleState to, final ExampleEvent event, final AtomicTestEntity context) {
+        context.invoked();
+    }
+}
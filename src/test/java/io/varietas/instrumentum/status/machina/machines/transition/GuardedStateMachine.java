@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.machines.transition;
+
+import io.varietas.instrumentum.status.machina.BasicStateMachine;
+import io.varietas.instrumentum.status.machina.annotations.StateMachineConfiguration;
+import io.varietas.instrumentum.status.machina.annotations.Transition;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+
+/**
+ * <h2>GuardedStateMachine</h2>
+ */
+@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)
+public class GuardedStateMachine extends BasicStateMachine {
+
+    public GuardedStateMachine(FSMConfiguration configuration) {
+        super(configuration);
+    }
+
+    @Transition(from = "AVAILABLE", on = "REGISTER", to = "REGISTERED")
+    @Transition(from = "AVAILABLE", on = "REGISTER", to = "PARKED", guard = "isParkable")
+    public void fromAvailable(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        context.setValue(context.getValue() + 1);
+    }
+
+    @Transition(from = "REGISTERED", on = "ACTIVATE", to = "ACTIVATED", guard = "isActivatable")
+    public void fromRegisteredToActivated(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        context.setValue(context.getValue() + 2);
+    }
+
+    public boolean isParkable(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        return context.getValue() >= 10;
+    }
+
+    public boolean isActivatable(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        return context.getValue() > 1;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.machines.transition;
+
+import io.varietas.instrumentum.status.machina.BasicStateMachine;
+import io.varietas.instrumentum.status.machina.annotations.ListenerLifecycle;
+import io.varietas.instrumentum.status.machina.annotations.StateMachineConfiguration;
+import io.varietas.instrumentum.status.machina.annotations.Transition;
+import io.varietas.instrumentum.status.machina.annotations.TransitionListener;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.listeners.CountingMachineListener;
+import io.varietas.instrumentum.status.machina.listeners.CountingSingletonListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+
+/**
+ * <h2>StateMachineWithListenerLifecycles</h2>
+ */
+@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)
+public class StateMachineWithListenerLifecycles extends BasicStateMachine {
+
+    public StateMachineWithListenerLifecycles(FSMConfiguration configuration) {
+        super(configuration);
+    }
+
+    @TransitionListener(value = CountingSingletonListener.class, lifecycle = ListenerLifecycle.SINGLETON)
+    @Transition(from = "AVAILABLE", on = "REGISTER", to = "REGISTERED")
+    public void fromAvailableToRegistered(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        context.setValue(context.getValue() + 10);
+    }
+
+    @TransitionListener(value = CountingMachineListener.class, lifecycle = ListenerLifecycle.PER_MACHINE)
+    @Transition(from = "REGISTERED", on = "ACTIVATE", to = "ACTIVATED")
+    public void fromRegisteredToActivated(final ExampleState from, final ExampleState to, final ExampleEvent event, final TestEntity context) {
+        context.setValue(context.getValue() + 20);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.management;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.metrics.Instrumentation;
+import io.varietas.instrumentum.status.machina.metrics.MetricsProvider;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.lang.management.ManagementFactory;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class StateMachineManagementTest {
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    private final ObjectName name = StateMachineManagement.objectName(StateMachineWithoutListener.class);
+
+    @BeforeEach
+    public void setUp() {
+        StateMachineManagement.enable();
+        StateMachineFactory.evict(StateMachineWithoutListener.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        StateMachineManagement.disable();
+        StateMachineFactory.evict(StateMachineWithoutListener.class);
+        Instrumentation.use(MetricsProvider.NONE);
+    }
+
+    @Test
+    public void getStateMachine_enabled_registersConfigurationAndCounters() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+        machine.fire(ExampleEvent.REGISTER, entity);
+        Assertions.assertThatThrownBy(() -> machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.PARKED, 0))).isInstanceOf(InvalidTransitionException.class);
+
+        Assertions.assertThat(this.server.isRegistered(this.name)).isTrue();
+        Assertions.assertThat(this.server.getAttribute(this.name, "MachineType")).isEqualTo(StateMachineWithoutListener.class.getName());
+        Assertions.assertThat(this.server.getAttribute(this.name, "TransitionCount")).isEqualTo(StateMachineFactory.getConfiguration(StateMachineWithoutListener.class).getTransitions().size());
+        Assertions.assertThat(this.server.getAttribute(this.name, "Recording")).isEqualTo(true);
+        Assertions.assertThat(this.server.getAttribute(this.name, "DetailedTiming")).isEqualTo(false);
+        Assertions.assertThat(this.server.getAttribute(this.name, "Fired")).isEqualTo(1L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "Rejected")).isEqualTo(1L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "P99LatencyNanos")).isEqualTo(0L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "MachineCacheHits")).isEqualTo(1L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "MachineCacheMisses")).isEqualTo(1L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "MachineCacheHitRate")).isEqualTo(0.5);
+    }
+
+    @Test
+    public void setDetailedTiming_switchedOn_measuresLatencyUntilReset() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        this.server.setAttribute(this.name, new Attribute("DetailedTiming", true));
+
+        machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat((Long) this.server.getAttribute(this.name, "P99LatencyNanos")).isPositive();
+        Assertions.assertThat((Double) this.server.getAttribute(this.name, "Throughput")).isPositive();
+
+        this.server.invoke(this.name, "resetCounters", new Object[0], new String[0]);
+
+        Assertions.assertThat(this.server.getAttribute(this.name, "Fired")).isEqualTo(0L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "P99LatencyNanos")).isEqualTo(0L);
+        Assertions.assertThat(this.server.getAttribute(this.name, "MachineCacheMisses")).isEqualTo(0L);
+    }
+
+    @Test
+    public void enable_afterMachineWasLoaded_registersAndRecordsRunningMachine() throws Exception {
+
+        StateMachineManagement.disable();
+        Instrumentation.use(MetricsProvider.NONE);
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat(this.server.isRegistered(this.name)).isFalse();
+
+        StateMachineManagement.enable();
+        machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat(this.server.isRegistered(this.name)).isTrue();
+        Assertions.assertThat(this.server.getAttribute(this.name, "Fired")).isEqualTo(1L);
+    }
+
+    @Test
+    public void evict_registeredType_unregistersMXBean() throws Exception {
+
+        StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        StateMachineFactory.evict(StateMachineWithoutListener.class);
+
+        Assertions.assertThat(this.server.isRegistered(this.name)).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.configurations.DefaultFSMConfiguration;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.errors.InvalidTransitionException;
+import io.varietas.instrumentum.status.machina.errors.TransitionInvocationException;
+import io.varietas.instrumentum.status.machina.listeners.SimpleTransitionListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class InMemoryTransitionMetricsTest {
+
+    private final InMemoryMetricsProvider provider = new InMemoryMetricsProvider();
+
+    @BeforeEach
+    public void setUp() {
+        Instrumentation.use(this.provider);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Instrumentation.use(MetricsProvider.NONE);
+    }
+
+    @Test
+    public void fire_instrumentedMachine_recordsTransitionsAndListeners() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.newStateMachine(StateMachineWithTransitionListener.class);
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        machine.fire(ExampleEvent.REGISTER, entity);
+        machine.tryFire(ExampleEvent.PARK, entity);
+        Assertions.assertThatThrownBy(() -> machine.fire(ExampleEvent.PARK, entity)).isInstanceOf(InvalidTransitionException.class);
+
+        final InMemoryTransitionMetrics result = this.provider.get(StateMachineWithTransitionListener.class).orElseThrow();
+
+        Assertions.assertThat(result.transitions()).containsExactly(
+                TransitionStatistics.of(ExampleState.AVAILABLE, ExampleEvent.REGISTER, 1L, 0L, 0L, result.transitions().get(0).getLatency()),
+                TransitionStatistics.of(ExampleState.REGISTERED, ExampleEvent.PARK, 0L, 2L, 0L, LatencyHistogram.EMPTY)
+        );
+        Assertions.assertThat(result.transitions().get(0).getLatency().getCount()).isEqualTo(1L);
+        Assertions.assertThat(result.listeners()).singleElement().satisfies(listener -> {
+            Assertions.assertThat(listener.getListener()).isEqualTo(SimpleTransitionListener.class);
+            Assertions.assertThat(listener.getBefore().getCount()).isEqualTo(1L);
+            Assertions.assertThat(listener.getAfter().getCount()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    public void fire_failingTransition_recordsFailure() throws Exception {
+
+        final FSMConfiguration configuration = DefaultFSMConfiguration.of(StateMachineWithoutListener.class, ExampleState.class, ExampleEvent.class)
+                .andAddTransition(TransitionContainer.of(ExampleState.AVAILABLE, ExampleState.REGISTERED, ExampleEvent.REGISTER, "fail", (machine, from, to, on, target) -> {
+                    throw new IllegalStateException("Failed");
+                }))
+                .freeze();
+        final StateMachine machine = SimpleStateMachineBuilder.getBuilder().configuration(configuration).build();
+
+        Assertions.assertThatThrownBy(() -> machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0))).isInstanceOf(TransitionInvocationException.class);
+
+        Assertions.assertThat(this.provider.get(StateMachineWithoutListener.class).orElseThrow().transitions())
+                .singleElement()
+                .satisfies(statistics -> Assertions.assertThat(statistics.getFailed()).isEqualTo(1L));
+    }
+
+    @Test
+    public void rejected_foreignEvent_countsUnknownRejection() {
+
+        final InMemoryTransitionMetrics metrics = this.provider.create(StateMachineFactory.getConfiguration(StateMachineWithTransitionListener.class));
+
+        metrics.rejected(null, ExampleEvent.REGISTER);
+
+        Assertions.assertThat(metrics.unknownRejections()).isEqualTo(1L);
+        Assertions.assertThat(metrics.transitions()).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.metrics;
+
+import java.util.stream.LongStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucket_valuesOfBucket_shareUpperBound() {
+        LongStream.of(0L, 7L, 8L, 15L, 16L, 1_000L, 123_456_789L, Long.MAX_VALUE).forEach(value -> {
+            final int bucket = LatencyHistogram.bucket(value);
+
+            Assertions.assertThat(LatencyHistogram.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+            Assertions.assertThat(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value).isTrue();
+            Assertions.assertThat((double) LatencyHistogram.upperBound(bucket) - value).isLessThanOrEqualTo(value / (double) LatencyHistogram.SUB_BUCKETS);
+        });
+    }
+
+    @Test
+    public void snapshot_recordedValues_reportsPercentiles() {
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1L, 1_000L).forEach(histogram::record);
+
+        final LatencyHistogram.Snapshot result = histogram.snapshot();
+
+        Assertions.assertThat(result.getCount()).isEqualTo(1_000L);
+        Assertions.assertThat(result.getMax()).isEqualTo(1_000L);
+        Assertions.assertThat(result.getMean()).isEqualTo(500.5);
+        Assertions.assertThat(result.percentile(50.0)).isBetween(500L, 500L + 500L / LatencyHistogram.SUB_BUCKETS);
+        Assertions.assertThat(result.percentile(100.0)).isEqualTo(1_000L);
+    }
+
+    @Test
+    public void snapshot_nothingRecorded_reportsZero() {
+
+        final LatencyHistogram.Snapshot result = new LatencyHistogram().snapshot();
+
+        Assertions.assertThat(result.getCount()).isZero();
+        Assertions.assertThat(result.getMean()).isZero();
+        Assertions.assertThat(result.percentile(99.0)).isZero();
+    }
+}
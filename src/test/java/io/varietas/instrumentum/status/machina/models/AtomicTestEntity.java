@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.models;
+
+import io.varietas.instrumentum.status.machina.AtomicStatable;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <h2>AtomicTestEntity</h2>
+ * <p>
+ * Atomic stated entity which is able to simulate a concurrent state change while a transition is invoked.
+ *
+ * @author Michael Rhöse
+ * @version 1.0.1.0, 10/18/2026
+ */
+public class AtomicTestEntity implements AtomicStatable<ExampleState> {
+
+    private final AtomicReference<ExampleState> state;
+
+    @Getter
+    private int invocations;
+
+    @Setter
+    private ExampleState interferingState;
+
+    public AtomicTestEntity(final ExampleState state) {
+        this.state = new AtomicReference<>(state);
+    }
+
+    /**
+     * Counts the invocation and applies the interfering state once.
+     */
+    public void invoked() {
+        this.invocations++;
+
+        if (this.interferingState != null) {
+            this.state.set(this.interferingState);
+            this.interferingState = null;
+        }
+    }
+
+    @Override
+    public ExampleState state() {
+        return this.state.get();
+    }
+
+    @Override
+    public void state(final ExampleState state) {
+        this.state.set(state);
+    }
+
+    @Override
+    public boolean compareAndSetState(final ExampleState expected, final ExampleState next) {
+        return this.state.compareAndSet(expected, next);
+    }
+}
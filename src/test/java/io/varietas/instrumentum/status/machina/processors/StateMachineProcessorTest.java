@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.processors;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.annotations.Transition;
+import io.varietas.instrumentum.status.machina.annotations.TransitionChain;
+import io.varietas.instrumentum.status.machina.builders.MachineDescriptor;
+import io.varietas.instrumentum.status.machina.builders.SimpleStateMachineBuilder;
+import io.varietas.instrumentum.status.machina.builders.TransitionChainPlanner;
+import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;
+import io.varietas.instrumentum.status.machina.containers.TransitionContainer;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.machines.transition.FailingStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.GuardedStateMachine;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithTransitionListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class StateMachineProcessorTest {
+
+    @Test
+    public void find_generatedMachine_returnsDescriptor() {
+
+        final MachineDescriptor result = MachineDescriptor.find(StateMachineWithTransitionListener.class).orElseThrow();
+
+        Assertions.assertThat(result.getMachineType()).isEqualTo(StateMachineWithTransitionListener.class);
+        Assertions.assertThat(result.getClass().getSimpleName()).isEqualTo("StateMachineWithTransitionListener" + MachineDescriptor.SUFFIX);
+    }
+
+    @Test
+    public void find_machineWithoutConfigurationConstructor_returnsEmpty() {
+        Assertions.assertThat(MachineDescriptor.find(FailingStateMachine.class)).isEmpty();
+        Assertions.assertThat(MachineDescriptor.find(String.class)).isEmpty();
+    }
+
+    @Test
+    public void createTransitions_matchesAnnotations() {
+
+        final List<String> expected = Stream.of(StateMachineWithTransitionListener.class.getMethods())
+                .flatMap(method -> Stream.of(method.getAnnotationsByType(Transition.class)).map(transition -> transition.from() + transition.on() + transition.to() + method.getName()))
+                .sorted()
+                .collect(Collectors.toList());
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> result = MachineDescriptor.find(StateMachineWithTransitionListener.class).orElseThrow().createTransitions();
+
+        Assertions.assertThat(result.stream().map(transition -> transition.getFrom().name() + transition.getOn().name() + transition.getTo().name() + transition.getMethodName()).sorted())
+                .containsExactlyElementsOf(expected);
+        Assertions.assertThat(result).allSatisfy(transition -> {
+            Assertions.assertThat(transition.getCalledMethod()).isNull();
+            Assertions.assertThat(transition.getListeners()).hasSize(1);
+            Assertions.assertThat(transition.getListeners().get(0).getBeforeInvoker()).isNotNull();
+            Assertions.assertThat(transition.getListeners().get(0).getAfterInvoker()).isNotNull();
+        });
+    }
+
+    @Test
+    public void getChainPaths_equalPlannedChains() {
+
+        final MachineDescriptor descriptor = MachineDescriptor.find(ChainStateMachineWithChainListener.class).orElseThrow();
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> transitions = descriptor.createTransitions();
+        final TransitionChainPlanner planner = TransitionChainPlanner.of(ExampleState.class, transitions);
+
+        Assertions.assertThat(descriptor.getChainPaths()).hasSize(4);
+        Stream.of(ChainStateMachineWithChainListener.class.getAnnotationsByType(TransitionChain.class)).forEach(chain -> {
+            final int[] path = descriptor.getChainPaths().get(MachineDescriptor.chainKey(chain.from(), chain.to(), chain.on()));
+
+            Assertions.assertThat(IntStream.of(path).mapToObj(transitions::get))
+                    .containsExactlyElementsOf(planner.plan(ExampleState.valueOf(chain.from()), ExampleState.valueOf(chain.to())).getParts());
+        });
+    }
+
+    @Test
+    public void process_unknownConstant_reportsError() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTRATE\", to = \"REGISTERED\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n");
+
+        Assertions.assertThat(this.messages(result, Diagnostic.Kind.ERROR)).containsExactly("Unknown event 'REGISTRATE'.");
+    }
+
+    @Test
+    public void process_ambiguousTransition_reportsError() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"REGISTERED\")\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"PARKED\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n");
+
+        Assertions.assertThat(this.messages(result, Diagnostic.Kind.ERROR))
+                .containsExactly("Transition AVAILABLE -> PARKED on REGISTER of method 'register' is ambiguous, method 'register' handles REGISTER in state AVAILABLE already.");
+    }
+
+    @Test
+    public void process_transitionStartingInEndStateOfAnother_reportsError() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"REGISTERED\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "    @Transition(from = \"REGISTERED\", on = \"REGISTER\", to = \"PARKED\")\n"
+                + "    public void reregister(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n");
+
+        Assertions.assertThat(this.messages(result, Diagnostic.Kind.ERROR)).hasSize(1).allMatch(message -> message.endsWith("handles REGISTER in state REGISTERED already."));
+    }
+
+    @Test
+    public void process_transitionsSharingEndState_reportsNoAmbiguity() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"REGISTERED\", on = \"ACTIVATE\", to = \"ACTIVATED\")\n"
+                + "    @Transition(from = \"PARKED\", on = \"ACTIVATE\", to = \"ACTIVATED\")\n"
+                + "    public void activate(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n");
+
+        Assertions.assertThat(result).noneMatch(diagnostic -> diagnostic.getKind() != Diagnostic.Kind.NOTE);
+    }
+
+    @Test
+    public void process_guardedTransitions_reportsNoAmbiguity() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"REGISTERED\")\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"PARKED\", guard = \"isParkable\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "    public boolean isParkable(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) { return true; }\n"
+                + "}\n");
+
+        Assertions.assertThat(result).noneMatch(diagnostic -> diagnostic.getKind() != Diagnostic.Kind.NOTE);
+    }
+
+    @Test
+    public void process_unknownGuard_reportsError() throws IOException {
+
+        final List<Diagnostic<? extends JavaFileObject>> result = this.compile(""
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "public class Machine extends BasicStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"REGISTERED\", guard = \"isRegistrable\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "    public void isRegistrable(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n");
+
+        Assertions.assertThat(this.messages(result, Diagnostic.Kind.ERROR))
+                .containsExactly("Unknown guard 'isRegistrable' of method 'register', the machine has no single public method 'isRegistrable' returning boolean and accepting four parameters.");
+    }
+
+    @Test
+    public void createTransitions_guardedMachine_compilesGuards() {
+
+        final List<TransitionContainer<? extends Enum<?>, ? extends Enum<?>>> result = MachineDescriptor.find(GuardedStateMachine.class).orElseThrow().createTransitions();
+
+        Assertions.assertThat(result).extracting(TransitionContainer::getGuardName).containsExactlyInAnyOrder("isParkable", null, "isActivatable");
+        Assertions.assertThat(result).filteredOn(TransitionContainer::isGuarded).allSatisfy(transition -> Assertions.assertThat(transition.getGuard()).isNotNull());
+    }
+
+    @Test
+    public void process_unreachableChain_reportsFindingCorrespondingToOption() throws IOException {
+
+        final String source = ""
+                + "@TransitionChain(from = \"AVAILABLE\", on = \"INSTALLING\", to = \"ACTIVATED\")\n"
+                + "@StateMachineConfiguration(stateType = ExampleState.class, eventType = ExampleEvent.class)\n"
+                + "@ChainConfiguration(chainType = ExampleChain.class)\n"
+                + "public class Machine extends BasicChainStateMachine {\n"
+                + "    public Machine(FSMConfiguration configuration) { super(configuration); }\n"
+                + "    @Transition(from = \"AVAILABLE\", on = \"REGISTER\", to = \"REGISTERED\")\n"
+                + "    public void register(ExampleState from, ExampleState to, ExampleEvent on, TestEntity target) {}\n"
+                + "}\n";
+        final String expected = "Chain INSTALLING isn't possible, state ACTIVATED isn't reachable from state AVAILABLE.";
+
+        Assertions.assertThat(this.messages(this.compile(source), Diagnostic.Kind.ERROR)).containsExactly(expected);
+        Assertions.assertThat(this.messages(this.compile(source, "-A" + StateMachineProcessor.VALIDATION + "=warning"), Diagnostic.Kind.WARNING)).containsExactly(expected);
+        Assertions.assertThat(this.compile(source, "-A" + StateMachineProcessor.VALIDATION + "=off")).noneMatch(diagnostic -> diagnostic.getKind() != Diagnostic.Kind.NOTE);
+    }
+
+    @Test
+    public void newInstance_firesViaGeneratedInvokers() throws Exception {
+
+        final FSMConfiguration configuration = SimpleStateMachineBuilder.getBuilder().extractConfiguration(StateMachineWithTransitionListener.class).configuration();
+        final StateMachine machine = MachineDescriptor.find(StateMachineWithTransitionListener.class).orElseThrow().newInstance(configuration);
+        final TestEntity entity = TestEntity.of(ExampleState.AVAILABLE, 0);
+
+        machine.fire(ExampleEvent.REGISTER, entity);
+
+        Assertions.assertThat(machine).isInstanceOf(StateMachineWithTransitionListener.class);
+        Assertions.assertThat(entity.state()).isEqualTo(ExampleState.REGISTERED);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final String source, final String... options) throws IOException {
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final String imports = ""
+                + "package io.varietas.instrumentum.status.machina.processed;\n"
+                + "import io.varietas.instrumentum.status.machina.*;\n"
+                + "import io.varietas.instrumentum.status.machina.annotations.*;\n"
+                + "import io.varietas.instrumentum.status.machina.configurations.FSMConfiguration;\n"
+                + "import io.varietas.instrumentum.status.machina.models.*;\n";
+        final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Machine.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return imports + source;
+            }
+        };
+
+        final List<String> arguments = new ArrayList<>(List.of("-proc:only", "-classpath", this.location(StateMachine.class) + File.pathSeparator + this.location(ExampleState.class), "-s", Files.createTempDirectory("status-machina").toString()));
+        arguments.addAll(Arrays.asList(options));
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, arguments, null, List.of(file));
+        task.setProcessors(List.of(new StateMachineProcessor()));
+        task.call();
+
+        return diagnostics.getDiagnostics();
+    }
+
+    private String location(final Class<?> type) {
+        try {
+            return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<String> messages(final List<Diagnostic<? extends JavaFileObject>> diagnostics, final Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+}
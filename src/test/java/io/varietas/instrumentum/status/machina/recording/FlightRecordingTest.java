@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.recording;
+
+import io.varietas.instrumentum.status.machina.ChainStateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.listeners.SimpleChainListener;
+import io.varietas.instrumentum.status.machina.machines.chain.ChainStateMachineWithChainListener;
+import io.varietas.instrumentum.status.machina.models.ExampleChain;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class FlightRecordingTest {
+
+    @Test
+    public void fireChain_recordingWithoutThreshold_emitsChainTransitionAndListenerEvents() throws Exception {
+
+        final ChainStateMachine machine = (ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithChainListener.class);
+        final Map<String, List<RecordedEvent>> result = this.record(Duration.ZERO, () -> machine.fireChain(ExampleChain.INSTALLING, TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+        Assertions.assertThat(result.get(FlightRecording.CHAIN)).singleElement().satisfies(event -> {
+            Assertions.assertThat(event.getClass("machineType").getName()).isEqualTo(ChainStateMachineWithChainListener.class.getName());
+            Assertions.assertThat(event.getString("chain")).isEqualTo(ExampleChain.INSTALLING.name());
+            Assertions.assertThat(event.getString("from")).isEqualTo(ExampleState.AVAILABLE.name());
+            Assertions.assertThat(event.getString("to")).isEqualTo(ExampleState.ACTIVATED.name());
+            Assertions.assertThat(event.getClass("targetType").getName()).isEqualTo(TestEntity.class.getName());
+            Assertions.assertThat(event.getBoolean("completed")).isTrue();
+        });
+        Assertions.assertThat(result.get(FlightRecording.TRANSITION)).hasSizeGreaterThan(1).allSatisfy(event -> Assertions.assertThat(event.getBoolean("committed")).isTrue());
+        Assertions.assertThat(result.get(FlightRecording.LISTENER)).hasSize(2).allSatisfy(event -> {
+            Assertions.assertThat(event.getClass("listener").getName()).isEqualTo(SimpleChainListener.class.getName());
+            Assertions.assertThat(event.getString("event")).isEqualTo(ExampleChain.INSTALLING.name());
+        });
+    }
+
+    @Test
+    public void fireChain_recordingWithThreshold_skipsFastEvents() throws Exception {
+
+        final ChainStateMachine machine = (ChainStateMachine) StateMachineFactory.getStateMachine(ChainStateMachineWithChainListener.class);
+        final Map<String, List<RecordedEvent>> result = this.record(Duration.ofHours(1L), () -> machine.fireChain(ExampleChain.INSTALLING, TestEntity.of(ExampleState.AVAILABLE, 0)));
+
+        Assertions.assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void isEnabled_followsRecording() {
+
+        Assertions.assertThat(FlightRecording.isTransitionEnabled()).isFalse();
+
+        try (Recording recording = FlightRecording.enable(new Recording(), Duration.ZERO)) {
+            recording.start();
+
+            Assertions.assertThat(FlightRecording.isTransitionEnabled()).isTrue();
+            Assertions.assertThat(FlightRecording.isChainEnabled()).isTrue();
+            Assertions.assertThat(FlightRecording.isListenerEnabled()).isTrue();
+        }
+
+        Assertions.assertThat(FlightRecording.isTransitionEnabled()).isFalse();
+    }
+
+    private Map<String, List<RecordedEvent>> record(final Duration threshold, final Action action) throws Exception {
+
+        final Path file = Files.createTempFile("status-machina", ".jfr");
+
+        try (Recording recording = FlightRecording.enable(new Recording(), threshold)) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("io.varietas"))
+                    .collect(Collectors.groupingBy(event -> event.getEventType().getName(), Collectors.mapping(Function.identity(), Collectors.toList())));
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Action {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Michael Rhöse.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.varietas.instrumentum.status.machina.tracing;
+
+import io.varietas.instrumentum.status.machina.StateMachine;
+import io.varietas.instrumentum.status.machina.StateMachineFactory;
+import io.varietas.instrumentum.status.machina.machines.transition.StateMachineWithoutListener;
+import io.varietas.instrumentum.status.machina.models.ExampleEvent;
+import io.varietas.instrumentum.status.machina.models.ExampleState;
+import io.varietas.instrumentum.status.machina.models.TestEntity;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Michael Rhöse
+ */
+public class TracingTest {
+
+    @AfterEach
+    public void tearDown() {
+        Tracing.use(Slf4jEventSink.INSTANCE);
+    }
+
+    @Test
+    public void fire_recordingSink_receivesLifecycleAndTransitionEvents() throws Exception {
+
+        final RecordingSink sink = new RecordingSink(EnumSet.allOf(MachineEventType.class));
+        Tracing.use(sink);
+
+        final StateMachine machine = StateMachineFactory.newStateMachine(StateMachineWithoutListener.class);
+        machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat(sink.events).containsExactly(
+                "MACHINE_CREATED StateMachineWithoutListener " + StateMachineFactory.getConfiguration(StateMachineWithoutListener.class).getTransitions().size() + " 0",
+                "TRANSITION_ENTERED StateMachineWithoutListener REGISTER AVAILABLE REGISTERED",
+                "TRANSITION_FINISHED StateMachineWithoutListener REGISTER AVAILABLE REGISTERED"
+        );
+    }
+
+    @Test
+    public void fire_disabledTypes_receivesNothing() throws Exception {
+
+        final RecordingSink sink = new RecordingSink(EnumSet.of(MachineEventType.LISTENER_FAILED));
+        Tracing.use(sink);
+
+        StateMachineFactory.newStateMachine(StateMachineWithoutListener.class).fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat(sink.events).isEmpty();
+    }
+
+    @Test
+    public void use_afterMachineWasCreated_runningMachineHandsEventsToNewSink() throws Exception {
+
+        final StateMachine machine = StateMachineFactory.getStateMachine(StateMachineWithoutListener.class);
+        final RecordingSink sink = new RecordingSink(EnumSet.allOf(MachineEventType.class));
+        Tracing.use(sink);
+
+        machine.fire(ExampleEvent.REGISTER, TestEntity.of(ExampleState.AVAILABLE, 0));
+
+        Assertions.assertThat(sink.events).containsExactly(
+                "TRANSITION_ENTERED StateMachineWithoutListener REGISTER AVAILABLE REGISTERED",
+                "TRANSITION_FINISHED StateMachineWithoutListener REGISTER AVAILABLE REGISTERED"
+        );
+    }
+
+    private static final class RecordingSink implements MachineEventSink {
+
+        private final Set<MachineEventType> enabled;
+
+        private final List<String> events = new ArrayList<>();
+
+        private RecordingSink(final Set<MachineEventType> enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled(final MachineEventType type) {
+            return this.enabled.contains(type);
+        }
+
+        @Override
+        public void machine(final MachineEventType type, final Class<?> machineType, final int transitions, final int chains) {
+            this.events.add(type + " " + machineType.getSimpleName() + " " + transitions + " " + chains);
+        }
+
+        @Override
+        public void transition(final MachineEventType type, final Class<?> machineType, final Enum<?> on, final Enum<?> from, final Enum<?> to) {
+            this.events.add(type + " " + machineType.getSimpleName() + " " + on + " " + from + " " + to);
+        }
+
+        @Override
+        public void listener(final MachineEventType type, final Class<?> machineType, final Class<?> listener, final Enum<?> on, final boolean before, final Throwable error) {
+            this.events.add(type + " " + machineType.getSimpleName() + " " + listener.getSimpleName() + " " + on + " " + before);
+        }
+    }
+}